@@ -0,0 +1,223 @@
+package com.olo.analysis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.olo.component.ComponentService;
+import com.olo.redis.EngineFragmentService;
+import com.olo.redis.RedisConfigService;
+import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.footprint.ConfigFootprint;
+import com.openllmorchestrator.worker.engine.config.footprint.FootprintEstimator;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentExtraction;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentExtractor;
+import com.openllmorchestrator.worker.engine.config.lint.ConfigLinter;
+import com.openllmorchestrator.worker.engine.config.pipeline.ParallelizationAdvisor;
+import com.openllmorchestrator.worker.engine.config.pipeline.ParallelizationProposal;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PluginDataContract;
+import com.openllmorchestrator.worker.engine.config.pipeline.VariantSelector;
+import com.openllmorchestrator.worker.engine.config.simulation.CapacityPlan;
+import com.openllmorchestrator.worker.engine.config.simulation.CapacityPlanSpec;
+import com.openllmorchestrator.worker.engine.config.simulation.CapacityPlanner;
+import com.openllmorchestrator.worker.engine.config.simulation.PipelineSimulator;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationComparison;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationResult;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationSpec;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline analyses of an engine config (capacity planning, parallelization, performance lint, fragment extraction, variant comparison, memory footprint). The config is taken from the request JSON,
+ * or loaded from Redis (olo:engine:config:{name}) when only a name is given.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConfigAnalysisService {
+
+    private static final EngineConfigMapper ENGINE_CONFIG_MAPPER = EngineConfigMapper.getInstance();
+
+    private final RedisConfigService redisConfigService;
+    private final ComponentService componentService;
+    private final EngineFragmentService fragmentService;
+    /** Built-in lint rules plus rules registered via ServiceLoader on the backend classpath. */
+    private final ConfigLinter linter = new ConfigLinter();
+
+    public CapacityPlan planCapacity(String name, String configJson, CapacityPlanSpec spec) {
+        if (spec == null || spec.getRequestRatesPerSecondSafe().isEmpty()) {
+            throw new IllegalArgumentException("spec.requestRatesPerSecond is required");
+        }
+        return CapacityPlanner.plan(resolveConfig(name, configJson), spec);
+    }
+
+    /**
+     * Proposes ASYNC rewrites of SYNC groups whose plugins have no declared data dependency (plugin catalog inputs and
+     * outputs). When apply is true the rewritten config JSON is returned as well; it is not saved.
+     */
+    public ParallelizationResult parallelize(String name, String configJson, boolean apply) {
+        EngineFileConfig config = parse(rawConfig(name, configJson));
+        Map<String, PluginDataContract> catalog = componentService.getPluginDataContracts();
+        if (!apply) {
+            return new ParallelizationResult(ParallelizationAdvisor.plan(config, catalog), null);
+        }
+        List<ParallelizationProposal> applied = ParallelizationAdvisor.apply(config, catalog);
+        try {
+            return new ParallelizationResult(applied, ENGINE_CONFIG_MAPPER.toJson(config));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize engine config: " + e.getMessage(), e);
+        }
+    }
+
+    /** Proposals and, when applied, the rewritten config JSON (null otherwise). */
+    public record ParallelizationResult(List<ParallelizationProposal> proposals, String configJson) {}
+
+    /** Performance lint findings (severity, code, JSON path, message) for an inline or stored config. */
+    public List<ValidationIssue> lint(String name, String configJson) {
+        return linter.lint(resolveConfig(name, configJson));
+    }
+
+    /**
+     * Replaces subtrees repeated within or across the configs (inline JSON, or stored names when none is given) with
+     * fragment refs. With save, the fragments are stored under their refs; the rewritten configs are only returned.
+     */
+    public FragmentExtractionResult extractFragments(List<String> names, List<String> configJsons, Integer minBytes, boolean save) {
+        List<String> raws = new ArrayList<>();
+        if (configJsons != null && !configJsons.isEmpty()) {
+            raws.addAll(configJsons);
+        } else if (names != null) {
+            for (String name : names) raws.add(rawConfig(name, null));
+        }
+        if (raws.isEmpty()) throw new IllegalArgumentException("Either configJsons or names is required");
+        try {
+            List<JsonNode> trees = new ArrayList<>();
+            long bytesBefore = 0;
+            for (String raw : raws) {
+                trees.add(ENGINE_CONFIG_MAPPER.readTree(raw));
+                bytesBefore += raw.length();
+            }
+            FragmentExtraction extraction = FragmentExtractor.extract(trees,
+                    minBytes != null ? minBytes : FragmentExtractor.DEFAULT_MIN_BYTES);
+            ObjectMapper json = ENGINE_CONFIG_MAPPER.getObjectMapper();
+            List<String> rewritten = new ArrayList<>();
+            long bytesAfter = 0;
+            for (JsonNode config : extraction.configs()) {
+                String out = json.writeValueAsString(config);
+                rewritten.add(out);
+                bytesAfter += out.length();
+            }
+            Map<String, String> fragments = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonNode> e : extraction.fragments().entrySet()) {
+                String out = json.writeValueAsString(e.getValue());
+                fragments.put(e.getKey(), out);
+                bytesAfter += out.length();
+                if (save) fragmentService.save(e.getKey(), out);
+            }
+            return new FragmentExtractionResult(rewritten, fragments, extraction.replacedSubtrees(), bytesBefore, bytesAfter);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid engine config JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /** Rewritten configs (same order as the input), fragments by ref, and total JSON size before and after (fragments included). */
+    public record FragmentExtractionResult(List<String> configJsons, Map<String, String> fragments, int replacedSubtrees,
+                                           long bytesBefore, long bytesAfter) {}
+
+    /**
+     * Effective definition of each variant of a pipeline (baseline first) for side-by-side display. With a simulation
+     * spec each variant is also simulated and compared with the baseline.
+     */
+    public List<VariantView> compareVariants(String name, String configJson, String pipelineName, SimulationSpec spec) {
+        EngineFileConfig config = resolveConfig(name, configJson);
+        Map<String, PipelineSection> pipelines = config.getPipelinesEffective();
+        String pipeline = pipelineName != null && !pipelineName.isBlank() ? pipelineName.trim()
+                : pipelines.size() == 1 ? pipelines.keySet().iterator().next() : null;
+        if (pipeline == null || !pipelines.containsKey(pipeline)) {
+            throw new IllegalArgumentException(pipeline == null ? "pipeline is required" : "Pipeline not found: " + pipeline);
+        }
+        VariantSelector selector = VariantSelector.of(pipeline, pipelines.get(pipeline));
+        ObjectMapper json = ENGINE_CONFIG_MAPPER.getObjectMapper();
+        SimulationResult baseline = spec != null ? PipelineSimulator.simulate(config, pipeline, spec) : null;
+        List<VariantView> views = new ArrayList<>(selector.size());
+        for (int i = 0; i < selector.size(); i++) {
+            ObjectNode definition = json.valueToTree(selector.pipeline(i));
+            definition.remove("variants");
+            SimulationComparison comparison = null;
+            if (spec != null) {
+                config.getPipelines().put(pipeline, selector.pipeline(i));
+                comparison = SimulationComparison.of(baseline, i == 0 ? baseline : PipelineSimulator.simulate(config, pipeline, spec));
+            }
+            views.add(new VariantView(selector.name(i), selector.weight(i), definition, comparison));
+        }
+        return views;
+    }
+
+    /** One variant: traffic percent, effective pipeline definition and, when simulated, the change against the baseline. */
+    public record VariantView(String name, int weight, JsonNode pipeline, SimulationComparison comparison) {}
+
+    /**
+     * Estimated heap a worker retains for the named stored config: object counts per type, bytes per pipeline, largest subtrees.
+     * Empty when no config is stored under the name.
+     */
+    public Optional<ConfigFootprint> footprint(String name, Integer top) {
+        int topSubtrees = top != null ? top : FootprintEstimator.DEFAULT_TOP_SUBTREES;
+        return redisConfigService.getEngineConfig(name.trim()).map(raw -> {
+            EngineFileConfig config = parse(raw);
+            EngineFileConfig.applyDefaultGlobals(config);
+            return FootprintEstimator.estimate(config, topSubtrees);
+        });
+    }
+
+    /** Estimated footprint of every stored engine config, largest first. Configs that cannot be parsed are skipped. */
+    public List<FootprintSummary> footprints() {
+        List<FootprintSummary> summaries = new ArrayList<>();
+        for (String name : redisConfigService.listEngineConfigNames()) {
+            try {
+                ConfigFootprint footprint = FootprintEstimator.estimate(resolveConfig(name, null), 0);
+                summaries.add(new FootprintSummary(name, footprint.totalBytes(), footprint.totalObjects(), footprint.pipelineBytes().size()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping engine config {} in footprint report: {}", name, e.getMessage());
+            }
+        }
+        summaries.sort(Comparator.comparingLong(FootprintSummary::totalBytes).reversed());
+        return summaries;
+    }
+
+    public record FootprintSummary(String name, long totalBytes, long totalObjects, int pipelines) {}
+
+    /** Parses configJson when present, otherwise loads the named engine config from Redis. */
+    EngineFileConfig resolveConfig(String name, String configJson) {
+        EngineFileConfig config = parse(rawConfig(name, configJson));
+        EngineFileConfig.applyDefaultGlobals(config);
+        return config;
+    }
+
+    private String rawConfig(String name, String configJson) {
+        if (configJson != null && !configJson.isBlank()) return configJson;
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Either configJson or name is required");
+        }
+        return redisConfigService.getEngineConfig(name.trim())
+                .orElseThrow(() -> new IllegalArgumentException("Engine config not found: " + name));
+    }
+
+    /** Parses the config with fragment refs ($ref) inlined. */
+    private EngineFileConfig parse(String raw) {
+        try {
+            return fragmentService.getResolver().readConfig(raw);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid engine config JSON: " + e.getMessage(), e);
+        }
+    }
+}
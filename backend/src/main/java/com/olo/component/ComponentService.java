@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PluginDataContract;
 import com.olo.plugin.OloPluginLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -303,6 +304,33 @@ public class ComponentService {
         return Optional.ofNullable(schema);
     }
 
+    /**
+     * Declared data flow of every plugin whose descriptor lists inputs and outputs (plugin.yaml), keyed by id and by
+     * className so both forms used in configs resolve. Plugins without declarations are omitted.
+     */
+    public Map<String, PluginDataContract> getPluginDataContracts() {
+        Map<String, PluginDataContract> contracts = new HashMap<>();
+        for (Map.Entry<String, JsonNode> e : componentSchemasById.entrySet()) {
+            JsonNode n = e.getValue();
+            if (!n.has("inputKeys") || !n.has("outputKeys")) continue;
+            String pluginType = n.has("pluginType") && !n.get("pluginType").asText().isBlank() ? n.get("pluginType").asText() : null;
+            Set<String> inputs = textSet(n.get("inputKeys"));
+            Set<String> outputs = textSet(n.get("outputKeys"));
+            contracts.put(e.getKey(), new PluginDataContract(e.getKey(), pluginType, inputs, outputs));
+            if (n.has("className") && !n.get("className").asText().isBlank()) {
+                String className = n.get("className").asText();
+                contracts.put(className, new PluginDataContract(className, pluginType, inputs, outputs));
+            }
+        }
+        return contracts;
+    }
+
+    private static Set<String> textSet(JsonNode array) {
+        Set<String> out = new HashSet<>();
+        for (JsonNode k : array) out.add(k.asText());
+        return Set.copyOf(out);
+    }
+
     /** Global options for UI: feature flags and plugins from components/global (or defaults). */
     public GlobalOptions getGlobalOptions() {
         return globalOptions != null ? globalOptions : GlobalOptions.builder()
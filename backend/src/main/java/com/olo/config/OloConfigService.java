@@ -52,8 +52,8 @@ public class OloConfigService {
     }
 
     public OloConfigDto getByNameWithRedisFallback(String name) {
-        // 1) Prefer engine config from olo:engine:config:{name}
-        var fromEngine = redisConfigService.getEngineConfig(name)
+        // 1) Prefer engine config from olo:engine:config:{name} (the copy with fragment refs when saved with refs)
+        var fromEngine = redisConfigService.getEngineConfigSource(name)
                 .map(configJson -> OloConfigDto.builder()
                         .name(name)
                         .configJson(configJson)
@@ -351,6 +351,8 @@ public class OloPluginLoader {
             properties.set("properties", props);
             properties.set("required", required);
             uiNode.set("properties", properties);
+            setKeyNames(uiNode, "inputKeys", plugin.get("inputs"));
+            setKeyNames(uiNode, "outputKeys", plugin.get("outputs"));
             out.add(new PluginDef(entryPath, i, uiNode));
         }
         if (out.isEmpty()) {
@@ -434,6 +436,8 @@ public class OloPluginLoader {
                 properties.set("properties", props);
                 properties.set("required", required);
                 uiNode.set("properties", properties);
+                setKeyNamesSnake(uiNode, "inputKeys", plugin.get("inputs"));
+                setKeyNamesSnake(uiNode, "outputKeys", plugin.get("outputs"));
                 out.add(new PluginDef(entryPath, i, uiNode));
             }
         } catch (Exception e) {
@@ -442,6 +446,32 @@ public class OloPluginLoader {
         return out;
     }
 
+    /**
+     * Copies the names of declared inputs/outputs ([ { name, type, ... } ]) to a plain array on the UI node, for
+     * data-dependency analysis. Left unset when the list is not declared.
+     */
+    private void setKeyNames(ObjectNode uiNode, String field, JsonNode entries) {
+        if (entries == null || !entries.isArray()) return;
+        ArrayNode keys = objectMapper.createArrayNode();
+        for (JsonNode e : entries) {
+            if (e.isObject() && e.has("name")) keys.add(e.get("name").asText());
+            else if (e.isTextual()) keys.add(e.asText());
+        }
+        uiNode.set(field, keys);
+    }
+
+    /** SnakeYAML variant of {@link #setKeyNames}. */
+    @SuppressWarnings("unchecked")
+    private void setKeyNamesSnake(ObjectNode uiNode, String field, Object entries) {
+        if (!(entries instanceof List)) return;
+        ArrayNode keys = objectMapper.createArrayNode();
+        for (Object e : (List<?>) entries) {
+            String name = e instanceof Map ? str(((Map<String, Object>) e).get("name")) : e instanceof String ? str(e) : null;
+            if (name != null) keys.add(name);
+        }
+        uiNode.set(field, keys);
+    }
+
     private static String str(Object o) {
         return o == null ? null : o.toString().trim();
     }
@@ -0,0 +1,113 @@
+package com.olo.redis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentResolver;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shared config fragments at olo:engine:fragment:{ref} (ref = name or name@version), referenced from engine configs with
+ * {"$ref": "..."}. Also the {@link FragmentResolver} used to inline refs when configs are validated or analysed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EngineFragmentService implements FragmentStore {
+
+    private static final EngineConfigMapper ENGINE_CONFIG_MAPPER = EngineConfigMapper.getInstance();
+
+    private final StringRedisTemplate redisTemplate;
+
+    /** Resolver with a content-hash fragment cache; loads fragments through this service. */
+    private final FragmentResolver resolver = new FragmentResolver(this);
+
+    @Value("${olo.redis.engine-fragment-key-prefix:olo:engine:fragment:}")
+    private String fragmentKeyPrefix;
+
+    public FragmentResolver getResolver() {
+        return resolver;
+    }
+
+    @Override
+    public String load(String ref) {
+        return redisTemplate.opsForValue().get(fragmentKeyPrefix + ref);
+    }
+
+    /**
+     * Validates the ref and the JSON, then stores the fragment. Versioned refs (name@version) are cached as immutable by
+     * resolvers, so they are written once: saving the same JSON again is a no-op, different JSON is rejected and must be
+     * saved under a new version. Unversioned refs are overwritten.
+     *
+     * @throws IllegalStateException when a versioned ref already holds different JSON
+     */
+    @Override
+    public void save(String ref, String json) {
+        if (!FragmentResolver.isValidRef(ref)) throw new IllegalArgumentException("Invalid fragment ref: " + ref);
+        JsonNode tree;
+        try {
+            tree = ENGINE_CONFIG_MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid fragment JSON: " + e.getMessage(), e);
+        }
+        String key = fragmentKeyPrefix + ref;
+        if (!FragmentResolver.isVersioned(ref)) {
+            redisTemplate.opsForValue().set(key, json);
+        } else if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, json))) {
+            String existing = redisTemplate.opsForValue().get(key);
+            if (existing != null && !sameJson(existing, tree)) {
+                throw new IllegalStateException("Fragment " + ref + " already exists with different content; save it under a new version");
+            }
+            if (existing == null) redisTemplate.opsForValue().set(key, json);
+        }
+        log.debug("Saved engine config fragment {}", ref);
+    }
+
+    private static boolean sameJson(String stored, JsonNode tree) {
+        try {
+            return ENGINE_CONFIG_MAPPER.readTree(stored).equals(tree);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public Optional<String> get(String ref) {
+        try {
+            return Optional.ofNullable(load(ref));
+        } catch (Exception e) {
+            log.warn("Redis unavailable when getting fragment {}: {}", ref, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Fragment refs stored under the prefix, sorted. Returns empty list if Redis is unavailable. */
+    public List<String> listRefs() {
+        try {
+            String pattern = fragmentKeyPrefix + "*";
+            Set<byte[]> keyBytes = redisTemplate.execute((RedisCallback<Set<byte[]>>) conn -> conn.keys(pattern.getBytes(StandardCharsets.UTF_8)));
+            if (keyBytes == null || keyBytes.isEmpty()) return List.of();
+            List<String> refs = new ArrayList<>();
+            for (byte[] key : keyBytes) {
+                String keyStr = new String(key, StandardCharsets.UTF_8);
+                if (keyStr.length() > fragmentKeyPrefix.length()) refs.add(keyStr.substring(fragmentKeyPrefix.length()));
+            }
+            refs.sort(String::compareTo);
+            return refs;
+        } catch (Exception e) {
+            log.warn("Redis unavailable when listing fragments, returning empty list: {}", e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.olo.redis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
 import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentResolver;
+import com.openllmorchestrator.worker.engine.config.pipeline.ConfigNormalizer;
+import com.openllmorchestrator.worker.engine.config.pipeline.NormalizationChange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,6 +30,7 @@ public class RedisConfigService {
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final EngineFragmentService fragmentService;
 
     private static final EngineConfigMapper ENGINE_CONFIG_MAPPER = EngineConfigMapper.getInstance();
 
@@ -35,6 +40,14 @@ public class RedisConfigService {
     @Value("${olo.redis.engine-config-key-prefix:olo:engine:config:}")
     private String engineConfigKeyPrefix;
 
+    /** Editor copy of engine configs saved with fragment refs ($ref); workers read the resolved copy under engineConfigKeyPrefix. */
+    @Value("${olo.redis.engine-config-source-key-prefix:olo:engine:config-source:}")
+    private String engineConfigSourceKeyPrefix;
+
+    /** When true, engine configs are normalized ({@link ConfigNormalizer}) and stored in canonical form on save. */
+    @Value("${olo.engine-config.normalize-on-save:false}")
+    private boolean normalizeOnSave;
+
     private static final long TTL_DAYS = 30;
 
     public void upsertByName(String name, String configJson, String canvasJson) {
@@ -103,12 +116,25 @@ public class RedisConfigService {
 
     /**
      * Get config from olo:engine:config:{keySuffix}. Returns the stored JSON as-is so it matches
-     * export-to-file format (no then-clause or other round-trip additions).
+     * export-to-file format (no then-clause or other round-trip additions). This is the copy workers read,
+     * so fragment refs are already inlined.
      * Returns empty if Redis is unavailable.
      */
     public Optional<String> getEngineConfig(String keySuffix) {
+        return read(engineConfigKeyPrefix + keySuffix, keySuffix);
+    }
+
+    /**
+     * Config as last saved from the editor: the copy with fragment refs ($ref) kept when it was saved with refs,
+     * else the same JSON as {@link #getEngineConfig(String)}. Returns empty if Redis is unavailable.
+     */
+    public Optional<String> getEngineConfigSource(String keySuffix) {
+        Optional<String> source = read(engineConfigSourceKeyPrefix + keySuffix, keySuffix);
+        return source.isPresent() ? source : getEngineConfig(keySuffix);
+    }
+
+    private Optional<String> read(String key, String keySuffix) {
         try {
-            String key = engineConfigKeyPrefix + keySuffix;
             String raw = redisTemplate.opsForValue().get(key);
             if (raw == null || raw.isBlank()) return Optional.empty();
             return Optional.of(raw);
@@ -121,19 +147,47 @@ public class RedisConfigService {
     /**
      * Store config at olo:engine:config:{name}. Validates JSON via engine-config but stores
      * the exact payload from the client so Redis matches export-to-file format (no then-clause
-     * or other round-trip additions).
+     * or other round-trip additions). With olo.engine-config.normalize-on-save the normalized
+     * config is stored instead (current keys only, no dead or empty structure). Workers read that key without a
+     * fragment resolver, so configs with fragment refs ($ref) are stored there with the refs inlined; the JSON as sent,
+     * refs kept, goes to olo:engine:config-source:{name} for the editor. Unversioned refs are inlined as they are at save
+     * time. Returns the JSON the editor should show (the copy with refs when there are any).
      */
-    public void upsertEngineConfig(String name, String configJson) {
+    public String upsertEngineConfig(String name, String configJson) {
         if (name == null || name.isBlank()) throw new IllegalArgumentException("Engine config name is required");
         String key = engineConfigKeyPrefix + name.trim();
+        String sourceKey = engineConfigSourceKeyPrefix + name.trim();
         String raw = configJson != null && !configJson.isBlank() ? configJson : "{}";
         try {
-            EngineFileConfig config = ENGINE_CONFIG_MAPPER.fromJson(raw);
+            JsonNode tree = raw.contains(FragmentResolver.REF_KEY) ? ENGINE_CONFIG_MAPPER.readTree(raw) : null;
+            boolean hasRefs = FragmentResolver.containsRef(tree);
+            String stored = raw;
+            EngineFileConfig config;
+            if (hasRefs) {
+                JsonNode resolved = fragmentService.getResolver().resolve(tree);
+                config = ENGINE_CONFIG_MAPPER.getObjectMapper().treeToValue(resolved, EngineFileConfig.class);
+                stored = ENGINE_CONFIG_MAPPER.getObjectMapper().writeValueAsString(resolved);
+            } else {
+                config = ENGINE_CONFIG_MAPPER.fromJson(raw);
+            }
+            if (normalizeOnSave) {
+                List<NormalizationChange> changes = ConfigNormalizer.normalize(config);
+                stored = ENGINE_CONFIG_MAPPER.toJson(config);
+                log.debug("Normalized engine config {} ({} rewrites)", name, changes.size());
+            }
             EngineFileConfig.applyDefaultGlobals(config);
-            redisTemplate.opsForValue().set(key, raw);
+            redisTemplate.opsForValue().set(key, stored);
+            if (hasRefs) {
+                redisTemplate.opsForValue().set(sourceKey, raw);
+            } else {
+                redisTemplate.delete(sourceKey);
+            }
             log.debug("Upserted engine config to Redis: {}", key);
+            return hasRefs ? raw : stored;
         } catch (IOException e) {
             throw new IllegalArgumentException("Invalid engine config JSON: " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid engine config: " + e.getMessage(), e);
         } catch (Exception e) {
             log.warn("Redis unavailable when upserting engine config {}: {}", name, e.getMessage());
             throw new RuntimeException("Redis unavailable", e);
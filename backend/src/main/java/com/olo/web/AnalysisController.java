@@ -0,0 +1,87 @@
+package com.olo.web;
+
+import com.olo.analysis.ConfigAnalysisService;
+import com.openllmorchestrator.worker.engine.config.simulation.CapacityPlan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analysis")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AnalysisController {
+
+    private final ConfigAnalysisService analysisService;
+
+    /** Recommended activity slots, pollers and workers per task queue for target request rates. */
+    @PostMapping("/capacity")
+    public ResponseEntity<?> planCapacity(@RequestBody CapacityPlanRequest request) {
+        if (request == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            CapacityPlan plan = analysisService.planCapacity(request.getName(), request.getConfigJson(), request.getSpec());
+            return ResponseEntity.ok(plan);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        }
+    }
+
+    /** SYNC groups that can run as ASYNC according to declared plugin inputs/outputs; optionally the rewritten config. */
+    @PostMapping("/parallelize")
+    public ResponseEntity<?> parallelize(@RequestBody ParallelizeRequest request) {
+        if (request == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(analysisService.parallelize(request.getName(), request.getConfigJson(), request.isApply()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        }
+    }
+
+    /** Performance lint findings for an inline or stored config; nothing is saved. */
+    @PostMapping("/lint")
+    public ResponseEntity<?> lint(@RequestBody LintRequest request) {
+        if (request == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(analysisService.lint(request.getName(), request.getConfigJson()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        }
+    }
+
+    /** Each variant of a pipeline next to the baseline: weight, effective definition and optional simulated latency change. */
+    @PostMapping("/variants")
+    public ResponseEntity<?> compareVariants(@RequestBody VariantComparisonRequest request) {
+        if (request == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(analysisService.compareVariants(request.getName(), request.getConfigJson(), request.getPipeline(), request.getSpec()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        }
+    }
+
+    /** Estimated retained heap of every stored engine config, largest first. */
+    @GetMapping("/footprint")
+    public ResponseEntity<?> footprints() {
+        return ResponseEntity.ok(analysisService.footprints());
+    }
+
+    /** Estimated retained heap of one stored engine config: per type, per pipeline and the largest subtrees. 404 when it is not stored. */
+    @GetMapping("/footprint/{name}")
+    public ResponseEntity<?> footprint(@PathVariable String name, @RequestParam(required = false) Integer top) {
+        try {
+            return analysisService.footprint(name, top).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.olo.web;
+
+import com.openllmorchestrator.worker.engine.config.simulation.CapacityPlanSpec;
+import lombok.Data;
+
+/** Body of POST /api/analysis/capacity: the config (inline JSON or stored name) and the planning inputs. */
+@Data
+public class CapacityPlanRequest {
+    /** Stored engine config name (olo:engine:config:{name}); used when configJson is blank. */
+    private String name;
+    private String configJson;
+    private CapacityPlanSpec spec;
+}
@@ -0,0 +1,8 @@
+package com.olo.web;
+
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+
+/** Response of POST /api/configs/engine/save: the stored config and its performance lint findings. */
+public record EngineConfigSaveResponse(String name, String configJson, List<ValidationIssue> lintFindings) {}
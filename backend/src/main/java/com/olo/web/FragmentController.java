@@ -0,0 +1,62 @@
+package com.olo.web;
+
+import com.olo.analysis.ConfigAnalysisService;
+import com.olo.redis.EngineFragmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/** Shared engine config fragments referenced with {"$ref": "name@version"}, and extraction of repeated subtrees. */
+@RestController
+@RequestMapping("/api/fragments")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FragmentController {
+
+    private final EngineFragmentService fragmentService;
+    private final ConfigAnalysisService analysisService;
+
+    @GetMapping
+    public List<String> list() {
+        return fragmentService.listRefs();
+    }
+
+    @GetMapping(value = "/{ref}", produces = "application/json")
+    public ResponseEntity<String> get(@PathVariable String ref) {
+        return fragmentService.get(ref).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> save(@RequestBody FragmentSaveRequest request) {
+        if (request == null || request.getRef() == null || request.getJson() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            fragmentService.save(request.getRef().trim(), request.getJson());
+            return ResponseEntity.ok(Map.of("ref", request.getRef().trim()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid fragment", "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Fragment exists", "message", e.getMessage()));
+        }
+    }
+
+    /** Replaces subtrees repeated within or across the configs with $ref objects; optionally stores the fragments. */
+    @PostMapping("/extract")
+    public ResponseEntity<?> extract(@RequestBody FragmentExtractRequest request) {
+        if (request == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(analysisService.extractFragments(request.getNames(), request.getConfigJsons(), request.getMinBytes(), request.isSave()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid request", "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Fragment exists", "message", e.getMessage()));
+        }
+    }
+}
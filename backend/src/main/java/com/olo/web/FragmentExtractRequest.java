@@ -0,0 +1,17 @@
+package com.olo.web;
+
+import lombok.Data;
+
+import java.util.List;
+
+/** Body of POST /api/fragments/extract: configs to de-duplicate (inline JSON or stored names) and whether to save the fragments. */
+@Data
+public class FragmentExtractRequest {
+    /** Stored engine config names (olo:engine:config:{name}); used when configJsons is empty. */
+    private List<String> names;
+    private List<String> configJsons;
+    /** Minimum canonical JSON size of an extracted subtree; null = engine-config default. */
+    private Integer minBytes;
+    /** True = store the extracted fragments (the rewritten configs are only returned). */
+    private boolean save;
+}
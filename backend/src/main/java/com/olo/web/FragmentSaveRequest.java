@@ -0,0 +1,10 @@
+package com.olo.web;
+
+import lombok.Data;
+
+/** Body of POST /api/fragments: fragment ref (name or name@version) and its JSON. */
+@Data
+public class FragmentSaveRequest {
+    private String ref;
+    private String json;
+}
@@ -0,0 +1,11 @@
+package com.olo.web;
+
+import lombok.Data;
+
+/** Body of POST /api/analysis/lint: the config as inline JSON or a stored name. */
+@Data
+public class LintRequest {
+    /** Stored engine config name (olo:engine:config:{name}); used when configJson is blank. */
+    private String name;
+    private String configJson;
+}
@@ -1,8 +1,10 @@
 package com.olo.web;
 
+import com.olo.analysis.ConfigAnalysisService;
 import com.olo.config.OloConfigDto;
 import com.olo.config.OloConfigService;
 import com.olo.redis.RedisConfigService;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ public class OloConfigController {
 
     private final OloConfigService configService;
     private final RedisConfigService redisConfigService;
+    private final ConfigAnalysisService analysisService;
 
     @PostMapping
     public ResponseEntity<OloConfigDto> upsert(@Valid @RequestBody OloConfigDto dto) {
@@ -44,15 +47,18 @@ public class OloConfigController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
-    /** Save current config to olo:engine:config:{name}. Used by "New" (name from dialog) and "Update". Path avoids conflict with GET /{name}. */
+    /**
+     * Save current config to olo:engine:config:{name}. Used by "New" (name from dialog) and "Update". Path avoids conflict with GET /{name}.
+     * The response carries the stored JSON and performance lint findings; findings never block the save.
+     */
     @PostMapping("/engine/save")
     public ResponseEntity<?> upsertEngineConfig(@RequestBody EngineConfigUpsertRequest request) {
         if (request == null || request.getName() == null || request.getName().isBlank()) {
             return ResponseEntity.badRequest().build();
         }
         try {
-            redisConfigService.upsertEngineConfig(request.getName().trim(), request.getConfigJson());
-            return ResponseEntity.ok(request);
+            String stored = redisConfigService.upsertEngineConfig(request.getName().trim(), request.getConfigJson());
+            return ResponseEntity.ok(new EngineConfigSaveResponse(request.getName().trim(), stored, lintFindings(stored)));
         } catch (Exception e) {
             log.warn("Redis unavailable when upserting engine config {}: {}", request.getName(), e.getMessage());
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -60,6 +66,15 @@ public class OloConfigController {
         }
     }
 
+    private List<ValidationIssue> lintFindings(String configJson) {
+        try {
+            return analysisService.lint(null, configJson);
+        } catch (RuntimeException e) {
+            log.warn("Lint failed for saved engine config: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
     /** Get current in-progress template from Redis (olo:ui:inprogress-template). */
     @GetMapping("/inprogress")
     public ResponseEntity<RedisConfigService.InProgressPayload> getInProgress() {
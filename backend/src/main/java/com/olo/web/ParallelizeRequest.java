@@ -0,0 +1,13 @@
+package com.olo.web;
+
+import lombok.Data;
+
+/** Body of POST /api/analysis/parallelize: the config (inline JSON or stored name) and whether to return the rewrite. */
+@Data
+public class ParallelizeRequest {
+    /** Stored engine config name (olo:engine:config:{name}); used when configJson is blank. */
+    private String name;
+    private String configJson;
+    /** True = also return the config with the proposals applied (not saved). */
+    private boolean apply;
+}
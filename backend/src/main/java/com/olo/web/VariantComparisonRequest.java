@@ -0,0 +1,16 @@
+package com.olo.web;
+
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationSpec;
+import lombok.Data;
+
+/** Body of POST /api/analysis/variants: the config (inline JSON or stored name), the pipeline and optional simulation inputs. */
+@Data
+public class VariantComparisonRequest {
+    /** Stored engine config name (olo:engine:config:{name}); used when configJson is blank. */
+    private String name;
+    private String configJson;
+    /** Pipeline whose variants to compare; may be omitted when the config has one pipeline. */
+    private String pipeline;
+    /** When set, each variant is simulated and compared with the baseline. */
+    private SimulationSpec spec;
+}
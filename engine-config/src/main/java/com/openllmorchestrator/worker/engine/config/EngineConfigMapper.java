@@ -16,28 +16,67 @@
 package com.openllmorchestrator.worker.engine.config;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Central serialization and deserialization for engine and queue configuration.
  * Use this in the worker to read/write config and in any tool that produces config JSON
  * consumed by the worker (e.g. CLI, dashboard, config service).
  * Serialization omits null, empty string, empty collection, and empty map so they are not written to config file or Redis.
+ * <p>
+ * {@link #fromJson(String)} and {@link #fromJson(byte[])} inputs of at least {@link #DEFAULT_PARALLEL_THRESHOLD} chars/bytes
+ * are parsed in two steps: one streaming pass splits {@code pipelines} into one slice per pipeline, then the slices are
+ * deserialized concurrently on a bounded pool of daemon threads. The result (including pipeline order) is the same as a
+ * single-threaded parse. Streams and readers are always parsed single-threaded.
  */
 public final class EngineConfigMapper {
 
+    /** Inputs at least this large (chars or bytes) deserialize their pipelines concurrently. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+    /** Upper bound on the default number of threads used for concurrent pipeline parsing. */
+    public static final int MAX_DEFAULT_PARALLELISM = 8;
+
     private static final EngineConfigMapper INSTANCE = new EngineConfigMapper();
 
     private final ObjectMapper objectMapper;
+    private final int parallelThreshold;
+    private final int parallelism;
+    private volatile ExecutorService pipelinePool;
 
     public EngineConfigMapper() {
+        this(DEFAULT_PARALLEL_THRESHOLD, Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_PARALLELISM));
+    }
+
+    /**
+     * @param parallelThreshold minimum input size for concurrent pipeline parsing; {@code Integer.MAX_VALUE} disables it
+     * @param parallelism       threads used for concurrent pipeline parsing; 1 disables it
+     */
+    public EngineConfigMapper(int parallelThreshold, int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
         this.objectMapper = new ObjectMapper();
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        this.parallelThreshold = parallelThreshold;
+        this.parallelism = parallelism;
     }
 
     /** Shared mapper instance with default configuration. */
@@ -61,11 +100,17 @@ public final class EngineConfigMapper {
     }
 
     public EngineFileConfig fromJson(String json) throws IOException {
-        return objectMapper.readValue(json, EngineFileConfig.class);
+        if (!parseConcurrently(json.length())) return objectMapper.readValue(json, EngineFileConfig.class);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return readSplit(parser, false, (from, to) -> objectMapper.readValue(json.substring(from, to), PipelineSection.class));
+        }
     }
 
     public EngineFileConfig fromJson(byte[] json) throws IOException {
-        return objectMapper.readValue(json, EngineFileConfig.class);
+        if (!parseConcurrently(json.length)) return objectMapper.readValue(json, EngineFileConfig.class);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return readSplit(parser, true, (from, to) -> objectMapper.readValue(json, from, to - from, PipelineSection.class));
+        }
     }
 
     public EngineFileConfig fromJson(InputStream in) throws IOException {
@@ -76,6 +121,110 @@ public final class EngineConfigMapper {
         return objectMapper.readValue(reader, EngineFileConfig.class);
     }
 
+    private boolean parseConcurrently(int size) {
+        return parallelism > 1 && size >= parallelThreshold;
+    }
+
+    /**
+     * Streams over the root object: fields other than {@code pipelines} are read into a tree, and each pipeline object
+     * is skipped token by token, recording its offsets. The pipeline slices are then deserialized concurrently and put
+     * into the map in document order.
+     */
+    private EngineFileConfig readSplit(JsonParser parser, boolean bytes, SliceReader slices) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return objectMapper.readValue(parser, EngineFileConfig.class);
+        }
+        ObjectNode rest = objectMapper.createObjectNode();
+        List<PipelineSlice> pipelines = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!"pipelines".equals(field) || value != JsonToken.START_OBJECT) {
+                if ("pipelines".equals(field)) pipelines = null;
+                rest.set(field, objectMapper.readTree(parser));
+                continue;
+            }
+            rest.remove(field);
+            pipelines = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    int from = offset(parser.currentTokenLocation(), bytes);
+                    parser.skipChildren();
+                    pipelines.add(new PipelineSlice(name, from, offset(parser.currentTokenLocation(), bytes) + 1, null));
+                } else {
+                    pipelines.add(new PipelineSlice(name, -1, -1, objectMapper.readValue(parser, PipelineSection.class)));
+                }
+            }
+        }
+        EngineFileConfig config = objectMapper.treeToValue(rest, EngineFileConfig.class);
+        if (pipelines != null) config.setPipelines(readPipelines(pipelines, slices));
+        return config;
+    }
+
+    private Map<String, PipelineSection> readPipelines(List<PipelineSlice> pipelines, SliceReader slices) throws IOException {
+        List<Future<PipelineSection>> tasks = new ArrayList<>(pipelines.size());
+        ExecutorService pool = pool();
+        for (PipelineSlice slice : pipelines) {
+            tasks.add(slice.from < 0 ? null : pool.submit(() -> slices.read(slice.from, slice.to)));
+        }
+        Map<String, PipelineSection> result = new LinkedHashMap<>();
+        for (int i = 0; i < pipelines.size(); i++) {
+            PipelineSlice slice = pipelines.get(i);
+            Future<PipelineSection> task = tasks.get(i);
+            try {
+                result.put(slice.name, task == null ? slice.inline : task.get());
+            } catch (InterruptedException e) {
+                cancel(tasks);
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while parsing pipeline '" + slice.name + "'", e);
+            } catch (ExecutionException e) {
+                cancel(tasks);
+                Throwable cause = e.getCause();
+                if (cause instanceof Error error) throw error;
+                throw JsonMappingException.from((JsonParser) null, "Invalid pipeline '" + slice.name + "': " + cause.getMessage(), cause);
+            }
+        }
+        return result;
+    }
+
+    private static void cancel(List<Future<PipelineSection>> tasks) {
+        for (Future<PipelineSection> task : tasks) {
+            if (task != null) task.cancel(true);
+        }
+    }
+
+    private static int offset(JsonLocation location, boolean bytes) {
+        return (int) (bytes ? location.getByteOffset() : location.getCharOffset());
+    }
+
+    private ExecutorService pool() {
+        ExecutorService pool = pipelinePool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = pipelinePool;
+                if (pool == null) {
+                    AtomicInteger threads = new AtomicInteger();
+                    pool = Executors.newFixedThreadPool(parallelism, task -> {
+                        Thread thread = new Thread(task, "engine-config-parse-" + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    pipelinePool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    @FunctionalInterface
+    private interface SliceReader {
+        PipelineSection read(int from, int to) throws IOException;
+    }
+
+    /** One pipeline entry: the offsets of its object in the input, or the value read inline (e.g. null). */
+    private record PipelineSlice(String name, int from, int to, PipelineSection inline) {}
+
     // --- QueueConfig ---
 
     public String toJson(QueueConfig config) throws IOException {
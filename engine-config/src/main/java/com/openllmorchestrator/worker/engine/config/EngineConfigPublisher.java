@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.Pipeline;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Publishes many engine configs to Redis over one pooled connection, sending SETs in pipelined batches of
+ * {@link #BATCH_SIZE} so a push costs one round trip per batch instead of one connection per config
+ * ({@link EngineConfigWriter#writeJsonToRedis}). Keys are usually built with {@link EngineConfigWriter#redisKey}.
+ */
+public final class EngineConfigPublisher implements AutoCloseable {
+
+    public static final int BATCH_SIZE = 500;
+
+    private final JedisPooled jedis;
+
+    public EngineConfigPublisher(RedisConfig redis) {
+        Objects.requireNonNull(redis, "redis");
+        DefaultJedisClientConfig.Builder client = DefaultJedisClientConfig.builder();
+        if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
+            client.password(redis.getPassword());
+        }
+        this.jedis = new JedisPooled(new HostAndPort(redis.getHost(), redis.getPort()), client.build());
+    }
+
+    public EngineConfigPublisher(JedisPooled jedis) {
+        this.jedis = Objects.requireNonNull(jedis, "jedis");
+    }
+
+    /** Stores each JSON value under its Redis key. Returns the number of keys written. */
+    public int publish(Map<String, String> jsonByKey) {
+        int written = 0;
+        try (Pipeline pipeline = jedis.pipelined()) {
+            for (Map.Entry<String, String> e : jsonByKey.entrySet()) {
+                pipeline.set(e.getKey(), e.getValue());
+                if (++written % BATCH_SIZE == 0) pipeline.sync();
+            }
+            pipeline.sync();
+        }
+        return written;
+    }
+
+    @Override
+    public void close() {
+        jedis.close();
+    }
+}
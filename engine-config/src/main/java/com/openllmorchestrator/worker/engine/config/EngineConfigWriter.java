@@ -29,6 +29,7 @@ import java.util.Objects;
 /**
  * Writes engine or queue configuration to a local JSON file or to Redis.
  * Clients build config with the builder API, then call {@link #writeToFile} or {@link #writeToRedis}.
+ * Each Redis write opens its own connection; use {@link EngineConfigPublisher} to publish many configs.
  */
 public final class EngineConfigWriter {
 
@@ -90,10 +91,7 @@ public final class EngineConfigWriter {
      */
     public void writeToRedis(EngineFileConfig config, RedisConfig redis, String configKey) throws IOException {
         String json = mapper.toJson(config);
-        String version = config.getConfigVersion() != null && !config.getConfigVersion().isBlank()
-                ? config.getConfigVersion()
-                : DEFAULT_VERSION;
-        String key = REDIS_KEY_PREFIX + (configKey != null && !configKey.isBlank() ? configKey : "default") + ":" + version;
+        String key = redisKey(configKey, config.getConfigVersion());
         try (Jedis jedis = new Jedis(redis.getHost(), redis.getPort())) {
             if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
                 jedis.auth(redis.getPassword());
@@ -102,12 +100,20 @@ public final class EngineConfigWriter {
         }
     }
 
+    /**
+     * Redis key of an engine config: {@code olo:engine:config:<configKey>:<version>}. Blank configKey = "default",
+     * blank version = "1.0".
+     */
+    public static String redisKey(String configKey, String version) {
+        String v = version != null && !version.isBlank() ? version : DEFAULT_VERSION;
+        return REDIS_KEY_PREFIX + (configKey != null && !configKey.isBlank() ? configKey : "default") + ":" + v;
+    }
+
     /**
      * Writes raw engine config JSON to Redis under the given key and version.
      */
     public void writeJsonToRedis(String configJson, RedisConfig redis, String configKey, String version) throws IOException {
-        String v = version != null && !version.isBlank() ? version : DEFAULT_VERSION;
-        String key = REDIS_KEY_PREFIX + (configKey != null && !configKey.isBlank() ? configKey : "default") + ":" + v;
+        String key = redisKey(configKey, version);
         try (Jedis jedis = new Jedis(redis.getHost(), redis.getPort())) {
             if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
                 jedis.auth(redis.getPassword());
@@ -19,13 +19,16 @@ import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.openllmorchestrator.worker.engine.config.activity.ActivityDefaultsConfig;
+import com.openllmorchestrator.worker.engine.config.codec.PayloadCodecConfig;
 import com.openllmorchestrator.worker.engine.config.database.DatabaseConfig;
 import com.openllmorchestrator.worker.engine.config.env.EnvConfig;
 import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDef;
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackChain;
 import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
 import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
 import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
 import com.openllmorchestrator.worker.engine.config.temporal.TemporalConfig;
+import com.openllmorchestrator.worker.engine.config.warmup.WarmupConfig;
 import com.openllmorchestrator.worker.engine.config.worker.WorkerConfig;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +37,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,7 +45,7 @@ import java.util.Set;
 /** Root engine config. One package per section (OCP). Nothing hardcoded in engine. */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -70,6 +74,11 @@ public class EngineFileConfig {
      */
     @JsonAlias("stagePlugins")
     private Map<String, String> capabilityPlugins;
+    /**
+     * Capability name → model fallback chain (e.g. MODEL → alternates to use when the primary model is slow or failing).
+     * Pipeline-level capabilityFallbacks and node-level fallbacks override.
+     */
+    private Map<String, ModelFallbackChain> capabilityFallbacks;
     /**
      * Async merge policy name → implementation. Value is either a built-in name (FIRST_WINS, LAST_WINS, PREFIX_BY_ACTIVITY)
      * or a fully qualified class name implementing AsyncMergePolicy. Registered at bootstrap; referenced in pipeline/group asyncOutputMergePolicy.
@@ -115,6 +124,12 @@ public class EngineFileConfig {
     /** Default JOIN plugin name for ASYNC groups when group does not specify joinPlugin. Engine may use a built-in if null. */
     private String defaultJoinPlugin;
 
+    /** Warm-up run before the worker polls its queue: plugin preload, connection pools, synthetic invocations. Pipelines may add their own. */
+    private WarmupConfig warmup;
+
+    /** Codecs for workflow and activity payloads (binary encoding, compression). Pipelines may override; see {@code PayloadCodecChain}. */
+    private PayloadCodecConfig payloadCodec;
+
     /** Default config version when not set. */
     public static final String DEFAULT_CONFIG_VERSION = "1.0";
     /** Default plugin repo package prefix when not set. */
@@ -171,6 +186,7 @@ public class EngineFileConfig {
         merged.capabilityOrder = fromStorage != null ? fromStorage.capabilityOrder : null;
         merged.capabilities = fromStorage != null ? fromStorage.capabilities : null;
         merged.capabilityPlugins = fromStorage != null ? fromStorage.capabilityPlugins : null;
+        merged.capabilityFallbacks = fromStorage != null ? fromStorage.capabilityFallbacks : null;
         merged.mergePolicies = fromStorage != null ? fromStorage.mergePolicies : null;
         merged.dynamicPlugins = fromStorage != null ? fromStorage.dynamicPlugins : null;
         merged.dynamicPluginJars = fromStorage != null ? fromStorage.dynamicPluginJars : null;
@@ -180,6 +196,8 @@ public class EngineFileConfig {
         merged.queueTopology = fromStorage != null ? fromStorage.queueTopology : null;
         merged.defaultForkPlugin = fromStorage != null ? fromStorage.defaultForkPlugin : null;
         merged.defaultJoinPlugin = fromStorage != null ? fromStorage.defaultJoinPlugin : null;
+        merged.warmup = fromStorage != null ? fromStorage.warmup : null;
+        merged.payloadCodec = fromStorage != null ? fromStorage.payloadCodec : null;
         return merged;
     }
 
@@ -251,4 +269,19 @@ public class EngineFileConfig {
         }
         return Set.copyOf(plugins);
     }
+
+    /**
+     * Plugin names a node may reference: the allow-list plus dynamic plugin names.
+     * Null when there is no allow-list, so any plugin name is accepted.
+     */
+    @JsonIgnore
+    public Set<String> getKnownPluginsEffective() {
+        Set<String> allowed = getPluginsEffective();
+        if (allowed == null) {
+            return null;
+        }
+        Set<String> known = new HashSet<>(allowed);
+        known.addAll(getDynamicPluginsEffective().keySet());
+        return known;
+    }
 }
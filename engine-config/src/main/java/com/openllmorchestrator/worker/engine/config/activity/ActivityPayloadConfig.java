@@ -15,12 +15,17 @@
  */
 package com.openllmorchestrator.worker.engine.config.activity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Set;
+
 /**
  * Limits for activity input/result payload size so Temporal history (DB/Elastic) stays minimal.
- * When set, prefer storing large blobs externally and passing references in context.
+ * Key-count limits bound map size; byte thresholds ({@link #maxValueBytes}, {@link #maxResultBytes}) enable the claim check:
+ * large values are stored in the offload store and only a reference travels through Temporal
+ * (see {@code com.openllmorchestrator.worker.engine.config.offload.PayloadOffloadCodec}).
  */
 @Getter
 @Setter
@@ -34,4 +39,57 @@ public class ActivityPayloadConfig {
      * Max keys in stage result output returned from activity (0 = no limit).
      */
     private int maxResultOutputKeys = 0;
+
+    /** Offload store: Redis (key per blob with TTL). */
+    public static final String STORE_REDIS = "REDIS";
+    /** Offload store: relational DB (table {@code olo_payload_blob}). */
+    public static final String STORE_DB = "DB";
+    /** Offload store: directory on a filesystem shared by all workers (see {@link #offloadDirectory}). */
+    public static final String STORE_FILESYSTEM = "FILESYSTEM";
+    public static final Set<String> STORES = Set.of(STORE_REDIS, STORE_DB, STORE_FILESYSTEM);
+
+    /**
+     * Claim check per value: any output value whose serialized JSON exceeds this many bytes is written to the offload store
+     * and replaced by a reference (0 = never offload single values).
+     */
+    private Long maxValueBytes;
+    /**
+     * Claim check per result: when the serialized output map still exceeds this many bytes, the largest values are offloaded
+     * until it fits (0 = no limit).
+     */
+    private Long maxResultBytes;
+    /** Where offloaded values go: REDIS (default) | DB | FILESYSTEM. */
+    private String offloadStore;
+    /** Lifetime of offloaded values in seconds; should outlive the longest workflow run (0 = never expire). Null = one day. */
+    private Integer referenceTtlSeconds;
+    /** For FILESYSTEM store: base directory. Required when offloadStore is FILESYSTEM. */
+    private String offloadDirectory;
+
+    public static final int DEFAULT_REFERENCE_TTL_SECONDS = 86_400;
+
+    /** True when any byte threshold is set, i.e. values may be replaced by references. */
+    @JsonIgnore
+    public boolean isOffloadEnabled() {
+        return getMaxValueBytesEffective() > 0 || getMaxResultBytesEffective() > 0;
+    }
+
+    @JsonIgnore
+    public long getMaxValueBytesEffective() {
+        return maxValueBytes != null ? maxValueBytes : 0L;
+    }
+
+    @JsonIgnore
+    public long getMaxResultBytesEffective() {
+        return maxResultBytes != null ? maxResultBytes : 0L;
+    }
+
+    @JsonIgnore
+    public int getReferenceTtlSecondsEffective() {
+        return referenceTtlSeconds != null ? referenceTtlSeconds : DEFAULT_REFERENCE_TTL_SECONDS;
+    }
+
+    @JsonIgnore
+    public String getOffloadStoreEffective() {
+        return offloadStore != null && !offloadStore.isBlank() ? offloadStore.trim().toUpperCase() : STORE_REDIS;
+    }
 }
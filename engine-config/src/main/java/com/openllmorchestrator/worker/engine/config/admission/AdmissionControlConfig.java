@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.admission;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Admission control for a pipeline ({@code pipelines.<name>.admission}) or a tenant
+ * ({@code queueTopology.tenantAdmission.<tenantId>}). Limits are checked before a workflow is started, so excess load
+ * is rejected or delayed at the door instead of timing out inside the pipeline. Unset limits are not enforced.
+ * <p>
+ * Example: {@code "admission": { "maxInFlight": 200, "ratePerSecond": 50, "burst": 100, "maxQueueDepth": 500, "onLimit": "DELAY" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AdmissionControlConfig {
+    /** Reject the request immediately (default). */
+    public static final String SHED = "SHED";
+    /** Hold the request until capacity frees up, up to {@link #maxDelayMillis}; then reject. */
+    public static final String DELAY = "DELAY";
+
+    public static final Set<String> ON_LIMIT = Set.of(SHED, DELAY);
+
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 1000L;
+
+    /** Max workflows running at once. Null = unlimited. */
+    private Integer maxInFlight;
+    /** Sustained admission rate (token bucket refill per second). Null = unlimited. */
+    private Double ratePerSecond;
+    /** Token bucket capacity (max burst above the sustained rate). Default: ratePerSecond rounded up. */
+    private Integer burst;
+    /** For DELAY: max requests waiting for admission; beyond this they are shed. Null = unlimited. */
+    private Integer maxQueueDepth;
+    /** SHED (default) | DELAY. */
+    private String onLimit;
+    /** For DELAY: max time a request waits for admission (default 1000 ms). */
+    private Long maxDelayMillis;
+
+    @JsonIgnore
+    public String getOnLimitEffective() {
+        return onLimit != null && !onLimit.isBlank() ? onLimit.trim().toUpperCase() : SHED;
+    }
+
+    @JsonIgnore
+    public int getBurstEffective() {
+        if (burst != null) return burst;
+        return ratePerSecond != null ? (int) Math.max(1, Math.ceil(ratePerSecond)) : 1;
+    }
+
+    @JsonIgnore
+    public long getMaxDelayMillisEffective() {
+        return maxDelayMillis != null ? maxDelayMillis : DEFAULT_MAX_DELAY_MILLIS;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.admission;
+
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared limiters per pipeline and per tenant, created lazily from config. A run is admitted only when both its
+ * tenant limiter and its pipeline limiter admit it; see {@link #acquire(String, PipelineSection, String, QueueTopologyConfig)}.
+ */
+public final class AdmissionLimiterRegistry {
+
+    private final Map<String, StripedAdmissionLimiter> pipelines = new ConcurrentHashMap<>();
+    private final Map<String, StripedAdmissionLimiter> tenants = new ConcurrentHashMap<>();
+
+    /** Limiter for the pipeline, or null when it has no {@code admission} block. */
+    public StripedAdmissionLimiter forPipeline(String pipelineName, PipelineSection pipeline) {
+        if (pipelineName == null || pipeline == null || pipeline.getAdmission() == null) return null;
+        return pipelines.computeIfAbsent(pipelineName, k -> StripedAdmissionLimiter.of(pipeline.getAdmission()));
+    }
+
+    /** Limiter for the tenant, or null when the topology sets no limit for it. */
+    public StripedAdmissionLimiter forTenant(String tenantId, QueueTopologyConfig topology) {
+        if (tenantId == null || topology == null) return null;
+        AdmissionControlConfig config = topology.admissionFor(tenantId);
+        if (config == null) return null;
+        return tenants.computeIfAbsent(tenantId, k -> StripedAdmissionLimiter.of(config));
+    }
+
+    /**
+     * Admits a run against the tenant limiter, then the pipeline limiter; if the pipeline rejects, the tenant permit is
+     * returned. On true, call {@link #release(String, String)} with the same names when the run completes.
+     */
+    public boolean acquire(String pipelineName, PipelineSection pipeline, String tenantId, QueueTopologyConfig topology) throws InterruptedException {
+        StripedAdmissionLimiter tenant = forTenant(tenantId, topology);
+        if (tenant != null && !tenant.acquire()) return false;
+        StripedAdmissionLimiter pipe = forPipeline(pipelineName, pipeline);
+        if (pipe != null && !pipe.acquire()) {
+            if (tenant != null) tenant.release();
+            return false;
+        }
+        return true;
+    }
+
+    /** Releases the permits taken by a successful {@link #acquire}. */
+    public void release(String pipelineName, String tenantId) {
+        StripedAdmissionLimiter pipe = pipelineName != null ? pipelines.get(pipelineName) : null;
+        if (pipe != null) pipe.release();
+        StripedAdmissionLimiter tenant = tenantId != null ? tenants.get(tenantId) : null;
+        if (tenant != null) tenant.release();
+    }
+
+    /** Drops all limiters (e.g. after engine config reload). */
+    public void clear() {
+        pipelines.clear();
+        tenants.clear();
+    }
+}
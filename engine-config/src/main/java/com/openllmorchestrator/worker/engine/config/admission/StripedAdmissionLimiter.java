@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Admission limiter for one pipeline or tenant, shared by all threads of a worker.
+ * Enforces {@code maxInFlight} with striped permit counters and {@code ratePerSecond}/{@code burst} with striped
+ * token buckets (GCRA: each stripe stores its theoretical arrival time), so concurrent callers mostly touch different
+ * cache lines. A caller starts at the stripe chosen by its thread id and moves on to the others when that stripe is exhausted,
+ * so the total limits are exact; only the rate is split evenly, which slightly favours stripes that are hit more often.
+ * <p>
+ * Usage: {@code if (limiter.acquire()) { try { startWorkflow(); } finally { limiter.release(); } } else { reject(); }}
+ */
+public final class StripedAdmissionLimiter {
+
+    private static final int MAX_STRIPES = 16;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int stripes;
+    private final boolean delay;
+    private final long maxDelayNanos;
+    private final int maxQueueDepth;
+
+    /** Free in-flight permits per stripe; null when maxInFlight is unset. */
+    private final AtomicIntegerArray permits;
+    private final int[] permitCapacity;
+    /** GCRA theoretical arrival time per stripe (a full bucket is {@code now - toleranceNanos[i]}); null when ratePerSecond is unset. */
+    private final AtomicLongArray arrival;
+    private final long emissionNanos;
+    /** Burst of each stripe as time credit; stripe bursts add up to the configured burst exactly. */
+    private final long[] toleranceNanos;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public StripedAdmissionLimiter(AdmissionControlConfig config, int stripes) {
+        if (stripes < 1) throw new IllegalArgumentException("stripes must be at least 1");
+        Integer maxInFlight = config.getMaxInFlight();
+        if (maxInFlight != null && maxInFlight < 1) throw new IllegalArgumentException("maxInFlight must be at least 1");
+        Double rate = config.getRatePerSecond();
+        if (rate != null && !(rate > 0)) throw new IllegalArgumentException("ratePerSecond must be positive");
+        int burst = config.getBurstEffective();
+        if (burst < 1) throw new IllegalArgumentException("burst must be at least 1");
+
+        int n = stripes;
+        if (maxInFlight != null) n = Math.min(n, maxInFlight);
+        if (rate != null) n = Math.min(n, burst);
+        this.stripes = Math.max(1, n);
+        this.delay = AdmissionControlConfig.DELAY.equals(config.getOnLimitEffective());
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, config.getMaxDelayMillisEffective()));
+        this.maxQueueDepth = config.getMaxQueueDepth() != null ? config.getMaxQueueDepth() : Integer.MAX_VALUE;
+
+        if (maxInFlight != null) {
+            this.permits = new AtomicIntegerArray(this.stripes);
+            this.permitCapacity = split(maxInFlight, this.stripes);
+            for (int i = 0; i < this.stripes; i++) permits.set(i, permitCapacity[i]);
+        } else {
+            this.permits = null;
+            this.permitCapacity = null;
+        }
+        if (rate != null) {
+            double stripeRate = rate / this.stripes;
+            int[] stripeBurst = split(burst, this.stripes);
+            this.emissionNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / stripeRate));
+            this.toleranceNanos = new long[this.stripes];
+            this.arrival = new AtomicLongArray(this.stripes);
+            long now = System.nanoTime();
+            for (int i = 0; i < this.stripes; i++) {
+                toleranceNanos[i] = emissionNanos * stripeBurst[i];
+                arrival.set(i, now - toleranceNanos[i]);
+            }
+        } else {
+            this.arrival = null;
+            this.emissionNanos = 0;
+            this.toleranceNanos = null;
+        }
+    }
+
+    /** Limiter with one stripe per available processor (capped at 16 and at the configured limits). */
+    public static StripedAdmissionLimiter of(AdmissionControlConfig config) {
+        return new StripedAdmissionLimiter(config, Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Admits according to the configured {@code onLimit}: SHED returns {@link #tryAcquire()} at once; DELAY waits up to
+     * {@code maxDelayMillis} unless {@code maxQueueDepth} requests are already waiting. Call {@link #release()} after an
+     * admitted run completes.
+     *
+     * @return true when admitted
+     */
+    public boolean acquire() throws InterruptedException {
+        if (tryAcquire()) return true;
+        if (!delay || maxDelayNanos == 0) return false;
+        if (waiting.incrementAndGet() > maxQueueDepth) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            long deadline = System.nanoTime() + maxDelayNanos;
+            long park = MIN_PARK_NANOS;
+            while (true) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) return false;
+                LockSupport.parkNanos(this, Math.min(park, left));
+                if (Thread.interrupted()) throw new InterruptedException();
+                if (tryAcquire()) return true;
+                park = Math.min(park << 1, MAX_PARK_NANOS);
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /** Admits without waiting. Takes an in-flight permit and a rate token, or neither. */
+    public boolean tryAcquire() {
+        int home = homeStripe();
+        int permitStripe = -1;
+        if (permits != null) {
+            permitStripe = takePermit(home);
+            if (permitStripe < 0) return false;
+        }
+        if (arrival != null && !takeToken(home, System.nanoTime())) {
+            if (permitStripe >= 0) returnPermit(permitStripe);
+            return false;
+        }
+        return true;
+    }
+
+    /** Returns the in-flight permit of an admitted run. No-op when maxInFlight is unset. */
+    public void release() {
+        if (permits == null) return;
+        int home = homeStripe();
+        for (int k = 0; k < stripes; k++) {
+            int i = (home + k) % stripes;
+            int free = permits.get(i);
+            while (free < permitCapacity[i]) {
+                if (permits.compareAndSet(i, free, free + 1)) return;
+                free = permits.get(i);
+            }
+        }
+    }
+
+    /** Runs currently admitted (maxInFlight minus free permits), or 0 when maxInFlight is unset. */
+    public int inFlight() {
+        if (permits == null) return 0;
+        int used = 0;
+        for (int i = 0; i < stripes; i++) used += permitCapacity[i] - permits.get(i);
+        return used;
+    }
+
+    /** Requests currently waiting in {@link #acquire()}. */
+    public int queued() {
+        return waiting.get();
+    }
+
+    private int takePermit(int home) {
+        for (int k = 0; k < stripes; k++) {
+            int i = (home + k) % stripes;
+            int free = permits.get(i);
+            while (free > 0) {
+                if (permits.compareAndSet(i, free, free - 1)) return i;
+                free = permits.get(i);
+            }
+        }
+        return -1;
+    }
+
+    private void returnPermit(int stripe) {
+        permits.incrementAndGet(stripe);
+    }
+
+    private boolean takeToken(int home, long now) {
+        for (int k = 0; k < stripes; k++) {
+            int i = (home + k) % stripes;
+            long tat = arrival.get(i);
+            while (true) {
+                long next = Math.max(tat, now - toleranceNanos[i]) + emissionNanos;
+                if (next - now > 0) break;
+                if (arrival.compareAndSet(i, tat, next)) return true;
+                tat = arrival.get(i);
+            }
+        }
+        return false;
+    }
+
+    private int homeStripe() {
+        return stripes == 1 ? 0 : (int) (Thread.currentThread().getId() % stripes);
+    }
+
+    private static int[] split(int total, int parts) {
+        int[] out = new int[parts];
+        for (int i = 0; i < parts; i++) out[i] = total / parts + (i < total % parts ? 1 : 0);
+        return out;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.batch;
+
+import com.openllmorchestrator.worker.engine.config.pipeline.BatchConfig;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces items (e.g. embedding requests from concurrent workflow calls) into batches for one plugin invocation.
+ * A batch is handed to the flush consumer when it reaches {@code maxBatchSize} items, or when the oldest item has waited
+ * {@code maxWaitMillis} and the owner calls {@link #flushIfDue(long)} (e.g. from a scheduler using {@link #nanosUntilDue(long)}).
+ * <p>
+ * Thread-safe. Items go into a pre-sized buffer; a flush hands that buffer to the consumer as a read-only list and swaps in
+ * a spare, and the buffer becomes the spare again once the consumer returns. Full and partial flushes therefore allocate
+ * nothing in steady state; only a flush that overlaps a still-running consumer allocates a new buffer. The flush consumer
+ * runs on the calling thread, outside the internal lock, and must not keep the list after it returns (copy it, e.g. with
+ * {@link List#copyOf}, to keep the items).
+ * Use one accumulator per plugin and {@link BatchConfig#getBatchKey() batch key} value.
+ *
+ * @param <T> item type
+ */
+public final class BatchAccumulator<T> {
+
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Consumer<List<T>> flusher;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Batch<T> current;
+    private Batch<T> spare;
+    private long oldestNanos;
+
+    public BatchAccumulator(int maxBatchSize, long maxWaitMillis, Consumer<List<T>> flusher) {
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        if (maxWaitMillis < 0) throw new IllegalArgumentException("maxWaitMillis must not be negative");
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.flusher = Objects.requireNonNull(flusher, "flusher");
+        this.current = new Batch<>(maxBatchSize);
+        this.spare = new Batch<>(maxBatchSize);
+    }
+
+    /** Accumulator sized from a node's {@code batch} directive. */
+    public static <T> BatchAccumulator<T> of(BatchConfig config, Consumer<List<T>> flusher) {
+        return new BatchAccumulator<>(config.getMaxBatchSizeEffective(), config.getMaxWaitMillisEffective(), flusher);
+    }
+
+    /** Adds an item; flushes on this thread when the batch is full. */
+    public void add(T item) {
+        add(item, System.nanoTime());
+    }
+
+    /** Adds an item with an explicit clock reading ({@link System#nanoTime()} scale). */
+    public void add(T item, long nowNanos) {
+        Batch<T> full = null;
+        lock.lock();
+        try {
+            if (current.size == 0) {
+                oldestNanos = nowNanos;
+            }
+            current.items[current.size++] = item;
+            if (current.size == maxBatchSize) {
+                full = take();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            emit(full);
+        }
+    }
+
+    /** Flushes the pending batch if its oldest item has waited at least maxWaitMillis. Returns true if a batch was flushed. */
+    public boolean flushIfDue(long nowNanos) {
+        Batch<T> due;
+        lock.lock();
+        try {
+            if (current.size == 0 || nowNanos - oldestNanos < maxWaitNanos) {
+                return false;
+            }
+            due = take();
+        } finally {
+            lock.unlock();
+        }
+        emit(due);
+        return true;
+    }
+
+    /** Flushes whatever is pending (e.g. on shutdown). Returns the number of items flushed. */
+    public int flush() {
+        Batch<T> pending;
+        lock.lock();
+        try {
+            if (current.size == 0) return 0;
+            pending = take();
+        } finally {
+            lock.unlock();
+        }
+        int flushed = pending.size;
+        emit(pending);
+        return flushed;
+    }
+
+    /** Nanos until the pending batch is due: 0 if due now, {@link Long#MAX_VALUE} if nothing is pending. */
+    public long nanosUntilDue(long nowNanos) {
+        lock.lock();
+        try {
+            if (current.size == 0) return Long.MAX_VALUE;
+            return Math.max(0L, maxWaitNanos - (nowNanos - oldestNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Number of items waiting in the current batch. */
+    public int pending() {
+        lock.lock();
+        try {
+            return current.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /** Hands out the current buffer and swaps in the spare (a new one if the spare is still with a consumer). Caller holds the lock. */
+    private Batch<T> take() {
+        Batch<T> taken = current;
+        current = spare != null ? spare : new Batch<>(maxBatchSize);
+        spare = null;
+        return taken;
+    }
+
+    /** Runs the consumer, then clears the buffer and keeps it as the spare. */
+    private void emit(Batch<T> batch) {
+        try {
+            flusher.accept(batch);
+        } finally {
+            Arrays.fill(batch.items, 0, batch.size, null);
+            batch.size = 0;
+            lock.lock();
+            try {
+                if (spare == null) spare = batch;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Read-only list view over a reusable buffer. */
+    private static final class Batch<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] items;
+        private int size;
+
+        Batch(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) items[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
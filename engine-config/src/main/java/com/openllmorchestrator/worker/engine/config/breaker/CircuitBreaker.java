@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.breaker;
+
+import com.openllmorchestrator.worker.engine.config.pipeline.CircuitBreakerConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-based circuit breaker for one plugin, driven by a {@link CircuitBreakerConfig}.
+ * Callers ask {@link #tryAcquire(long)} before scheduling the plugin and report the outcome with
+ * {@link #onSuccess(long)} or {@link #onFailure(long)}; when {@code tryAcquire} returns false the configured fallback applies.
+ * Probes whose outcome is never reported (cancelled or timed-out activities) do not block the breaker: a half-open
+ * round that has not closed within the open duration re-arms OPEN, as if a probe had failed.
+ * <p>
+ * Lock-free: state is a CAS-guarded int and the sliding window is a ring of outcomes in an {@link AtomicIntegerArray}.
+ * Each slot is swapped with {@code getAndSet}, so the call and failure counters stay exact under concurrent recording.
+ * No allocation per call.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+    /** Transient OPEN -> HALF_OPEN hand-over while probe counters are reset. */
+    private static final int OPENING = 3;
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger probesIssued = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private volatile long openedAtNanos;
+    private volatile long halfOpenAtNanos;
+
+    public CircuitBreaker(int failureRateThreshold, int slidingWindowSize, int minimumCalls, long openDurationMillis, int halfOpenProbes) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+        if (slidingWindowSize < 1) throw new IllegalArgumentException("slidingWindowSize must be at least 1");
+        if (minimumCalls < 1 || minimumCalls > slidingWindowSize) throw new IllegalArgumentException("minimumCalls must be between 1 and slidingWindowSize");
+        if (openDurationMillis <= 0) throw new IllegalArgumentException("openDurationMillis must be positive");
+        if (halfOpenProbes < 1) throw new IllegalArgumentException("halfOpenProbes must be at least 1");
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new AtomicIntegerArray(slidingWindowSize);
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /** Breaker sized from a node's or capability's {@code circuitBreaker} block. */
+    public static CircuitBreaker of(CircuitBreakerConfig config) {
+        return new CircuitBreaker(config.getFailureRateThresholdEffective(), config.getSlidingWindowSizeEffective(),
+                config.getMinimumCallsEffective(), config.getOpenDurationSecondsEffective() * 1000L, config.getHalfOpenProbesEffective());
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Whether a call may proceed ({@link System#nanoTime()} scale). While open, returns false until the open duration
+     * has elapsed; then admits at most {@code halfOpenProbes} trial calls. When those probes have not closed the breaker
+     * within another open duration, it re-arms OPEN.
+     */
+    public boolean tryAcquire(long nowNanos) {
+        int s = state.get();
+        if (s == CLOSED) return true;
+        if (s == OPEN) {
+            if (nowNanos - openedAtNanos < openDurationNanos) return false;
+            // Only the thread that wins OPEN -> OPENING resets the probe counters; others are rejected meanwhile.
+            if (!state.compareAndSet(OPEN, OPENING)) return false;
+            probeSuccesses.set(0);
+            probesIssued.set(0);
+            halfOpenAtNanos = nowNanos;
+            state.set(HALF_OPEN);
+        } else if (s == OPENING) {
+            return false;
+        } else if (nowNanos - halfOpenAtNanos >= openDurationNanos) {
+            // Probes never reported back; treat the round as failed.
+            if (state.compareAndSet(HALF_OPEN, OPENING)) {
+                openedAtNanos = nowNanos;
+                state.set(OPEN);
+            }
+            return false;
+        }
+        return probesIssued.incrementAndGet() <= halfOpenProbes;
+    }
+
+    public void onSuccess() {
+        onSuccess(System.nanoTime());
+    }
+
+    /** Records a successful call. In half-open, closes the breaker once every probe has succeeded. */
+    public void onSuccess(long nowNanos) {
+        int s = state.get();
+        if (s == HALF_OPEN) {
+            if (probeSuccesses.incrementAndGet() >= halfOpenProbes && state.compareAndSet(HALF_OPEN, CLOSED)) {
+                clearWindow();
+            }
+        } else if (s == CLOSED) {
+            record(SUCCESS);
+        }
+    }
+
+    public void onFailure() {
+        onFailure(System.nanoTime());
+    }
+
+    /** Records a failed call. Opens the breaker when the window failure rate reaches the threshold, or on any failed probe. */
+    public void onFailure(long nowNanos) {
+        int s = state.get();
+        if (s == HALF_OPEN) {
+            openedAtNanos = nowNanos;
+            state.compareAndSet(HALF_OPEN, OPEN);
+        } else if (s == CLOSED) {
+            record(FAILURE);
+            int calls = recorded.get();
+            if (calls >= minimumCalls && failures.get() * 100L >= (long) failureRateThreshold * calls) {
+                openedAtNanos = nowNanos;
+                state.compareAndSet(CLOSED, OPEN);
+            }
+        }
+    }
+
+    public State state() {
+        int s = state.get();
+        return s == OPENING ? State.HALF_OPEN : State.values()[s];
+    }
+
+    /** Failure rate in percent over the current window, or -1 when fewer than {@code minimumCalls} calls were recorded. */
+    public int failureRatePercent() {
+        int calls = recorded.get();
+        return calls < minimumCalls || calls == 0 ? -1 : (int) (failures.get() * 100L / calls);
+    }
+
+    private void record(int outcome) {
+        int slot = (int) Math.floorMod(cursor.getAndIncrement(), (long) window.length());
+        adjust(window.getAndSet(slot, outcome), outcome);
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < window.length(); i++) {
+            adjust(window.getAndSet(i, EMPTY), EMPTY);
+        }
+    }
+
+    private void adjust(int previous, int current) {
+        if (previous == current) return;
+        if (previous == EMPTY) recorded.incrementAndGet();
+        if (current == EMPTY) recorded.decrementAndGet();
+        if (previous == FAILURE) failures.decrementAndGet();
+        if (current == FAILURE) failures.incrementAndGet();
+    }
+}
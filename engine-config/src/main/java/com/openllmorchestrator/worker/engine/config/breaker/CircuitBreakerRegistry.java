@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.breaker;
+
+import com.openllmorchestrator.worker.engine.config.pipeline.CircuitBreakerConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CircuitBreaker} per plugin name, created lazily from the first config seen for that plugin.
+ * A plugin shared by several nodes shares one breaker, so failures observed anywhere open it everywhere.
+ * Later configs with different thresholds are ignored; the validator reports them as {@code circuitBreaker.conflict}.
+ */
+public final class CircuitBreakerRegistry {
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /** Breaker for the plugin, or null when {@code config} is null (no breaker configured). */
+    public CircuitBreaker forPlugin(String pluginName, CircuitBreakerConfig config) {
+        if (config == null || pluginName == null) return null;
+        return breakers.computeIfAbsent(pluginName, k -> CircuitBreaker.of(config));
+    }
+
+    /** Existing breaker for the plugin, or null. */
+    public CircuitBreaker get(String pluginName) {
+        return pluginName != null ? breakers.get(pluginName) : null;
+    }
+
+    /** Drops all breakers (e.g. after engine config reload). */
+    public void clear() {
+        breakers.clear();
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
+import com.openllmorchestrator.worker.engine.config.EngineConfigPublisher;
+import com.openllmorchestrator.worker.engine.config.EngineConfigWriter;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.env.EnvConfig;
+import com.openllmorchestrator.worker.engine.config.fragment.FileSystemFragmentStore;
+import com.openllmorchestrator.worker.engine.config.fragment.FragmentResolver;
+import com.openllmorchestrator.worker.engine.config.lint.ConfigLinter;
+import com.openllmorchestrator.worker.engine.config.pipeline.ConfigNormalizer;
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import com.openllmorchestrator.worker.engine.config.validation.EngineConfigValidator;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Command-line entry point of the engine-config jar for bulk work on config files:
+ * <pre>
+ * java -cp engine-config.jar:... com.openllmorchestrator.worker.engine.config.cli.EngineConfigCli validate configs/
+ * </pre>
+ * Files and directories (searched recursively for {@code .json} and {@code .smile}) are read, parsed and processed in
+ * parallel on a fork-join pool; results are printed in input order. {@code push} publishes all configs through one
+ * pooled, pipelined Redis connection ({@link EngineConfigPublisher}), with fragment refs inlined, and only when every file
+ * is valid. Exit code 0 = all files OK, 1 = at least one file failed, 2 = usage error.
+ */
+public final class EngineConfigCli {
+
+    static final String USAGE = String.join("\n",
+            "Usage: engine-config <command> [options] <file|dir>...",
+            "Commands:",
+            "  validate       Parse and validate configs",
+            "  canonicalize   Normalize and rewrite as canonical JSON (in place, or into --out)",
+            "  convert        Convert between JSON (.json) and Smile (.smile); requires --to json|smile",
+            "  push           Validate and publish to Redis as olo:engine:config:<file name>:<configVersion>;",
+            "                 nothing is pushed when any file fails",
+            "Options:",
+            "  --threads N       parallel workers (default: available processors)",
+            "  --fragments DIR   resolve $ref fragments from DIR/<ref>.json",
+            "  --lint            validate: also report performance lint findings",
+            "  --out DIR         canonicalize/convert: output directory (default: next to the input)",
+            "  --to FORMAT       convert: json or smile",
+            "  --host H --port P --password S   push: Redis connection (default: REDIS_HOST, REDIS_PORT, REDIS_PASSWORD)");
+
+    private static final EngineConfigMapper MAPPER = EngineConfigMapper.getInstance();
+    private static final ObjectMapper SMILE = new SmileMapper();
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    EngineConfigCli(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    public static void main(String[] args) {
+        System.exit(new EngineConfigCli(System.out, System.err).run(args));
+    }
+
+    /** Runs the command and returns the exit code. */
+    int run(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        List<Path> files;
+        try {
+            files = collectFiles(options.paths);
+        } catch (IOException e) {
+            err.println("Cannot list input files: " + e.getMessage());
+            return 2;
+        }
+        if (files.isEmpty()) {
+            err.println("No .json or .smile files found");
+            return 2;
+        }
+        FragmentResolver resolver = options.fragments != null ? new FragmentResolver(new FileSystemFragmentStore(options.fragments)) : null;
+        FileCommand command = switch (options.command) {
+            case "validate" -> new ValidateCommand(resolver, options.lint);
+            case "canonicalize" -> new CanonicalizeCommand(options.out);
+            case "convert" -> new ConvertCommand(options.to, options.out);
+            case "push" -> new ValidateCommand(resolver, false);
+            default -> throw new IllegalStateException(options.command);
+        };
+        List<FileResult> results = processAll(files, command, options.threads);
+        int failed = 0;
+        Map<String, String> toPublish = new LinkedHashMap<>();
+        Map<String, Path> keyOwners = new HashMap<>();
+        List<String> duplicateKeys = new ArrayList<>();
+        for (FileResult result : results) {
+            out.println((result.failed ? "FAIL " : "OK   ") + result.file);
+            result.messages.forEach(m -> out.println("     " + m));
+            if (result.failed) {
+                failed++;
+            } else if (result.redisKey != null) {
+                Path owner = keyOwners.putIfAbsent(result.redisKey, result.file);
+                if (owner != null) {
+                    duplicateKeys.add(result.redisKey + " from both " + owner + " and " + result.file);
+                } else {
+                    toPublish.put(result.redisKey, result.json);
+                }
+            }
+        }
+        if ("push".equals(options.command) && !duplicateKeys.isEmpty()) {
+            duplicateKeys.forEach(d -> err.println("Duplicate Redis key " + d));
+            err.println("Nothing pushed: rename the files or give them different configVersions");
+            return 1;
+        }
+        if ("push".equals(options.command) && failed > 0) {
+            err.println("Nothing pushed: " + failed + " of " + results.size() + " file(s) failed validation");
+            return 1;
+        }
+        if ("push".equals(options.command) && !toPublish.isEmpty()) {
+            try (EngineConfigPublisher publisher = new EngineConfigPublisher(options.redis())) {
+                out.println("Pushed " + publisher.publish(toPublish) + " config(s) to Redis");
+            } catch (RuntimeException e) {
+                err.println("Redis push failed: " + e.getMessage());
+                return 1;
+            }
+        }
+        out.println(results.size() + " file(s), " + failed + " failed");
+        return failed == 0 ? 0 : 1;
+    }
+
+    private List<FileResult> processAll(List<Path> files, FileCommand command, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Callable<FileResult>> tasks = new ArrayList<>(files.size());
+            for (Path file : files) {
+                tasks.add(() -> {
+                    try {
+                        return command.process(file);
+                    } catch (IOException | RuntimeException e) {
+                        return FileResult.failed(file, e.getMessage());
+                    }
+                });
+            }
+            List<FileResult> results = new ArrayList<>(files.size());
+            for (Future<FileResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static List<Path> collectFiles(List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    walk.filter(Files::isRegularFile).filter(EngineConfigCli::isConfigFile).sorted().forEach(files::add);
+                }
+            } else if (Files.isRegularFile(path)) {
+                files.add(path);
+            } else {
+                throw new IOException("No such file or directory: " + path);
+            }
+        }
+        return files;
+    }
+
+    private static boolean isConfigFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".json") || name.endsWith(".smile");
+    }
+
+    private static boolean isSmile(Path file) {
+        return file.getFileName().toString().endsWith(".smile");
+    }
+
+    /** File name without the .json/.smile extension. */
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /** Config JSON text of a .json or .smile file. */
+    private static String readJson(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (isSmile(file)) return MAPPER.getObjectMapper().writeValueAsString(SMILE.readTree(bytes));
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Path target(Path file, Path outDir, String extension) {
+        String name = baseName(file) + extension;
+        Path dir = outDir != null ? outDir : file.toAbsolutePath().getParent();
+        return dir.resolve(name);
+    }
+
+    private static void write(Path target, byte[] data) throws IOException {
+        Path parent = target.getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.write(target, data);
+    }
+
+    private interface FileCommand {
+        FileResult process(Path file) throws IOException;
+    }
+
+    /**
+     * Parses and validates; for push also computes the Redis key and the JSON to publish. With a resolver, fragment refs
+     * are inlined and the published JSON is the resolved one, since workers read the key without a resolver. Without a
+     * resolver, a file with refs fails.
+     */
+    private static final class ValidateCommand implements FileCommand {
+        private final FragmentResolver resolver;
+        private final boolean lint;
+        private final EngineConfigValidator validator = new EngineConfigValidator();
+        private final ConfigLinter linter;
+
+        ValidateCommand(FragmentResolver resolver, boolean lint) {
+            this.resolver = resolver;
+            this.lint = lint;
+            this.linter = lint ? new ConfigLinter() : null;
+        }
+
+        @Override
+        public FileResult process(Path file) throws IOException {
+            String json = readJson(file);
+            JsonNode tree = json.contains(FragmentResolver.REF_KEY) ? MAPPER.readTree(json) : null;
+            EngineFileConfig config;
+            if (FragmentResolver.containsRef(tree)) {
+                if (resolver == null) return FileResult.failed(file, "contains $ref fragments; pass --fragments DIR");
+                JsonNode resolved = resolver.resolve(tree);
+                config = MAPPER.getObjectMapper().treeToValue(resolved, EngineFileConfig.class);
+                json = MAPPER.getObjectMapper().writeValueAsString(resolved);
+            } else {
+                config = MAPPER.fromJson(json);
+            }
+            List<ValidationIssue> issues = new ArrayList<>(validator.validate(config));
+            if (lint) issues.addAll(linter.lint(config));
+            List<String> messages = new ArrayList<>(issues.size());
+            issues.forEach(issue -> messages.add(issue.toString()));
+            String key = EngineConfigWriter.redisKey(baseName(file), config.getConfigVersion());
+            return new FileResult(file, messages, EngineConfigValidator.hasErrors(issues), key, json);
+        }
+    }
+
+    /** Normalizes ({@link ConfigNormalizer}) and writes pretty-printed JSON; configs with $ref are left unchanged. */
+    private static final class CanonicalizeCommand implements FileCommand {
+        private final Path outDir;
+
+        CanonicalizeCommand(Path outDir) {
+            this.outDir = outDir;
+        }
+
+        @Override
+        public FileResult process(Path file) throws IOException {
+            String json = readJson(file);
+            if (json.contains(FragmentResolver.REF_KEY) && FragmentResolver.containsRef(MAPPER.readTree(json))) {
+                return new FileResult(file, List.of("skipped: contains $ref fragments"), false, null, null);
+            }
+            EngineFileConfig config = MAPPER.fromJson(json);
+            int changes = ConfigNormalizer.normalize(config).size();
+            Path target = target(file, outDir, ".json");
+            write(target, MAPPER.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(config));
+            return new FileResult(file, List.of(changes + " rewrite(s) -> " + target), false, null, null);
+        }
+    }
+
+    /** Re-encodes the JSON tree as Smile or JSON; content is not validated. */
+    private static final class ConvertCommand implements FileCommand {
+        private final String to;
+        private final Path outDir;
+
+        ConvertCommand(String to, Path outDir) {
+            this.to = to;
+            this.outDir = outDir;
+        }
+
+        @Override
+        public FileResult process(Path file) throws IOException {
+            JsonNode tree = isSmile(file) ? SMILE.readTree(Files.readAllBytes(file)) : MAPPER.readTree(Files.readAllBytes(file));
+            Path target;
+            byte[] data;
+            if ("smile".equals(to)) {
+                target = target(file, outDir, ".smile");
+                data = SMILE.writeValueAsBytes(tree);
+            } else {
+                target = target(file, outDir, ".json");
+                data = MAPPER.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(tree);
+            }
+            if (target.toAbsolutePath().equals(file.toAbsolutePath())) {
+                return new FileResult(file, List.of("skipped: already " + to), false, null, null);
+            }
+            write(target, data);
+            return new FileResult(file, List.of(Files.size(file) + " -> " + data.length + " bytes: " + target), false, null, null);
+        }
+    }
+
+    private record FileResult(Path file, List<String> messages, boolean failed, String redisKey, String json) {
+        static FileResult failed(Path file, String message) {
+            return new FileResult(file, List.of(message != null ? message.replace('\n', ' ') : "failed"), true, null, null);
+        }
+    }
+
+    /** Parsed command line. */
+    static final class Options {
+        String command;
+        final List<Path> paths = new ArrayList<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path fragments;
+        boolean lint;
+        Path out;
+        String to;
+        String host;
+        Integer port;
+        String password;
+
+        static Options parse(String[] args) {
+            if (args.length == 0) throw new IllegalArgumentException("Missing command");
+            Options o = new Options();
+            o.command = args[0];
+            if (!List.of("validate", "canonicalize", "convert", "push").contains(o.command)) {
+                throw new IllegalArgumentException("Unknown command: " + o.command);
+            }
+            for (int i = 1; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--threads" -> o.threads = positiveInt(arg, value(args, ++i, arg));
+                    case "--fragments" -> o.fragments = Paths.get(value(args, ++i, arg));
+                    case "--lint" -> o.lint = true;
+                    case "--out" -> o.out = Paths.get(value(args, ++i, arg));
+                    case "--to" -> o.to = value(args, ++i, arg);
+                    case "--host" -> o.host = value(args, ++i, arg);
+                    case "--port" -> o.port = positiveInt(arg, value(args, ++i, arg));
+                    case "--password" -> o.password = value(args, ++i, arg);
+                    default -> {
+                        if (arg.startsWith("--")) throw new IllegalArgumentException("Unknown option: " + arg);
+                        o.paths.add(Paths.get(arg));
+                    }
+                }
+            }
+            if (o.paths.isEmpty()) throw new IllegalArgumentException("No input files");
+            if ("convert".equals(o.command) && !"json".equals(o.to) && !"smile".equals(o.to)) {
+                throw new IllegalArgumentException("convert requires --to json or --to smile");
+            }
+            return o;
+        }
+
+        /** Redis connection from the options, falling back to REDIS_HOST, REDIS_PORT and REDIS_PASSWORD. */
+        RedisConfig redis() {
+            RedisConfig env = EnvConfig.fromEnvironment().getRedis();
+            return RedisConfig.of(host != null ? host : env.getHost(), port != null ? port : env.getPort(),
+                    password != null ? password : env.getPassword());
+        }
+
+        private static String value(String[] args, int i, String option) {
+            if (i >= args.length) throw new IllegalArgumentException(option + " requires a value");
+            return args[i];
+        }
+
+        private static int positiveInt(String option, String value) {
+            try {
+                int n = Integer.parseInt(value);
+                if (n > 0) return n;
+            } catch (NumberFormatException ignored) {
+                // reported below
+            }
+            throw new IllegalArgumentException(option + " must be a positive integer: " + value);
+        }
+    }
+}
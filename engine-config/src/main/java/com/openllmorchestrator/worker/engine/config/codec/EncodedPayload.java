@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.codec;
+
+import java.util.List;
+
+/**
+ * Result of {@link PayloadCodecChain#encode(byte[])}.
+ *
+ * @param data   encoded bytes
+ * @param codecs codecs actually applied, in encode order; store in the payload metadata and pass back to decode
+ */
+public record EncodedPayload(byte[] data, List<String> codecs) {
+
+    /** Metadata value for {@link PayloadCodecChain#METADATA_KEY}: comma-separated codec names. */
+    public String codecsHeader() {
+        return String.join(",", codecs);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.codec;
+
+import java.io.IOException;
+
+/**
+ * One step of a {@link PayloadCodecChain}. Implementations are stateless and thread-safe.
+ */
+public interface PayloadCodec {
+
+    /** Codec name as used in {@link PayloadCodecConfig#getCodecs()} and in payload metadata. */
+    String name();
+
+    /** Encoded bytes, or {@code data} itself when the codec does not apply to it; the chain then leaves it out of the header. */
+    byte[] encode(byte[] data) throws IOException;
+
+    byte[] decode(byte[] data) throws IOException;
+
+    /** Compression codecs are skipped by the chain below the size threshold and when they do not shrink the data. */
+    default boolean isCompression() {
+        return false;
+    }
+}
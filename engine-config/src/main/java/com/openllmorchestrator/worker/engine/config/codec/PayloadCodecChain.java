@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.codec;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Ordered codecs built from {@link PayloadCodecConfig}. Workers call {@link #encode(byte[])} from their data converter's
+ * payload codec, put {@link EncodedPayload#codecsHeader()} into the payload metadata under {@link #METADATA_KEY},
+ * and call {@link #decode(byte[], String)} with that header. Decoding follows the header, not the current config,
+ * so payloads written before a config change still decode.
+ */
+public final class PayloadCodecChain {
+
+    public static final String METADATA_KEY = "olo-codecs";
+
+    private static final PayloadCodecChain EMPTY = new PayloadCodecChain(List.of(), 0);
+    /** Decoding does not depend on the compression level, so one instance per codec serves every chain. */
+    private static final Map<String, PayloadCodec> DECODERS = Map.of(
+            PayloadCodecConfig.GZIP, new GzipPayloadCodec(),
+            PayloadCodecConfig.DEFLATE, new DeflatePayloadCodec(),
+            PayloadCodecConfig.SMILE, new SmilePayloadCodec());
+
+    private final List<PayloadCodec> codecs;
+    private final int compressionThresholdBytes;
+
+    private PayloadCodecChain(List<PayloadCodec> codecs, int compressionThresholdBytes) {
+        this.codecs = codecs;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    /** Chain for the config; an empty chain (pass-through) when the config is null or disabled. */
+    public static PayloadCodecChain of(PayloadCodecConfig config) {
+        if (config == null || !config.isEnabledEffective()) return EMPTY;
+        int level = config.getCompressionLevelEffective();
+        List<PayloadCodec> codecs = new ArrayList<>();
+        for (String name : config.getCodecsEffective()) {
+            codecs.add(codec(name, level));
+        }
+        return new PayloadCodecChain(List.copyOf(codecs), config.getCompressionThresholdBytesEffective());
+    }
+
+    /** Chain for a pipeline: pipeline {@code payloadCodec} over the engine block. */
+    public static PayloadCodecChain forPipeline(EngineFileConfig config, PipelineSection pipeline) {
+        return of(PayloadCodecConfig.effectiveFor(config, pipeline));
+    }
+
+    /**
+     * Reference codec by name.
+     *
+     * @throws IllegalArgumentException when the name is not one of {@link PayloadCodecConfig#CODECS}
+     */
+    public static PayloadCodec codec(String name, int compressionLevel) {
+        if (PayloadCodecConfig.GZIP.equals(name)) return new GzipPayloadCodec(compressionLevel);
+        if (PayloadCodecConfig.DEFLATE.equals(name)) return new DeflatePayloadCodec(compressionLevel);
+        if (PayloadCodecConfig.SMILE.equals(name)) return new SmilePayloadCodec();
+        throw new IllegalArgumentException("Unknown payload codec: " + name + " (expected one of " + new TreeSet<>(PayloadCodecConfig.CODECS) + ")");
+    }
+
+    public boolean isEmpty() {
+        return codecs.isEmpty();
+    }
+
+    /** Applies the codecs in order. Compression is skipped below the threshold and when it does not shrink the data. */
+    public EncodedPayload encode(byte[] data) throws IOException {
+        if (codecs.isEmpty() || data == null) return new EncodedPayload(data, List.of());
+        List<String> applied = new ArrayList<>(codecs.size());
+        byte[] current = data;
+        for (PayloadCodec codec : codecs) {
+            if (codec.isCompression()) {
+                if (current.length < compressionThresholdBytes) continue;
+                byte[] compressed = codec.encode(current);
+                if (compressed.length >= current.length) continue;
+                current = compressed;
+            } else {
+                byte[] encoded = codec.encode(current);
+                if (encoded == current) continue;
+                current = encoded;
+            }
+            applied.add(codec.name());
+        }
+        return new EncodedPayload(current, List.copyOf(applied));
+    }
+
+    /** Reverses the codecs listed in the header (as written by {@link #encode(byte[])}); null or blank = not encoded. */
+    public byte[] decode(byte[] data, String codecsHeader) throws IOException {
+        if (data == null || codecsHeader == null || codecsHeader.isBlank()) return data;
+        String[] names = codecsHeader.split(",");
+        byte[] current = data;
+        for (int i = names.length - 1; i >= 0; i--) {
+            PayloadCodec codec = DECODERS.get(names[i].trim());
+            if (codec == null) {
+                throw new IOException("Cannot decode payload: unknown codec " + names[i].trim() + " in " + METADATA_KEY);
+            }
+            current = codec.decode(current);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.codec;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Payload codecs applied by the worker data converter to workflow and activity payloads ({@code payloadCodec} at engine
+ * level, {@code pipelines.<name>.payloadCodec} per pipeline). Codecs run in list order on encode and in reverse on decode;
+ * compression is skipped below {@code compressionThresholdBytes} and when it does not shrink the payload.
+ * <p>
+ * Example: {@code "payloadCodec": { "codecs": ["SMILE", "GZIP"], "compressionThresholdBytes": 2048 }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PayloadCodecConfig {
+    /** Binary JSON encoding (Jackson Smile). */
+    public static final String SMILE = "SMILE";
+    public static final String GZIP = "GZIP";
+    public static final String DEFLATE = "DEFLATE";
+    public static final Set<String> CODECS = Set.of(SMILE, GZIP, DEFLATE);
+    public static final Set<String> COMPRESSION_CODECS = Set.of(GZIP, DEFLATE);
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    /** Default true when the block is present; false turns codecs off (per pipeline: for that pipeline). */
+    private Boolean enabled;
+    /** Codec names in encode order: SMILE, GZIP, DEFLATE. Compression should come last. */
+    private List<String> codecs;
+    /** Payloads smaller than this (bytes, after earlier codecs) are not compressed. Default 1024. */
+    private Integer compressionThresholdBytes;
+    /** Deflater level 1 (fast) to 9 (small), or -1 for the JDK default. */
+    private Integer compressionLevel;
+
+    @JsonIgnore
+    public boolean isEnabledEffective() {
+        return !Boolean.FALSE.equals(enabled) && codecs != null && !codecs.isEmpty();
+    }
+
+    @JsonIgnore
+    public List<String> getCodecsEffective() {
+        return codecs != null ? codecs : List.of();
+    }
+
+    @JsonIgnore
+    public int getCompressionThresholdBytesEffective() {
+        return compressionThresholdBytes != null ? compressionThresholdBytes : DEFAULT_COMPRESSION_THRESHOLD_BYTES;
+    }
+
+    @JsonIgnore
+    public int getCompressionLevelEffective() {
+        return compressionLevel != null ? compressionLevel : Deflater.DEFAULT_COMPRESSION;
+    }
+
+    /**
+     * Codec settings for a pipeline: the pipeline block overrides the engine block key by key.
+     * Returns null when neither is set.
+     */
+    public static PayloadCodecConfig effectiveFor(EngineFileConfig config, PipelineSection pipeline) {
+        PayloadCodecConfig engine = config != null ? config.getPayloadCodec() : null;
+        PayloadCodecConfig override = pipeline != null ? pipeline.getPayloadCodec() : null;
+        if (override == null) return engine;
+        if (engine == null) return override;
+        return PayloadCodecConfig.builder()
+                .enabled(override.getEnabled() != null ? override.getEnabled() : engine.getEnabled())
+                .codecs(override.getCodecs() != null ? override.getCodecs() : engine.getCodecs())
+                .compressionThresholdBytes(override.getCompressionThresholdBytes() != null ? override.getCompressionThresholdBytes() : engine.getCompressionThresholdBytes())
+                .compressionLevel(override.getCompressionLevel() != null ? override.getCompressionLevel() : engine.getCompressionLevel())
+                .build();
+    }
+}
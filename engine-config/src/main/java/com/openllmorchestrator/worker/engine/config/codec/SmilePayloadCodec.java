@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary JSON encoding: re-encodes JSON payload bytes as Jackson Smile, which drops quoting and repeats
+ * field names by back-reference. Empty payloads and payloads that do not parse as JSON are passed through unencoded.
+ * <p>
+ * The round trip keeps the JSON value, not the original text. Tokens are copied one by one with their exact number
+ * value, so big integers and decimal precision are kept, but decoding writes compact JSON: whitespace is dropped,
+ * string escapes are normalized and exponent numbers are rewritten ({@code 1e5} decodes as {@code 1E+5}). This also
+ * applies to byte payloads that merely happen to parse as JSON (for example {@code 12} or {@code "x"}). Pipelines that
+ * need byte-identical payloads should not list {@code SMILE}.
+ */
+public final class SmilePayloadCodec implements PayloadCodec {
+
+    private static final JsonFactory JSON = new ObjectMapper().getFactory();
+    private static final JsonFactory SMILE = new SmileMapper().getFactory();
+
+    @Override
+    public String name() {
+        return PayloadCodecConfig.SMILE;
+    }
+
+    @Override
+    public byte[] encode(byte[] data) throws IOException {
+        if (data.length == 0) return data;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+        try (JsonParser parser = JSON.createParser(data); JsonGenerator generator = SMILE.createGenerator(out)) {
+            if (parser.nextToken() == null) return data;
+            do {
+                generator.copyCurrentEventExact(parser);
+            } while (parser.nextToken() != null);
+        } catch (JsonProcessingException e) {
+            return data;
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decode(byte[] data) throws IOException {
+        if (data.length == 0) return data;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 2);
+        try (JsonParser parser = SMILE.createParser(data); JsonGenerator generator = JSON.createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEventExact(parser);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.footprint;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimated heap retained by a parsed config ({@link FootprintEstimator}). Objects shared between pipelines are counted
+ * once, for the first pipeline (in config order) that reaches them; objects reached from engine-level settings count
+ * as {@code engineBytes}.
+ *
+ * @param totalBytes      estimated bytes of the whole config object graph
+ * @param totalObjects    objects in the graph
+ * @param engineBytes     bytes outside {@code pipelines} (capability order, plugins, activity defaults, ...)
+ * @param pipelineBytes   pipeline name → bytes, in config order
+ * @param objectCounts    type → object count (config classes by simple name; Map, List, Set, String, Boxed, Array, Other)
+ * @param bytesByType     type → bytes, same keys as objectCounts
+ * @param largestSubtrees largest capability blocks, groups and nodes, largest first (pipelines are in pipelineBytes)
+ */
+public record ConfigFootprint(
+        long totalBytes,
+        long totalObjects,
+        long engineBytes,
+        Map<String, Long> pipelineBytes,
+        Map<String, Long> objectCounts,
+        Map<String, Long> bytesByType,
+        List<SubtreeFootprint> largestSubtrees) {}
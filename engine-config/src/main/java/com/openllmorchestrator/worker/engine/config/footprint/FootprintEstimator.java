@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.footprint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityBlockConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Estimates the heap a parsed {@link EngineFileConfig} retains by walking its object graph once (each object counted
+ * once, by identity). Sizes follow the HotSpot layout of a 64-bit JVM with compressed references (12-byte headers,
+ * 4-byte references, 8-byte alignment): config classes from their declared fields, JDK collections and strings from
+ * their known layout (hash tables sized as Jackson grows them). JVM-wide shared objects (small cached Integers, Booleans,
+ * enums, empty immutable collections) are not counted. Expect the estimate to be within about 20% of a heap dump.
+ */
+public final class FootprintEstimator {
+
+    public static final int DEFAULT_TOP_SUBTREES = 10;
+
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REF = 4;
+
+    private static final Set<Class<?>> SUBTREE_TYPES = Set.of(CapabilityBlockConfig.class, GroupConfig.class, NodeConfig.class);
+    private static final List<Object> SHARED_EMPTY = List.of(
+            Collections.emptyList(), Collections.emptyMap(), Collections.emptySet(), List.of(), Map.of(), Set.of());
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private FootprintEstimator() {}
+
+    public static ConfigFootprint estimate(EngineFileConfig config) {
+        return estimate(config, DEFAULT_TOP_SUBTREES);
+    }
+
+    /** @param topSubtrees number of largest capability blocks, groups and nodes to report */
+    public static ConfigFootprint estimate(EngineFileConfig config, int topSubtrees) {
+        Walk walk = new Walk(Math.max(0, topSubtrees));
+        Map<String, Long> pipelineBytes = new LinkedHashMap<>();
+        long engineBytes = 0;
+        if (config != null) {
+            Map<String, PipelineSection> pipelines = config.getPipelines();
+            walk.skip = pipelines;
+            engineBytes = walk.visit(config, "$");
+            walk.skip = null;
+            if (pipelines != null && walk.seen.add(pipelines)) {
+                walk.add("Map", mapSize(pipelines));
+                engineBytes += mapSize(pipelines);
+                for (Map.Entry<String, PipelineSection> e : pipelines.entrySet()) {
+                    long bytes = walk.visit(e.getKey(), null) + walk.visit(e.getValue(), "$.pipelines." + e.getKey());
+                    pipelineBytes.merge(String.valueOf(e.getKey()), bytes, Long::sum);
+                }
+            }
+        }
+        List<SubtreeFootprint> largest = new ArrayList<>(walk.top);
+        largest.sort(Comparator.comparingLong(SubtreeFootprint::bytes).reversed());
+        List<Map.Entry<String, long[]>> types = new ArrayList<>(walk.byType.entrySet());
+        types.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed());
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, Long> bytesByType = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> e : types) {
+            counts.put(e.getKey(), e.getValue()[0]);
+            bytesByType.put(e.getKey(), e.getValue()[1]);
+        }
+        return new ConfigFootprint(walk.bytes, walk.objects, engineBytes, pipelineBytes, counts, bytesByType, List.copyOf(largest));
+    }
+
+    private static final class Walk {
+        private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<String, long[]> byType = new HashMap<>();
+        private final PriorityQueue<SubtreeFootprint> top = new PriorityQueue<>(Comparator.comparingLong(SubtreeFootprint::bytes));
+        private final int topN;
+        /** Object not to enter (the pipelines map while walking engine-level fields). */
+        private Object skip;
+        private long bytes;
+        private long objects;
+
+        Walk(int topN) {
+            this.topN = topN;
+        }
+
+        /** Visits the object and everything reachable from it not seen yet; returns the bytes newly counted. */
+        long visit(Object o, String path) {
+            if (o == null || o == skip || isShared(o) || !seen.add(o)) return 0;
+            long startBytes = bytes;
+            long startObjects = objects;
+            Class<?> type = o.getClass();
+            if (o instanceof String s) {
+                add("String", stringSize(s));
+            } else if (o instanceof Map<?, ?> map) {
+                add("Map", mapSize(map));
+                for (Map.Entry<?, ?> e : map.entrySet()) {
+                    visit(e.getKey(), null);
+                    visit(e.getValue(), childPath(path, "." + e.getKey(), e.getValue()));
+                }
+            } else if (o instanceof Collection<?> collection) {
+                add(o instanceof Set ? "Set" : "List", collectionSize(collection));
+                int i = 0;
+                for (Object element : collection) {
+                    visit(element, childPath(path, "[" + i++ + "]", element));
+                }
+            } else if (type.isArray()) {
+                add("Array", arraySize(o));
+                if (o instanceof Object[] array) {
+                    for (Object element : array) visit(element, null);
+                }
+            } else if (o instanceof Number || o instanceof Boolean || o instanceof Character) {
+                add("Boxed", o instanceof Long || o instanceof Double ? 24 : 16);
+            } else if (type.getName().startsWith("com.openllmorchestrator.")) {
+                Layout layout = LAYOUTS.get(type);
+                add(type.getSimpleName(), layout.shallowSize);
+                for (Field field : layout.references) {
+                    Object value;
+                    try {
+                        value = field.get(o);
+                    } catch (IllegalAccessException e) {
+                        continue;
+                    }
+                    visit(value, childPath(path, "." + field.getName(), value));
+                }
+            } else {
+                add("Other", align(HEADER + REF));
+            }
+            long subtree = bytes - startBytes;
+            if (path != null && topN > 0 && SUBTREE_TYPES.contains(type)) {
+                top.offer(new SubtreeFootprint(path, type.getSimpleName(), subtree, objects - startObjects));
+                if (top.size() > topN) top.poll();
+            }
+            return subtree;
+        }
+
+        void add(String type, long size) {
+            long[] totals = byType.computeIfAbsent(type, t -> new long[2]);
+            totals[0]++;
+            totals[1] += size;
+            bytes += size;
+            objects++;
+        }
+    }
+
+    /** Paths are only built for containers and config objects; scalars do not need one. */
+    private static String childPath(String path, String suffix, Object child) {
+        if (path == null || child == null || child instanceof String || child instanceof Number || child instanceof Boolean) return null;
+        return path + suffix;
+    }
+
+    private static boolean isShared(Object o) {
+        if (o instanceof Boolean || o instanceof Enum<?> || o instanceof Class<?>) return true;
+        if (o instanceof Integer i) return i >= -128 && i <= 127;
+        if (o instanceof Long l) return l >= -128 && l <= 127;
+        if (o instanceof Collection<?> || o instanceof Map<?, ?>) {
+            for (Object empty : SHARED_EMPTY) {
+                if (o == empty) return true;
+            }
+        }
+        return false;
+    }
+
+    static long stringSize(String s) {
+        boolean latin1 = true;
+        for (int i = 0; i < s.length() && latin1; i++) {
+            latin1 = s.charAt(i) <= 0xFF;
+        }
+        // String: header, value ref, hash, coder, hashIsZero; then the byte[] (compact strings)
+        return align(HEADER + REF + 4 + 2) + align(ARRAY_HEADER + (long) s.length() * (latin1 ? 1 : 2));
+    }
+
+    static long mapSize(Map<?, ?> map) {
+        return hashTableSize(map.size(), map instanceof LinkedHashMap);
+    }
+
+    static long collectionSize(Collection<?> collection) {
+        if (collection instanceof HashSet) {
+            // HashSet shell (header, map ref) around its backing HashMap / LinkedHashMap
+            return 16 + hashTableSize(collection.size(), collection instanceof LinkedHashSet);
+        }
+        // ArrayList: header, size, modCount, elementData ref; then the Object[]
+        return 24 + align(ARRAY_HEADER + (long) collection.size() * REF);
+    }
+
+    static long arraySize(Object array) {
+        Class<?> component = array.getClass().getComponentType();
+        return align(ARRAY_HEADER + (long) Array.getLength(array) * (component.isPrimitive() ? primitiveSize(component) : REF));
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) return 8;
+        if (type == int.class || type == float.class) return 4;
+        if (type == short.class || type == char.class) return 2;
+        return 1;
+    }
+
+    /** HashMap (or LinkedHashMap when linked) with size entries: shell, table at default load factor, one node per entry. */
+    private static long hashTableSize(int size, boolean linked) {
+        long shell = linked ? 56 : 48;
+        if (size == 0) return shell;
+        int capacity = 16;
+        while (size > capacity * 3L / 4) capacity <<= 1;
+        return shell + align(ARRAY_HEADER + (long) capacity * REF) + (long) size * (linked ? 40 : 32);
+    }
+
+    static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /** Shallow size and reference fields of a config class, including superclass fields. */
+    private record Layout(long shallowSize, List<Field> references) {
+        static Layout of(Class<?> type) {
+            long size = HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    if (field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                    } else {
+                        size += REF;
+                        field.setAccessible(true);
+                        references.add(field);
+                    }
+                }
+            }
+            return new Layout(align(size), List.copyOf(references));
+        }
+    }
+}
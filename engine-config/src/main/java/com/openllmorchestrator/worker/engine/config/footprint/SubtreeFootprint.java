@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.footprint;
+
+/**
+ * One config subtree (capability block, group or node) and the heap it retains.
+ *
+ * @param path    JSON-style path, e.g. {@code $.pipelines.chat.rootByCapability.MODEL}
+ * @param type    config class of the subtree root (e.g. NodeConfig)
+ * @param bytes   estimated bytes first reached through this subtree
+ * @param objects objects first reached through this subtree
+ */
+public record SubtreeFootprint(String path, String type, long bytes, long objects) {}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/** Fragment store backed by a directory: one file {@code <ref>.json} per fragment (e.g. {@code retrieval-group@2.json}). */
+public final class FileSystemFragmentStore implements FragmentStore {
+
+    private final Path directory;
+
+    public FileSystemFragmentStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    @Override
+    public String load(String ref) throws IOException {
+        try {
+            return Files.readString(file(ref), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(String ref, String json) throws IOException {
+        Path target = file(ref);
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, ref, ".tmp");
+        try {
+            Files.writeString(tmp, json, StandardCharsets.UTF_8);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path file(String ref) {
+        if (!FragmentResolver.isValidRef(ref)) throw new IllegalArgumentException("Invalid fragment ref: " + ref);
+        return directory.resolve(ref + ".json");
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@link FragmentExtractor}: the configs with repeated subtrees replaced by {@code $ref} objects, the extracted
+ * fragments by ref, and how many subtrees were replaced. Saving the fragments under their refs and resolving the configs
+ * with a {@link FragmentResolver} yields the original configs.
+ */
+public record FragmentExtraction(List<JsonNode> configs, Map<String, JsonNode> fragments, int replacedSubtrees) {
+
+    /** The first (for single-config extraction, the only) rewritten config. */
+    public JsonNode config() {
+        return configs.get(0);
+    }
+}
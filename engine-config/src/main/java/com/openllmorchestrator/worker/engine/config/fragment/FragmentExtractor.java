@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Finds object subtrees that occur more than once in the {@code pipelines} of one or more configs (e.g. the same capability
+ * group in every tenant's pipelines) and replaces each occurrence with {@code {"$ref": "<kind>-<hash>@1"}}. Subtrees are
+ * compared by content with keys sorted, so key order does not matter. The largest repeated subtrees are extracted first;
+ * repeats inside an extracted subtree become part of that fragment. Subtrees smaller than {@code minBytes} of canonical
+ * JSON are left inline because the ref would save little.
+ * <p>
+ * Fragment names are derived from the content hash, so re-running the extractor on another config reuses the same refs
+ * for the same content, and the pinned version lets {@link FragmentResolver} cache them.
+ */
+public final class FragmentExtractor {
+
+    public static final int DEFAULT_MIN_BYTES = 256;
+
+    private FragmentExtractor() {}
+
+    public static FragmentExtraction extract(JsonNode config) {
+        return extract(List.of(config), DEFAULT_MIN_BYTES);
+    }
+
+    /**
+     * Extracts subtrees repeated within or across the configs. The inputs are not modified.
+     *
+     * @param minBytes minimum canonical JSON size of an extracted subtree
+     */
+    public static FragmentExtraction extract(List<JsonNode> configs, int minBytes) {
+        List<JsonNode> copies = new ArrayList<>(configs.size());
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < configs.size(); i++) {
+            JsonNode copy = configs.get(i).deepCopy();
+            copies.add(copy);
+            JsonNode pipelines = copy.get("pipelines");
+            if (pipelines == null || !pipelines.isObject()) continue;
+            Iterator<Map.Entry<String, JsonNode>> it = pipelines.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> e = it.next();
+                String path = "#" + i + ".pipelines." + e.getKey();
+                collect(e.getValue(), path, "pipelines", new Slot(pipelines, e.getKey(), -1), Math.max(1, minBytes), candidates);
+            }
+        }
+        List<Candidate> ordered = new ArrayList<>(candidates.values());
+        ordered.sort(Comparator.comparingInt(Candidate::size).reversed().thenComparing(Candidate::hash));
+        Map<String, JsonNode> fragments = new LinkedHashMap<>();
+        List<String> extracted = new ArrayList<>();
+        int replaced = 0;
+        for (Candidate candidate : ordered) {
+            List<Occurrence> live = new ArrayList<>();
+            for (Occurrence occurrence : candidate.occurrences) {
+                if (!isUnderAny(occurrence.path, extracted)) live.add(occurrence);
+            }
+            if (live.size() < 2) continue;
+            String ref = candidate.kind + "-" + candidate.hash.substring(0, 12) + "@1";
+            fragments.put(ref, live.get(0).node.deepCopy());
+            for (Occurrence occurrence : live) {
+                ObjectNode refNode = JsonNodeFactory.instance.objectNode().put(FragmentResolver.REF_KEY, ref);
+                occurrence.slot.set(refNode);
+                extracted.add(occurrence.path);
+                replaced++;
+            }
+        }
+        return new FragmentExtraction(List.copyOf(copies), fragments, replaced);
+    }
+
+    /** Returns the canonical JSON (keys sorted) of the node and records object subtrees of at least minBytes. */
+    private static String collect(JsonNode node, String path, String field, Slot slot, int minBytes, Map<String, Candidate> candidates) {
+        if (node.isArray()) {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < node.size(); i++) {
+                if (i > 0) sb.append(',');
+                sb.append(collect(node.get(i), path + "[" + i + "]", field, new Slot(node, null, i), minBytes, candidates));
+            }
+            return sb.append(']').toString();
+        }
+        if (!node.isObject()) return node.toString();
+        List<String> names = new ArrayList<>(node.size());
+        node.fieldNames().forEachRemaining(names::add);
+        names.sort(null);
+        StringBuilder sb = new StringBuilder("{");
+        for (String name : names) {
+            if (sb.length() > 1) sb.append(',');
+            sb.append(TextNode.valueOf(name)).append(':')
+                    .append(collect(node.get(name), path + "." + name, name, new Slot(node, name, -1), minBytes, candidates));
+        }
+        String canonical = sb.append('}').toString();
+        if (canonical.length() >= minBytes && !node.has(FragmentResolver.REF_KEY)) {
+            String hash = FragmentResolver.sha256(canonical);
+            candidates.computeIfAbsent(hash, h -> new Candidate(h, canonical.length(), kind(node, field)))
+                    .occurrences.add(new Occurrence(path, node, slot));
+        }
+        return canonical;
+    }
+
+    private static String kind(JsonNode node, String field) {
+        String type = node.path("type").asText("");
+        if ("GROUP".equalsIgnoreCase(type)) return "group";
+        if ("PLUGIN".equalsIgnoreCase(type) || "STAGE".equalsIgnoreCase(type)) return "plugin";
+        switch (field) {
+            case "pipelines": return "pipeline";
+            case "capabilities":
+            case "stages": return "capability";
+            case "groups":
+            case "children":
+            case "thenChildren":
+            case "elseChildren":
+            case "thenGroup":
+            case "elseGroup": return "group";
+            case "elseifBranches": return "branch";
+            case "retryPolicy": return "retry";
+            default:
+                String kind = field.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+                return kind.isEmpty() ? "fragment" : kind;
+        }
+    }
+
+    private static boolean isUnderAny(String path, List<String> roots) {
+        for (String root : roots) {
+            if (path.startsWith(root) && (path.length() == root.length()
+                    || path.charAt(root.length()) == '.' || path.charAt(root.length()) == '[')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Where a subtree sits in its parent: an object field or an array index. */
+    private record Slot(JsonNode parent, String field, int index) {
+        void set(JsonNode value) {
+            if (field != null) {
+                ((ObjectNode) parent).set(field, value);
+            } else {
+                ((ArrayNode) parent).set(index, value);
+            }
+        }
+    }
+
+    private record Occurrence(String path, JsonNode node, Slot slot) {}
+
+    private static final class Candidate {
+        private final String hash;
+        private final int size;
+        private final String kind;
+        private final List<Occurrence> occurrences = new ArrayList<>();
+
+        Candidate(String hash, int size, String kind) {
+            this.hash = hash;
+            this.size = size;
+            this.kind = kind;
+        }
+
+        int size() {
+            return size;
+        }
+
+        String hash() {
+            return hash;
+        }
+    }
+}
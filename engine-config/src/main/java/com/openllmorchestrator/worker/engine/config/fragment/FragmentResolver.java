@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Inlines fragment references before a config is deserialized. Any object {@code {"$ref": "<name>[@<version>]"}} anywhere
+ * in the config (a group, capability block, retry policy, whole pipeline, ...) is replaced by the fragment loaded from the
+ * {@link FragmentStore}. Other keys next to {@code $ref} override the fragment's top-level keys, so an object fragment such
+ * as {@code {"timeoutSeconds": 120, "retryPolicy": {...}}} works as a timeout/retry profile on PLUGIN nodes. Fragments may
+ * reference other fragments up to {@link #MAX_DEPTH} levels; cycles are rejected.
+ * <p>
+ * Parsed fragments are cached by the SHA-256 of their JSON, so identical content is parsed once however many refs or
+ * versions point to it. Versioned refs ({@code name@version}) are treated as immutable and served from the cache without
+ * reading the store again; unversioned refs are read once per {@link #resolve} call. Thread-safe.
+ */
+public final class FragmentResolver {
+
+    public static final String REF_KEY = "$ref";
+    /** Maximum nesting of fragments that reference fragments. */
+    public static final int MAX_DEPTH = 16;
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final Pattern REF_PATTERN = Pattern.compile("[A-Za-z0-9._-]+(@[A-Za-z0-9._-]+)?");
+
+    private final FragmentStore store;
+    private final EngineConfigMapper mapper;
+    private final Map<String, JsonNode> byHash;
+    private final Map<String, String> versionedRefs;
+
+    public FragmentResolver(FragmentStore store) {
+        this(store, EngineConfigMapper.getInstance(), DEFAULT_CACHE_SIZE);
+    }
+
+    public FragmentResolver(FragmentStore store, EngineConfigMapper mapper, int cacheSize) {
+        if (cacheSize < 1) throw new IllegalArgumentException("cacheSize must be >= 1");
+        this.store = Objects.requireNonNull(store, "store");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.byHash = lru(cacheSize);
+        this.versionedRefs = lru(cacheSize);
+    }
+
+    /** True if the ref is {@code name} or {@code name@version} using letters, digits, '.', '_' and '-'. */
+    public static boolean isValidRef(String ref) {
+        return ref != null && REF_PATTERN.matcher(ref).matches();
+    }
+
+    /** True if the ref pins a version ({@code name@version}). */
+    public static boolean isVersioned(String ref) {
+        return ref != null && ref.indexOf('@') > 0;
+    }
+
+    /** True if the tree contains a {@code $ref} object anywhere. */
+    public static boolean containsRef(JsonNode node) {
+        if (node == null) return false;
+        if (node.isObject() && node.has(REF_KEY)) return true;
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                if (containsRef(child)) return true;
+            }
+        }
+        return false;
+    }
+
+    /** Parses the config JSON with all fragment refs inlined. Configs without refs are parsed directly. */
+    public EngineFileConfig readConfig(String json) throws IOException {
+        if (!json.contains(REF_KEY)) return mapper.fromJson(json);
+        return mapper.getObjectMapper().treeToValue(resolve(mapper.readTree(json)), EngineFileConfig.class);
+    }
+
+    /** Returns the JSON with all fragment refs inlined, or the input unchanged when it has none. */
+    public String resolveJson(String json) throws IOException {
+        if (!json.contains(REF_KEY)) return json;
+        JsonNode tree = mapper.readTree(json);
+        if (!containsRef(tree)) return json;
+        return mapper.getObjectMapper().writeValueAsString(resolve(tree));
+    }
+
+    /**
+     * Returns a copy of the tree with all fragment refs inlined; returns the tree itself when it has none.
+     *
+     * @throws IllegalArgumentException if a ref is malformed, missing from the store, cyclic or nested too deeply
+     */
+    public JsonNode resolve(JsonNode config) throws IOException {
+        if (!containsRef(config)) return config;
+        return resolveNode(config.deepCopy(), "$", new ArrayDeque<>(), new HashMap<>());
+    }
+
+    /** Number of distinct fragment contents currently cached. */
+    public int cachedFragments() {
+        synchronized (byHash) {
+            return byHash.size();
+        }
+    }
+
+    public void clearCache() {
+        synchronized (byHash) {
+            byHash.clear();
+        }
+        synchronized (versionedRefs) {
+            versionedRefs.clear();
+        }
+    }
+
+    private JsonNode resolveNode(JsonNode node, String path, Deque<String> stack, Map<String, JsonNode> loaded) throws IOException {
+        if (node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, resolveNode(array.get(i), path + "[" + i + "]", stack, loaded));
+            }
+            return array;
+        }
+        if (!node.isObject()) return node;
+        ObjectNode object = (ObjectNode) node;
+        if (!object.has(REF_KEY)) {
+            List<String> names = new ArrayList<>(object.size());
+            object.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                object.set(name, resolveNode(object.get(name), path + "." + name, stack, loaded));
+            }
+            return object;
+        }
+        String ref = object.get(REF_KEY).asText(null);
+        if (!isValidRef(ref)) {
+            throw new IllegalArgumentException("Invalid fragment ref at " + path + ": " + object.get(REF_KEY));
+        }
+        if (stack.contains(ref)) {
+            throw new IllegalArgumentException("Fragment cycle at " + path + ": " + String.join(" -> ", stack) + " -> " + ref);
+        }
+        if (stack.size() >= MAX_DEPTH) {
+            throw new IllegalArgumentException("Fragments nested deeper than " + MAX_DEPTH + " at " + path);
+        }
+        stack.addLast(ref);
+        JsonNode resolved = resolveNode(fragment(ref, path, loaded).deepCopy(), path, stack, loaded);
+        stack.removeLast();
+        if (object.size() == 1) return resolved;
+        if (!resolved.isObject()) {
+            throw new IllegalArgumentException("Fragment " + ref + " at " + path + " is not an object; keys next to $ref need an object fragment");
+        }
+        ObjectNode merged = (ObjectNode) resolved;
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (REF_KEY.equals(field.getKey())) continue;
+            merged.set(field.getKey(), resolveNode(field.getValue(), path + "." + field.getKey(), stack, loaded));
+        }
+        return merged;
+    }
+
+    /** Shared parsed tree for the ref; callers copy it before changing it. */
+    private JsonNode fragment(String ref, String path, Map<String, JsonNode> loaded) throws IOException {
+        JsonNode tree = loaded.get(ref);
+        if (tree != null) return tree;
+        boolean versioned = isVersioned(ref);
+        if (versioned) {
+            String hash;
+            synchronized (versionedRefs) {
+                hash = versionedRefs.get(ref);
+            }
+            if (hash != null) {
+                synchronized (byHash) {
+                    tree = byHash.get(hash);
+                }
+            }
+        }
+        if (tree == null) {
+            String raw = store.load(ref);
+            if (raw == null) throw new IllegalArgumentException("Fragment not found at " + path + ": " + ref);
+            String hash = sha256(raw);
+            synchronized (byHash) {
+                tree = byHash.get(hash);
+            }
+            if (tree == null) {
+                tree = mapper.readTree(raw);
+                synchronized (byHash) {
+                    byHash.put(hash, tree);
+                }
+            }
+            if (versioned) {
+                synchronized (versionedRefs) {
+                    versionedRefs.put(ref, hash);
+                }
+            }
+        }
+        loaded.put(ref, tree);
+        return tree;
+    }
+
+    static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static <V> Map<String, V> lru(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
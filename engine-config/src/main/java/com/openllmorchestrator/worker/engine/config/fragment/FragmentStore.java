@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import java.io.IOException;
+
+/**
+ * Storage for config fragments referenced with {@code {"$ref": "<name>[@<version>]"}}. Refs are used as keys as written;
+ * see {@link FragmentResolver#isValidRef(String)} for the allowed characters.
+ */
+public interface FragmentStore {
+
+    /** Returns the fragment JSON, or null when no fragment is stored under the ref. */
+    String load(String ref) throws IOException;
+
+    /** Stores the fragment JSON under the ref, replacing any previous content. */
+    void save(String ref, String json) throws IOException;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Fragment store held in memory, e.g. for fragments produced by {@link FragmentExtractor} before they are written elsewhere. */
+public final class InMemoryFragmentStore implements FragmentStore {
+
+    private final Map<String, String> fragments = new ConcurrentHashMap<>();
+
+    public InMemoryFragmentStore() {}
+
+    public InMemoryFragmentStore(Map<String, String> fragments) {
+        this.fragments.putAll(Objects.requireNonNull(fragments, "fragments"));
+    }
+
+    @Override
+    public String load(String ref) {
+        return fragments.get(ref);
+    }
+
+    @Override
+    public void save(String ref, String json) {
+        fragments.put(Objects.requireNonNull(ref, "ref"), Objects.requireNonNull(json, "json"));
+    }
+
+    /** Snapshot of the stored fragments by ref. */
+    public Map<String, String> asMap() {
+        return Map.copyOf(fragments);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.fragment;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+
+import java.util.Objects;
+
+/** Fragment store backed by Redis: one key per fragment ({@code olo:engine:fragment:<ref>}). Uses a connection pool. */
+public final class RedisFragmentStore implements FragmentStore, AutoCloseable {
+
+    public static final String KEY_PREFIX = "olo:engine:fragment:";
+
+    private final JedisPooled jedis;
+
+    public RedisFragmentStore(RedisConfig redis) {
+        Objects.requireNonNull(redis, "redis");
+        DefaultJedisClientConfig.Builder client = DefaultJedisClientConfig.builder();
+        if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
+            client.password(redis.getPassword());
+        }
+        this.jedis = new JedisPooled(new HostAndPort(redis.getHost(), redis.getPort()), client.build());
+    }
+
+    public RedisFragmentStore(JedisPooled jedis) {
+        this.jedis = Objects.requireNonNull(jedis, "jedis");
+    }
+
+    @Override
+    public String load(String ref) {
+        return jedis.get(KEY_PREFIX + ref);
+    }
+
+    @Override
+    public void save(String ref, String json) {
+        jedis.set(KEY_PREFIX + ref, json);
+    }
+
+    @Override
+    public void close() {
+        jedis.close();
+    }
+}
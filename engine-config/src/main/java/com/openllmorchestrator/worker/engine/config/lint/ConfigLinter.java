@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Runs {@link LintRule}s over a parsed engine config. The default constructor uses the built-in rules plus every rule
+ * found with {@link ServiceLoader} on the context class loader.
+ * <pre>{@code
+ * List<ValidationIssue> findings = new ConfigLinter().lint(config);
+ * }</pre>
+ * A rule that throws is reported as a {@code lint.ruleFailed} warning; the other rules still run.
+ */
+public final class ConfigLinter {
+
+    private final List<LintRule> rules;
+    private final List<String> loadErrors;
+
+    public ConfigLinter() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    /** Built-in rules plus rules discovered on the given class loader. */
+    public ConfigLinter(ClassLoader classLoader) {
+        Map<String, LintRule> byId = new LinkedHashMap<>();
+        for (LintRule rule : builtInRules()) byId.put(rule.id(), rule);
+        List<String> errors = new ArrayList<>();
+        Iterator<LintRule> it = ServiceLoader.load(LintRule.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!it.hasNext()) break;
+                LintRule rule = it.next();
+                byId.put(rule.id(), rule);
+            } catch (ServiceConfigurationError e) {
+                errors.add(e.getMessage());
+            }
+        }
+        this.rules = List.copyOf(byId.values());
+        this.loadErrors = List.copyOf(errors);
+    }
+
+    /** Only the given rules; no discovery. */
+    public ConfigLinter(List<LintRule> rules) {
+        this.rules = List.copyOf(Objects.requireNonNull(rules, "rules"));
+        this.loadErrors = List.of();
+    }
+
+    /** Built-in rules, in execution order. */
+    public static List<LintRule> builtInRules() {
+        return List.of(
+                new FanOutRule(),
+                new OutputKeyLimitRule(),
+                new QueueTimeoutRule(),
+                new NonIdempotentRetryRule(),
+                new GroupDepthRule(),
+                new UnusedFeatureRule()
+        );
+    }
+
+    public List<LintRule> getRules() {
+        return rules;
+    }
+
+    /** Runs all rules. Returns an empty list when nothing is flagged or the config is null. */
+    public List<ValidationIssue> lint(EngineFileConfig config) {
+        if (config == null) return Collections.emptyList();
+        List<ValidationIssue> findings = new ArrayList<>();
+        for (String error : loadErrors) {
+            findings.add(ValidationIssue.warning("lint.ruleLoad", "$", "lint rule could not be loaded: " + error));
+        }
+        for (LintRule rule : rules) {
+            try {
+                rule.check(config, findings);
+            } catch (RuntimeException e) {
+                findings.add(ValidationIssue.warning("lint.ruleFailed", "$", "lint rule " + rule.id() + " failed: " + e));
+            }
+        }
+        return findings;
+    }
+}
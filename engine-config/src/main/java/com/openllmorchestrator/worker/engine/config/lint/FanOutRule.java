@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.ElseIfBranchConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.ElseIfBranchNodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags ASYNC groups and PARALLEL iterators whose peak concurrency exceeds {@link #MAX_FAN_OUT} activities per run.
+ * Peak concurrency is the sum over ASYNC children, the maximum over SYNC children and branches, and maxParallelism
+ * times the body for PARALLEL iteration. Each run then holds that many activity slots at once, so a few concurrent
+ * runs can drain a worker. Only the outermost offending group is reported.
+ */
+public final class FanOutRule implements LintRule {
+
+    public static final String ID = "lint.fanOut";
+    /** Activities one run may hold at once before it is flagged. */
+    public static final int MAX_FAN_OUT = 32;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            String base = "$.pipelines." + e.getKey();
+            if (pipeline.getRoot() != null) reportNode(base + ".root", pipeline.getRoot(), issues);
+            if (pipeline.getRootByCapability() != null) {
+                for (Map.Entry<String, NodeConfig> r : pipeline.getRootByCapability().entrySet()) {
+                    reportNode(base + ".rootByCapability." + r.getKey(), r.getValue(), issues);
+                }
+            }
+            GroupWalker.walk(base, pipeline, (path, group, depth) -> {
+                boolean fanOut = group.isAsync() || (group.isIterative() && group.getIteration() != null && group.getIteration().isParallel());
+                long peak = fanOut ? peak(group) : 0;
+                if (peak <= MAX_FAN_OUT) return true;
+                add(path, peak, issues);
+                return false;
+            });
+        }
+    }
+
+    private static void add(String path, long peak, List<ValidationIssue> issues) {
+        issues.add(ValidationIssue.warning(ID, path, "can run up to " + peak + " activities at once per run (lint limit " + MAX_FAN_OUT
+                + "); each run holds that many activity slots, so a few concurrent runs starve the worker. Bound it with a PARALLEL iterator's maxParallelism or split the group"));
+    }
+
+    // --- NodeConfig trees ---
+
+    private static void reportNode(String path, NodeConfig node, List<ValidationIssue> issues) {
+        if (node == null || node.isPlugin()) return;
+        boolean fanOut = "ASYNC".equalsIgnoreCase(node.getExecutionMode()) || (node.isIterative() && node.getIteration() != null && node.getIteration().isParallel());
+        if (fanOut) {
+            long peak = peak(node);
+            if (peak > MAX_FAN_OUT) {
+                add(path, peak, issues);
+                return;
+            }
+        }
+        reportNodes(path + ".children", node.getChildren(), issues);
+        reportNodes(path + ".thenChildren", node.getThenChildren(), issues);
+        reportNode(path + ".thenGroup", node.getThenGroup(), issues);
+        List<ElseIfBranchNodeConfig> branches = node.getElseifBranchesSafe();
+        for (int i = 0; i < branches.size(); i++) {
+            if (branches.get(i) == null) continue;
+            reportNodes(path + ".elseifBranches[" + i + "].then", branches.get(i).getThen(), issues);
+            reportNode(path + ".elseifBranches[" + i + "].thenGroup", branches.get(i).getThenGroup(), issues);
+        }
+        reportNodes(path + ".elseChildren", node.getElseChildren(), issues);
+        reportNode(path + ".elseGroup", node.getElseGroup(), issues);
+    }
+
+    private static void reportNodes(String path, List<NodeConfig> nodes, List<ValidationIssue> issues) {
+        if (nodes == null) return;
+        for (int i = 0; i < nodes.size(); i++) reportNode(path + "[" + i + "]", nodes.get(i), issues);
+    }
+
+    static long peak(NodeConfig node) {
+        if (node == null) return 0;
+        if (node.isPlugin()) return 1;
+        long body;
+        if (node.isConditional()) {
+            body = Math.max(1, branch(node.getThenGroup(), node.getThenChildrenSafe()));
+            for (ElseIfBranchNodeConfig b : node.getElseifBranchesSafe()) {
+                if (b != null) body = Math.max(body, branch(b.getThenGroup(), b.getThenSafe()));
+            }
+            body = Math.max(body, branch(node.getElseGroup(), node.getElseChildrenSafe()));
+        } else {
+            boolean async = "ASYNC".equalsIgnoreCase(node.getExecutionMode());
+            body = 0;
+            for (NodeConfig child : node.getChildren()) {
+                long p = peak(child);
+                body = async ? body + p : Math.max(body, p);
+            }
+        }
+        if (node.isIterative() && node.getIteration() != null && node.getIteration().isParallel()) {
+            body *= node.getIteration().getMaxParallelismEffective();
+        }
+        return body;
+    }
+
+    private static long branch(NodeConfig group, List<NodeConfig> children) {
+        if (group != null) return peak(group);
+        long p = 0;
+        for (NodeConfig child : children) p = Math.max(p, peak(child));
+        return p;
+    }
+
+    // --- GroupConfig trees (activity-name children) ---
+
+    static long peak(GroupConfig group) {
+        if (group == null) return 0;
+        long body;
+        if (group.isConditional()) {
+            body = Math.max(1, branch(GroupWalker.asGroup(group.getThenGroup()), group.getThenChildrenSafe()));
+            for (ElseIfBranchConfig b : group.getElseifBranchesSafe()) {
+                if (b != null) body = Math.max(body, branch(GroupWalker.asGroup(b.getThenGroup()), b.getThenSafe()));
+            }
+            body = Math.max(body, branch(GroupWalker.asGroup(group.getElseGroup()), group.getElseChildrenSafe()));
+        } else {
+            body = 0;
+            for (Object child : group.getChildrenAsList()) {
+                long p = itemPeak(child);
+                body = group.isAsync() ? body + p : Math.max(body, p);
+            }
+        }
+        if (group.isIterative() && group.getIteration() != null && group.getIteration().isParallel()) {
+            body *= group.getIteration().getMaxParallelismEffective();
+        }
+        return body;
+    }
+
+    private static long branch(GroupConfig group, List<Object> children) {
+        if (group != null) return peak(group);
+        long p = 0;
+        for (Object child : children) p = Math.max(p, itemPeak(child));
+        return p;
+    }
+
+    private static long itemPeak(Object item) {
+        if (item instanceof String) return 1;
+        return peak(GroupWalker.asGroup(item));
+    }
+}
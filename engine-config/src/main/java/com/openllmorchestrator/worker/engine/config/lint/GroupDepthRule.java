@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.IterationConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags group nesting within one level of its limit: the nearest {@code maxDepth} on the group or an enclosing group,
+ * else {@code defaultMaxGroupDepth}. Every level adds a scope to the plan and to each run, and nesting beyond the limit
+ * fails the plan build. A PARALLEL iterator wraps its body in an implicit fan-out group, so it counts one extra level.
+ * Reported once per capability, at the group closest to its limit; single-child groups can be flattened with
+ * {@code ConfigNormalizer}.
+ */
+public final class GroupDepthRule implements LintRule {
+
+    public static final String ID = "lint.groupDepth";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            int max = pipeline.getDefaultMaxGroupDepth();
+            String base = "$.pipelines." + e.getKey();
+            if (pipeline.getRoot() != null) checkTree(base + ".root", pipeline.getRoot(), max, issues);
+            if (pipeline.getRootByCapability() != null) {
+                for (Map.Entry<String, NodeConfig> r : pipeline.getRootByCapability().entrySet()) {
+                    checkTree(base + ".rootByCapability." + r.getKey(), r.getValue(), max, issues);
+                }
+            }
+            if (pipeline.getCapabilities() == null) continue;
+            for (int b = 0; b < pipeline.getCapabilities().size(); b++) {
+                Closest closest = new Closest(max);
+                GroupWalker.walkBlock(base + ".capabilities[" + b + "]", pipeline.getCapabilities().get(b), (path, group, depth) -> {
+                    closest.offer(path, depth, group.getMaxDepth(), parallel(group.getIteration(), group.isIterative()));
+                    return true;
+                });
+                report(closest, issues);
+            }
+        }
+    }
+
+    private static void checkTree(String path, NodeConfig root, int max, List<ValidationIssue> issues) {
+        Closest closest = new Closest(max);
+        PipelineWalker.walkNode(path, root, 1, (p, node, depth) -> {
+            if (node.isGroup()) closest.offer(p, depth, node.getMaxDepth(), parallel(node.getIteration(), node.isIterative()));
+        });
+        report(closest, issues);
+    }
+
+    private static boolean parallel(IterationConfig iteration, boolean iterative) {
+        return iterative && iteration != null && iteration.isParallel();
+    }
+
+    private static void report(Closest closest, List<ValidationIssue> issues) {
+        if (closest.path == null || closest.depth < closest.limit - 1) return;
+        issues.add(ValidationIssue.warning(ID, closest.path, "group nesting reaches depth " + closest.depth + " of maxDepth " + closest.limit
+                + " (PARALLEL iterators count one extra level); nesting beyond the limit fails the plan build, and each level adds scheduling scope per run. Flatten single-child or SYNC-in-SYNC groups"));
+    }
+
+    /**
+     * Tracks the group with the least headroom below its limit. Groups arrive depth-first, so the enclosing groups of the
+     * current one are the stacked paths that prefix its path.
+     */
+    private static final class Closest {
+        private final int pipelineMax;
+        private final Deque<Scope> scopes = new ArrayDeque<>();
+        String path;
+        int depth;
+        int limit;
+
+        Closest(int pipelineMax) {
+            this.pipelineMax = pipelineMax;
+        }
+
+        void offer(String p, int nesting, Integer maxDepth, boolean parallel) {
+            while (!scopes.isEmpty() && !p.startsWith(scopes.peek().path + ".")) scopes.pop();
+            Scope outer = scopes.peek();
+            int extra = outer != null ? outer.extra : 0;
+            int max = maxDepth != null ? maxDepth : outer != null ? outer.limit : pipelineMax;
+            int d = nesting + extra + (parallel ? 1 : 0);
+            scopes.push(new Scope(p, extra + (parallel ? 1 : 0), max));
+            if (max < 2) return;
+            if (path == null || d - max > depth - limit) {
+                path = p;
+                depth = d;
+                limit = max;
+            }
+        }
+    }
+
+    private record Scope(String path, int extra, int limit) {}
+}
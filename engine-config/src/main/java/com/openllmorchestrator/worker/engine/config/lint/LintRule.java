@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.validation.ConfigCheck;
+
+/**
+ * A performance lint rule: flags configs that are valid but likely slow or wasteful. Findings are
+ * {@link com.openllmorchestrator.worker.engine.config.validation.ValidationIssue}s with a severity and JSON path;
+ * {@link #check} appends them and never throws for odd configs.
+ * <p>
+ * Rules outside this module are registered for {@link java.util.ServiceLoader} in
+ * {@code META-INF/services/com.openllmorchestrator.worker.engine.config.lint.LintRule} and need a public no-arg
+ * constructor. A discovered rule with the same {@link #id()} as a built-in rule replaces it.
+ */
+public interface LintRule extends ConfigCheck {
+
+    /** Stable identifier, also used as the issue code (e.g. {@code lint.fanOut}). */
+    String id();
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags retries and hedging on plugin types with side effects ({@link AllowedPluginTypes#nonIdempotent()}). A retried
+ * or duplicated tool call, charge or agent action runs again; besides the duplicate effect, each attempt costs a full
+ * activity round trip.
+ */
+public final class NonIdempotentRetryRule implements LintRule {
+
+    public static final String ID = "lint.retryNonIdempotent";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineWalker.walk("$.pipelines." + e.getKey(), e.getValue(), (path, node, depth) -> {
+                if (!node.isPlugin() || !AllowedPluginTypes.isNonIdempotent(node.getPluginType())) return;
+                RetryPolicyConfig retry = NodeActivitySettings.retryPolicy(config, node);
+                if (retry.getMaximumAttempts() != 1) {
+                    String attempts = retry.getMaximumAttempts() <= 0 ? "unlimited" : String.valueOf(retry.getMaximumAttempts());
+                    issues.add(ValidationIssue.warning(ID, node.getRetryPolicy() != null ? path + ".retryPolicy" : path,
+                            node.getPluginType() + " has side effects but is retried (" + attempts
+                                    + " attempts); set retryPolicy.maximumAttempts to 1 or make the plugin idempotent"));
+                }
+                if (node.getHedge() != null) {
+                    issues.add(ValidationIssue.warning(ID, path + ".hedge", node.getPluginType() + " has side effects; hedging duplicates the call"));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.ActivityPayloadConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags {@code activity.payload.maxAccumulatedOutputKeys = 0} (no limit) on pipelines with at least
+ * {@link #LARGE_PIPELINE_PLUGINS} plugins. Every activity then receives the outputs of all earlier plugins, so activity
+ * inputs and workflow history grow with each step.
+ */
+public final class OutputKeyLimitRule implements LintRule {
+
+    public static final String ID = "lint.outputKeys";
+    public static final int LARGE_PIPELINE_PLUGINS = 10;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        ActivityPayloadConfig payload = config.getActivity() != null ? config.getActivity().getPayload() : null;
+        if (payload != null && payload.getMaxAccumulatedOutputKeys() > 0) return;
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            int[] plugins = {0};
+            PipelineWalker.walk("$", pipeline, (path, node, depth) -> {
+                if (node.isPlugin()) plugins[0]++;
+            });
+            GroupWalker.walk("$", pipeline, new GroupWalker.GroupVisitor() {
+                @Override
+                public boolean visit(String path, GroupConfig group, int depth) {
+                    return true;
+                }
+
+                @Override
+                public void activity(String path, String name, int depth) {
+                    plugins[0]++;
+                }
+            });
+            if (plugins[0] >= LARGE_PIPELINE_PLUGINS) {
+                issues.add(ValidationIssue.warning(ID, "$.activity.payload.maxAccumulatedOutputKeys", "pipeline " + e.getKey() + " has " + plugins[0]
+                        + " plugins and accumulated output is unlimited (maxAccumulatedOutputKeys 0); every activity receives all earlier outputs, inflating payloads and history. Set a key limit"));
+            }
+        }
+    }
+}
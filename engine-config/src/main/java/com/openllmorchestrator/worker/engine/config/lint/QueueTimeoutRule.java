@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.ActivityTimeoutsConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags schedule-to-start timeouts above {@link #MAX_SCHEDULE_TO_START_SECONDS} (activity defaults and node overrides).
+ * A long schedule-to-start lets tasks wait on a queue without workers, so a stuck or under-provisioned queue shows up
+ * as slow runs instead of timeouts that can be alerted on and retried elsewhere.
+ */
+public final class QueueTimeoutRule implements LintRule {
+
+    public static final String ID = "lint.scheduleToStart";
+    public static final int MAX_SCHEDULE_TO_START_SECONDS = 300;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        ActivityTimeoutsConfig defaults = config.getActivity() != null ? config.getActivity().getDefaultTimeouts() : null;
+        if (defaults != null) {
+            check(defaults.getScheduleToStartSeconds(), "$.activity.defaultTimeouts.scheduleToStartSeconds", issues);
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineWalker.walk("$.pipelines." + e.getKey(), e.getValue(), (path, node, depth) -> {
+                if (node.isPlugin()) check(node.getScheduleToStartSeconds(), path + ".scheduleToStartSeconds", issues);
+            });
+        }
+    }
+
+    private static void check(Integer seconds, String path, List<ValidationIssue> issues) {
+        if (seconds == null || seconds <= MAX_SCHEDULE_TO_START_SECONDS) return;
+        issues.add(ValidationIssue.warning(ID, path, "scheduleToStartSeconds " + seconds + " lets a task wait " + seconds / 60
+                + " min for a worker before failing; stuck or under-provisioned queues surface as slow runs, not errors. Keep it at or below "
+                + MAX_SCHEDULE_TO_START_SECONDS + " s"));
+    }
+}
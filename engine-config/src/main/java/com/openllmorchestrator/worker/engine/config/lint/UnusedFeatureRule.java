@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.lint;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityBlockConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.StreamingConfig;
+import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
+import com.openllmorchestrator.worker.engine.config.validation.ValidationIssue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags enabled features whose overhead buys nothing in this config: PLANNER_PLAN_EXECUTOR without a PLANNER or
+ * PLAN_EXECUTOR capability, STREAMING without streaming nodes, CONCURRENCY_ISOLATION with the SINGLE queue strategy.
+ * Enabled features run on every request whether or not a pipeline uses them.
+ */
+public final class UnusedFeatureRule implements LintRule {
+
+    public static final String ID = "lint.unusedFeature";
+
+    public static final String PLANNER_PLAN_EXECUTOR = "PLANNER_PLAN_EXECUTOR";
+    public static final String STREAMING = "STREAMING";
+    public static final String CONCURRENCY_ISOLATION = "CONCURRENCY_ISOLATION";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        List<String> features = config.getEnabledFeatureNames();
+        for (int i = 0; i < features.size(); i++) {
+            String feature = features.get(i);
+            if (feature == null) continue;
+            String reason = switch (feature.trim().toUpperCase()) {
+                case PLANNER_PLAN_EXECUTOR -> usesCapability(config, "PLANNER", "PLAN_EXECUTOR") ? null : "no pipeline has a PLANNER or PLAN_EXECUTOR capability";
+                case STREAMING -> streams(config) ? null : "no plugin node is marked streaming";
+                case CONCURRENCY_ISOLATION -> isolated(config) ? null : "queueTopology strategy is SINGLE";
+                default -> null;
+            };
+            if (reason != null) {
+                issues.add(ValidationIssue.info(ID, "$.enabledFeatures[" + i + "]", feature + " is enabled but " + reason + "; disable it to skip its per-request overhead"));
+            }
+        }
+    }
+
+    private static boolean usesCapability(EngineFileConfig config, String... names) {
+        for (PipelineSection pipeline : config.getPipelinesEffective().values()) {
+            if (pipeline == null) continue;
+            for (String name : names) {
+                if (pipeline.getRootByCapability() != null && pipeline.getRootByCapability().containsKey(name)) return true;
+                if (pipeline.getCapabilities() != null) {
+                    for (CapabilityBlockConfig block : pipeline.getCapabilities()) {
+                        if (block != null && name.equals(block.getCapability())) return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean streams(EngineFileConfig config) {
+        boolean[] found = {false};
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            PipelineWalker.walk("$", pipeline, (path, node, depth) -> {
+                if (node.isPlugin() && StreamingConfig.effectiveFor(pipeline, node) != null) found[0] = true;
+            });
+            if (found[0]) return true;
+        }
+        return false;
+    }
+
+    private static boolean isolated(EngineFileConfig config) {
+        QueueTopologyConfig topology = config.getQueueTopology();
+        return topology != null && topology.getStrategy() != null && !QueueTopologyConfig.SINGLE.equalsIgnoreCase(topology.getStrategy());
+    }
+}
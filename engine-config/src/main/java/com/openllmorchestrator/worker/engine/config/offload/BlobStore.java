@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.offload;
+
+import java.io.IOException;
+
+/**
+ * Storage for offloaded (claim-check) payload values. Keys are content hashes, so {@link #put} is idempotent
+ * and identical values are stored once.
+ */
+public interface BlobStore {
+
+    /** Stores the bytes under the key. {@code ttlSeconds} 0 = no expiry. */
+    void put(String key, byte[] data, int ttlSeconds) throws IOException;
+
+    /** Returns the bytes, or null when the key is absent or expired. */
+    byte[] get(String key) throws IOException;
+
+    /** Store name written into references (e.g. {@code redis}); must not contain ':'. */
+    String name();
+}
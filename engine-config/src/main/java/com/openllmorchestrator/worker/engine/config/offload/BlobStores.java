@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.offload;
+
+import com.openllmorchestrator.worker.engine.config.activity.ActivityPayloadConfig;
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+
+/** Creates the {@link BlobStore} selected by {@link ActivityPayloadConfig#getOffloadStore()}. */
+public final class BlobStores {
+
+    private BlobStores() {}
+
+    /**
+     * @param payload    payload config (store selector, directory)
+     * @param redis      Redis connection, required for REDIS
+     * @param dataSource worker data source, required for DB (may be null otherwise)
+     */
+    public static BlobStore create(ActivityPayloadConfig payload, RedisConfig redis, DataSource dataSource) {
+        String store = payload.getOffloadStoreEffective();
+        switch (store) {
+            case ActivityPayloadConfig.STORE_REDIS:
+                if (redis == null) throw new IllegalArgumentException("offloadStore REDIS requires a Redis connection");
+                return new RedisBlobStore(redis);
+            case ActivityPayloadConfig.STORE_DB:
+                if (dataSource == null) throw new IllegalArgumentException("offloadStore DB requires a DataSource");
+                return new JdbcBlobStore(dataSource);
+            case ActivityPayloadConfig.STORE_FILESYSTEM:
+                if (payload.getOffloadDirectory() == null || payload.getOffloadDirectory().isBlank()) {
+                    throw new IllegalArgumentException("offloadStore FILESYSTEM requires offloadDirectory");
+                }
+                return new FileSystemBlobStore(Paths.get(payload.getOffloadDirectory()));
+            default:
+                throw new IllegalArgumentException("Unknown offloadStore: " + payload.getOffloadStore());
+        }
+    }
+}
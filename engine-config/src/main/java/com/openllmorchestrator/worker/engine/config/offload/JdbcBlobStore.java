@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.offload;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Objects;
+
+/**
+ * Offload store backed by a relational table. Create it once with {@link #POSTGRES_DDL} (adapt the blob type for other databases).
+ * Expired rows are ignored on read; call {@link #purgeExpired()} periodically to delete them.
+ */
+public final class JdbcBlobStore implements BlobStore {
+
+    public static final String TABLE = "olo_payload_blob";
+    public static final String POSTGRES_DDL = "CREATE TABLE IF NOT EXISTS " + TABLE
+            + " (blob_key VARCHAR(64) PRIMARY KEY, payload BYTEA NOT NULL, expires_at BIGINT NOT NULL)";
+
+    private final DataSource dataSource;
+
+    public JdbcBlobStore(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+    }
+
+    /**
+     * Refreshes the expiry of an existing row or inserts a new one. Keys are content hashes, so when another worker inserts
+     * the same key first (integrity violation, SQLState class 23), its row holds the same payload and only the expiry is
+     * refreshed. Plain UPDATE/INSERT keeps this portable across databases without MERGE or ON CONFLICT.
+     */
+    @Override
+    public void put(String key, byte[] data, int ttlSeconds) throws IOException {
+        long expiresAt = ttlSeconds > 0 ? System.currentTimeMillis() + ttlSeconds * 1000L : 0L;
+        try (Connection c = dataSource.getConnection()) {
+            if (refresh(c, key, expiresAt)) return;
+            try (PreparedStatement insert = c.prepareStatement("INSERT INTO " + TABLE + " (blob_key, payload, expires_at) VALUES (?, ?, ?)")) {
+                insert.setString(1, key);
+                insert.setBytes(2, data);
+                insert.setLong(3, expiresAt);
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e) || !refresh(c, key, expiresAt)) throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to store offloaded payload " + key, e);
+        }
+    }
+
+    private static boolean refresh(Connection c, String key, long expiresAt) throws SQLException {
+        try (PreparedStatement update = c.prepareStatement("UPDATE " + TABLE + " SET expires_at = ? WHERE blob_key = ?")) {
+            update.setLong(1, expiresAt);
+            update.setString(2, key);
+            return update.executeUpdate() > 0;
+        }
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+
+    @Override
+    public byte[] get(String key) throws IOException {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement select = c.prepareStatement("SELECT payload, expires_at FROM " + TABLE + " WHERE blob_key = ?")) {
+            select.setString(1, key);
+            try (ResultSet rs = select.executeQuery()) {
+                if (!rs.next()) return null;
+                long expiresAt = rs.getLong(2);
+                if (expiresAt > 0 && expiresAt < System.currentTimeMillis()) return null;
+                return rs.getBytes(1);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to read offloaded payload " + key, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "db";
+    }
+
+    /** Deletes expired rows. Returns the number of rows deleted. */
+    public int purgeExpired() throws IOException {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement delete = c.prepareStatement("DELETE FROM " + TABLE + " WHERE expires_at > 0 AND expires_at < ?")) {
+            delete.setLong(1, System.currentTimeMillis());
+            return delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new IOException("Failed to purge offloaded payloads", e);
+        }
+    }
+}
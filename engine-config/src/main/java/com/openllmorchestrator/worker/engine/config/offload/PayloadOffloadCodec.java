@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.offload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openllmorchestrator.worker.engine.config.activity.ActivityPayloadConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Claim-check codec for activity output maps, driven by {@link ActivityPayloadConfig}.
+ * <ul>
+ *   <li>{@link #offload(Map)}: values larger than {@code maxValueBytes} (serialized JSON) are written to the {@link BlobStore}
+ *       and replaced by a reference {@code {"$blobRef": "redis:<sha256>", "bytes": n}}. If the map is still larger than
+ *       {@code maxResultBytes}, the largest remaining values are offloaded until it fits.</li>
+ *   <li>{@link #resolve(Map)}: replaces references with the stored values (call before handing input to a plugin that needs them).</li>
+ * </ul>
+ * Blobs are keyed by content hash, so identical values are stored once. When nothing is offloaded the input map is returned as is.
+ */
+public final class PayloadOffloadCodec {
+
+    public static final String REF_KEY = "$blobRef";
+    public static final String SIZE_KEY = "bytes";
+
+    /** Approximate serialized size of a reference ({"$blobRef":"redis:<64 hex>","bytes":n}). */
+    static final int REFERENCE_BYTES = 96;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ActivityPayloadConfig config;
+    private final BlobStore store;
+
+    public PayloadOffloadCodec(ActivityPayloadConfig config, BlobStore store) {
+        this.config = Objects.requireNonNull(config, "config");
+        this.store = Objects.requireNonNull(store, "store");
+    }
+
+    /** True if the value is an offload reference produced by this codec. */
+    public static boolean isReference(Object value) {
+        return value instanceof Map<?, ?> map && map.size() <= 2 && map.get(REF_KEY) instanceof String;
+    }
+
+    /** Offloads large values. Returns the input map when nothing exceeds the thresholds. */
+    public Map<String, Object> offload(Map<String, Object> output) throws IOException {
+        if (output == null || output.isEmpty() || !config.isOffloadEnabled()) return output;
+        long maxValue = config.getMaxValueBytesEffective();
+        long maxResult = config.getMaxResultBytesEffective();
+
+        List<Encoded> encoded = new ArrayList<>(output.size());
+        long total = 2;
+        for (Map.Entry<String, Object> e : output.entrySet()) {
+            byte[] bytes = MAPPER.writeValueAsBytes(e.getValue());
+            Encoded enc = new Encoded(e.getKey(), e.getValue(), bytes);
+            if (!isReference(e.getValue()) && maxValue > 0 && bytes.length > maxValue) {
+                enc.reference = store(bytes);
+            }
+            total += enc.size();
+            encoded.add(enc);
+        }
+        if (maxResult > 0 && total > maxResult) {
+            List<Encoded> candidates = new ArrayList<>();
+            for (Encoded enc : encoded) {
+                // Values smaller than a reference would grow the map when offloaded.
+                if (enc.reference == null && !isReference(enc.value) && enc.bytes.length > REFERENCE_BYTES) candidates.add(enc);
+            }
+            candidates.sort(Comparator.comparingInt((Encoded enc) -> enc.bytes.length).reversed());
+            for (Encoded enc : candidates) {
+                if (total <= maxResult) break;
+                long before = enc.size();
+                enc.reference = store(enc.bytes);
+                total -= before - enc.size();
+            }
+        }
+
+        boolean changed = false;
+        for (Encoded enc : encoded) {
+            changed |= enc.reference != null;
+        }
+        if (!changed) return output;
+        Map<String, Object> result = new LinkedHashMap<>(output.size() * 2);
+        for (Encoded enc : encoded) {
+            result.put(enc.key, enc.reference != null ? enc.reference : enc.value);
+        }
+        return result;
+    }
+
+    /** Replaces references with their stored values. Returns the input map when it holds no references. */
+    public Map<String, Object> resolve(Map<String, Object> values) throws IOException {
+        if (values == null || values.isEmpty()) return values;
+        Map<String, Object> result = null;
+        for (Map.Entry<String, Object> e : values.entrySet()) {
+            if (!isReference(e.getValue())) continue;
+            if (result == null) result = new LinkedHashMap<>(values);
+            result.put(e.getKey(), resolveValue(e.getValue()));
+        }
+        return result != null ? result : values;
+    }
+
+    /** Resolves a single value; non-references are returned unchanged. */
+    public Object resolveValue(Object value) throws IOException {
+        if (!isReference(value)) return value;
+        String ref = (String) ((Map<?, ?>) value).get(REF_KEY);
+        int colon = ref.indexOf(':');
+        if (colon <= 0 || !ref.substring(0, colon).equals(store.name())) {
+            throw new IOException("Offload reference " + ref + " does not belong to store " + store.name());
+        }
+        byte[] bytes = store.get(ref.substring(colon + 1));
+        if (bytes == null) {
+            throw new IOException("Offloaded value " + ref + " is missing or expired");
+        }
+        return MAPPER.readValue(bytes, Object.class);
+    }
+
+    private Map<String, Object> store(byte[] bytes) throws IOException {
+        String key = sha256(bytes);
+        store.put(key, bytes, Math.max(0, config.getReferenceTtlSecondsEffective()));
+        Map<String, Object> ref = new LinkedHashMap<>(4);
+        ref.put(REF_KEY, store.name() + ":" + key);
+        ref.put(SIZE_KEY, bytes.length);
+        return ref;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Serialized entry; size approximates the JSON bytes the entry contributes to the map. */
+    private static final class Encoded {
+        private final String key;
+        private final Object value;
+        private final byte[] bytes;
+        private Map<String, Object> reference;
+
+        private Encoded(String key, Object value, byte[] bytes) {
+            this.key = key;
+            this.value = value;
+            this.bytes = bytes;
+        }
+
+        private long size() {
+            long keyBytes = key.getBytes(StandardCharsets.UTF_8).length + 4L;
+            return keyBytes + (reference != null ? REFERENCE_BYTES : bytes.length);
+        }
+    }
+}
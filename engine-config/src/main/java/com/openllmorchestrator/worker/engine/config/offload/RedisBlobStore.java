@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.offload;
+
+import com.openllmorchestrator.worker.engine.config.redis.RedisConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/** Offload store backed by Redis: one key per blob ({@code olo:payload:blob:<hash>}) with TTL. Uses a connection pool. */
+public final class RedisBlobStore implements BlobStore, AutoCloseable {
+
+    public static final String KEY_PREFIX = "olo:payload:blob:";
+
+    private final JedisPooled jedis;
+
+    public RedisBlobStore(RedisConfig redis) {
+        Objects.requireNonNull(redis, "redis");
+        DefaultJedisClientConfig.Builder client = DefaultJedisClientConfig.builder();
+        if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
+            client.password(redis.getPassword());
+        }
+        this.jedis = new JedisPooled(new HostAndPort(redis.getHost(), redis.getPort()), client.build());
+    }
+
+    public RedisBlobStore(JedisPooled jedis) {
+        this.jedis = Objects.requireNonNull(jedis, "jedis");
+    }
+
+    @Override
+    public void put(String key, byte[] data, int ttlSeconds) {
+        byte[] redisKey = redisKey(key);
+        if (ttlSeconds > 0) {
+            jedis.setex(redisKey, ttlSeconds, data);
+        } else {
+            jedis.set(redisKey, data);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return jedis.get(redisKey(key));
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    @Override
+    public void close() {
+        jedis.close();
+    }
+
+    private static byte[] redisKey(String key) {
+        return (KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
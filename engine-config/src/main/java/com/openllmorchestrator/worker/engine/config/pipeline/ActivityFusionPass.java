@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds maximal runs of consecutive PLUGIN children in SYNC groups that can run inside one activity, saving a
+ * schedule-to-start delay and history events per fused plugin. A group is fused when it sets {@code fuse: true}, or when
+ * its pipeline sets {@code autoFuse: true} and the group does not set {@code fuse: false}.
+ * <p>
+ * A fused activity is retried as a whole, so members re-run after a later member fails. Members therefore need the same
+ * retry policy, no per-node scheduling features (hedge, batch, streaming, local activity, circuit breaker, fallbacks,
+ * schedule-to-start/close overrides), and together a timeout of at most {@link #MAX_FUSED_TIMEOUT_SECONDS}.
+ * {@code autoFuse} additionally limits fusion to idempotent plugin types ({@link AllowedPluginTypes#localActivityEligible()}).
+ * Only {@code children} of non-conditional groups are considered. In {@code capabilities} groups (activity-name children)
+ * only {@code fuse: true} applies and all members use the pipeline defaults.
+ */
+public final class ActivityFusionPass {
+
+    /** Upper bound on the summed timeout of a fused run; longer runs are split. */
+    public static final int MAX_FUSED_TIMEOUT_SECONDS = 60;
+
+    private static final Set<String> CONTROL_TYPES = Set.of(
+            AllowedPluginTypes.PLUGIN_IF, AllowedPluginTypes.PLUGIN_ITERATOR, AllowedPluginTypes.FORK, AllowedPluginTypes.JOIN);
+
+    private ActivityFusionPass() {}
+
+    /** Computes the fused runs of all pipelines without modifying the config. */
+    public static List<FusedRun> plan(EngineFileConfig config) {
+        return run(config, false);
+    }
+
+    /**
+     * Computes the fused runs and writes their {@code fusionId} to the member nodes; clears stale fusionIds elsewhere.
+     * Returns the runs.
+     */
+    public static List<FusedRun> apply(EngineFileConfig config) {
+        return run(config, true);
+    }
+
+    private static List<FusedRun> run(EngineFileConfig config, boolean mark) {
+        List<FusedRun> runs = new ArrayList<>();
+        if (config == null) return runs;
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            boolean autoFuse = Boolean.TRUE.equals(pipeline.getAutoFuse());
+            String base = "$.pipelines." + e.getKey();
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                if (mark && node.isPlugin()) node.setFusionId(null);
+            });
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                if (node.isPlugin() || node.isConditional() || "ASYNC".equalsIgnoreCase(node.getExecutionMode())) return;
+                boolean explicit = Boolean.TRUE.equals(node.getFuse());
+                if (!explicit && !(autoFuse && node.getFuse() == null)) return;
+                fuseNodes(config, pipeline, path + ".children", node.getChildren(), !explicit, mark, runs);
+            });
+            List<CapabilityBlockConfig> blocks = pipeline.getCapabilities();
+            if (blocks == null) continue;
+            for (int b = 0; b < blocks.size(); b++) {
+                if (blocks.get(b) == null) continue;
+                List<GroupConfig> groups = blocks.get(b).getGroupsSafe();
+                for (int g = 0; g < groups.size(); g++) {
+                    GroupConfig group = groups.get(g);
+                    if (group == null || !Boolean.TRUE.equals(group.getFuse()) || group.isAsync() || group.isConditional()) continue;
+                    fuseNames(config, pipeline, base + ".capabilities[" + b + "].groups[" + g + "].children", group.getChildrenAsList(), runs);
+                }
+            }
+        }
+        return runs;
+    }
+
+    private static void fuseNodes(EngineFileConfig config, PipelineSection pipeline, String listPath, List<NodeConfig> children,
+                                  boolean idempotentOnly, boolean mark, List<FusedRun> runs) {
+        if (children == null) return;
+        int start = -1;
+        int total = 0;
+        RetryPolicyConfig retry = null;
+        for (int i = 0; i <= children.size(); i++) {
+            NodeConfig child = i < children.size() ? children.get(i) : null;
+            boolean fusible = child != null && isFusible(config, pipeline, child, idempotentOnly);
+            int timeout = fusible ? NodeActivitySettings.timeoutSeconds(config, pipeline, child) : 0;
+            RetryPolicyConfig childRetry = fusible ? NodeActivitySettings.retryPolicy(config, child) : null;
+            boolean joins = fusible && start >= 0 && sameRetry(retry, childRetry) && total + timeout <= MAX_FUSED_TIMEOUT_SECONDS;
+            if (!joins) {
+                if (start >= 0 && i - start >= 2) {
+                    FusedRun run = toRun(listPath, start, i - 1, children, total, retry);
+                    runs.add(run);
+                    if (mark) {
+                        for (int k = start; k < i; k++) children.get(k).setFusionId(run.fusionId());
+                    }
+                }
+                start = fusible && timeout <= MAX_FUSED_TIMEOUT_SECONDS ? i : -1;
+                total = start >= 0 ? timeout : 0;
+                retry = childRetry;
+            } else {
+                total += timeout;
+            }
+        }
+    }
+
+    private static void fuseNames(EngineFileConfig config, PipelineSection pipeline, String listPath, List<Object> children, List<FusedRun> runs) {
+        int timeout = NodeActivitySettings.timeoutSeconds(config, pipeline, null);
+        RetryPolicyConfig retry = NodeActivitySettings.retryPolicy(config, null);
+        int perRun = Math.max(1, MAX_FUSED_TIMEOUT_SECONDS / Math.max(1, timeout));
+        int start = -1;
+        for (int i = 0; i <= children.size(); i++) {
+            boolean name = i < children.size() && children.get(i) instanceof String;
+            if (start >= 0 && (!name || i - start >= perRun)) {
+                if (i - start >= 2) {
+                    List<String> plugins = new ArrayList<>();
+                    for (int k = start; k < i; k++) plugins.add((String) children.get(k));
+                    runs.add(new FusedRun(fusionId(listPath, start, i - 1), listPath, start, i - 1, List.copyOf(plugins), timeout * (i - start), retry));
+                }
+                start = -1;
+            }
+            if (name && start < 0) start = i;
+        }
+    }
+
+    private static FusedRun toRun(String listPath, int from, int to, List<NodeConfig> children, int timeout, RetryPolicyConfig retry) {
+        List<String> plugins = new ArrayList<>();
+        for (int k = from; k <= to; k++) plugins.add(children.get(k).getName());
+        return new FusedRun(fusionId(listPath, from, to), listPath, from, to, List.copyOf(plugins), timeout, retry);
+    }
+
+    private static String fusionId(String listPath, int from, int to) {
+        String id = listPath.startsWith("$.pipelines.") ? listPath.substring("$.pipelines.".length()) : listPath;
+        return id + "[" + from + ".." + to + "]";
+    }
+
+    /** True if the node may be a member of a fused run. */
+    static boolean isFusible(EngineFileConfig config, PipelineSection pipeline, NodeConfig node, boolean idempotentOnly) {
+        if (!node.isPlugin() || CONTROL_TYPES.contains(node.getPluginType())) return false;
+        if (idempotentOnly && !AllowedPluginTypes.isLocalActivityEligible(node.getPluginType())) return false;
+        return node.getHedge() == null
+                && node.getBatch() == null
+                && node.getCircuitBreaker() == null
+                && node.getFallbacks() == null
+                && node.getScheduleToStartSeconds() == null
+                && node.getScheduleToCloseSeconds() == null
+                && StreamingConfig.effectiveFor(pipeline, node) == null
+                && LocalActivityConfig.effectiveFor(config, node) == null;
+    }
+
+    static boolean sameRetry(RetryPolicyConfig a, RetryPolicyConfig b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.getMaximumAttempts() == b.getMaximumAttempts()
+                && a.getInitialIntervalSeconds() == b.getInitialIntervalSeconds()
+                && Double.compare(a.getBackoffCoefficient(), b.getBackoffCoefficient()) == 0
+                && a.getMaximumIntervalSeconds() == b.getMaximumIntervalSeconds()
+                && Objects.equals(a.getNonRetryableErrors(), b.getNonRetryableErrors());
+    }
+}
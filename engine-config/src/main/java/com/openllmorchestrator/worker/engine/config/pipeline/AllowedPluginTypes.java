@@ -87,6 +87,18 @@ public final class AllowedPluginTypes {
             JOIN
     );
 
+    /** Plugin types whose calls can be coalesced into one batched invocation (see {@link BatchConfig}). */
+    private static final Set<String> BATCHABLE = Set.of(VECTOR_STORE, MODEL, SEARCH);
+
+    /** Plugin types that can produce or transform a token stream (see {@link StreamingConfig}). */
+    private static final Set<String> STREAMING_CAPABLE = Set.of(MODEL, LANG_CHAIN_ADAPTER, AGENT_ORCHESTRATOR, GUARDRAIL, FILTER);
+
+    /** Short, idempotent plugin types that may run as Temporal local activities (see {@link LocalActivityConfig}). */
+    private static final Set<String> LOCAL_ACTIVITY_ELIGIBLE = Set.of(ACCESS_CONTROL, TENANT_POLICY, FILTER, PROMPT_BUILDER, FEATURE_FLAG, PLUGIN_IF);
+
+    /** Plugin types whose calls have external side effects (tool calls, billing, agent actions); a retry repeats them. */
+    private static final Set<String> NON_IDEMPOTENT = Set.of(TOOL, BILLING, AGENT_ORCHESTRATOR, WORKFLOW_EXTENSION);
+
     private AllowedPluginTypes() {}
 
     public static boolean isAllowed(String pluginType) {
@@ -96,4 +108,40 @@ public final class AllowedPluginTypes {
     public static Set<String> all() {
         return ALLOWED;
     }
+
+    /** True if PLUGIN nodes of this type may declare a {@code batch} directive. */
+    public static boolean isBatchable(String pluginType) {
+        return pluginType != null && BATCHABLE.contains(pluginType);
+    }
+
+    public static Set<String> batchable() {
+        return BATCHABLE;
+    }
+
+    /** True if PLUGIN nodes of this type may be marked {@code streaming}. */
+    public static boolean isStreamingCapable(String pluginType) {
+        return pluginType != null && STREAMING_CAPABLE.contains(pluginType);
+    }
+
+    public static Set<String> streamingCapable() {
+        return STREAMING_CAPABLE;
+    }
+
+    /** True if PLUGIN nodes of this type may run as local activities. */
+    public static boolean isLocalActivityEligible(String pluginType) {
+        return pluginType != null && LOCAL_ACTIVITY_ELIGIBLE.contains(pluginType);
+    }
+
+    public static Set<String> localActivityEligible() {
+        return LOCAL_ACTIVITY_ELIGIBLE;
+    }
+
+    /** True if calls of this plugin type have side effects that a retry or duplicate call would repeat. */
+    public static boolean isNonIdempotent(String pluginType) {
+        return pluginType != null && NON_IDEMPOTENT.contains(pluginType);
+    }
+
+    public static Set<String> nonIdempotent() {
+        return NON_IDEMPOTENT;
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Micro-batching hint for a PLUGIN node: the worker may coalesce concurrent calls of the same plugin (from different workflows)
+ * into one batched invocation. A batch is flushed when it reaches {@link #maxBatchSize} or when the oldest call has waited
+ * {@link #maxWaitMillis}. Only batch-capable plugin types qualify ({@link AllowedPluginTypes#isBatchable(String)}).
+ * <p>
+ * Example: {@code "batch": { "maxBatchSize": 32, "maxWaitMillis": 10, "batchKey": "embeddingModel" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BatchConfig {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 16;
+    public static final int DEFAULT_MAX_WAIT_MILLIS = 5;
+
+    /** Max calls per batch (default 16). */
+    private Integer maxBatchSize;
+    /** Max time the oldest call waits for the batch to fill (default 5 ms). */
+    private Integer maxWaitMillis;
+    /**
+     * Input key whose value partitions batches (e.g. model name); calls with different values are never batched together.
+     * When not set, all calls to the plugin share one batch.
+     */
+    private String batchKey;
+
+    @JsonIgnore
+    public int getMaxBatchSizeEffective() {
+        return maxBatchSize != null ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE;
+    }
+
+    @JsonIgnore
+    public int getMaxWaitMillisEffective() {
+        return maxWaitMillis != null ? maxWaitMillis : DEFAULT_MAX_WAIT_MILLIS;
+    }
+}
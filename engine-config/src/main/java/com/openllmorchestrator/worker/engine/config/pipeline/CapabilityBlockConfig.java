@@ -16,6 +16,8 @@
 package com.openllmorchestrator.worker.engine.config.pipeline;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,13 +36,20 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class CapabilityBlockConfig {
     /** Capability name (e.g. ACCESS, MEMORY, MODEL). Accepts JSON key "capability" or "stage". */
     @JsonAlias("stage")
     private String capability;
     /** Groups within this capability; order preserved. */
     private List<GroupConfig> groups;
+    /**
+     * Capabilities that must complete before this one starts (see {@link CapabilityDag}). Null = the previous capability
+     * in the flow; empty = none, so it can start with the pipeline.
+     */
+    private List<String> dependsOn;
 
+    @JsonIgnore
     public List<GroupConfig> getGroupsSafe() {
         return groups != null ? groups : Collections.emptyList();
     }
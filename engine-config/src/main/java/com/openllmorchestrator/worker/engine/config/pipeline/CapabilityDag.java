@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of the capabilities of one pipeline, built from optional {@code dependsOn} lists.
+ * A capability without {@code dependsOn} depends on its predecessor in the flow, so a pipeline without any
+ * {@code dependsOn} stays the linear chain given by capabilityOrder. An empty {@code dependsOn} makes a capability a root.
+ * <p>
+ * {@link #layers()} groups capabilities by longest dependency path: every capability in a layer depends only on earlier
+ * layers, so a layer's capabilities can run concurrently. Flow is the {@code capabilities} list order, or for
+ * {@code rootByCapability} the engine capabilityOrder. Roots whose capability is not in a non-empty capabilityOrder never
+ * run (the same entries {@link ConfigNormalizer} drops), so they are left out; with no capabilityOrder, flow is the map order.
+ */
+public final class CapabilityDag {
+
+    private final List<String> capabilities;
+    private final Map<String, List<String>> dependencies;
+    private final List<List<String>> layers;
+
+    private CapabilityDag(List<String> capabilities, Map<String, List<String>> dependencies, List<List<String>> layers) {
+        this.capabilities = capabilities;
+        this.dependencies = dependencies;
+        this.layers = layers;
+    }
+
+    /**
+     * Builds the DAG of a pipeline.
+     *
+     * @throws IllegalArgumentException when a dependency is unknown, never runs, is self-referencing or part of a cycle
+     */
+    public static CapabilityDag of(EngineFileConfig config, PipelineSection pipeline) {
+        Map<String, List<String>> declared = new LinkedHashMap<>();
+        List<CapabilityBlockConfig> blocks = pipeline != null ? pipeline.getCapabilities() : null;
+        if (blocks != null && !blocks.isEmpty()) {
+            for (CapabilityBlockConfig block : blocks) {
+                if (block != null && block.getCapability() != null) {
+                    declared.put(block.getCapability(), block.getDependsOn());
+                }
+            }
+        } else if (pipeline != null && pipeline.getRootByCapability() != null && !pipeline.getRootByCapability().isEmpty()) {
+            Map<String, NodeConfig> roots = pipeline.getRootByCapability();
+            List<String> order = config != null ? config.getCapabilityOrderEffective() : List.of();
+            for (String name : order.isEmpty() ? roots.keySet() : order) {
+                if (roots.containsKey(name)) declared.put(name, dependsOnOf(roots.get(name)));
+            }
+            for (Map.Entry<String, List<String>> e : declared.entrySet()) {
+                if (e.getValue() == null) continue;
+                for (String dep : e.getValue()) {
+                    String d = dep != null ? dep.trim() : null;
+                    if (d != null && roots.containsKey(d) && !declared.containsKey(d)) {
+                        throw new IllegalArgumentException("capability " + e.getKey() + " depends on " + d + ", which never runs (not in capabilityOrder)");
+                    }
+                }
+            }
+        }
+        return of(new ArrayList<>(declared.keySet()), declared);
+    }
+
+    /**
+     * Builds the DAG from capabilities in flow order and their declared {@code dependsOn} (null entries = previous capability).
+     *
+     * @throws IllegalArgumentException when a dependency is unknown, self-referencing or part of a cycle
+     */
+    public static CapabilityDag of(List<String> flowOrder, Map<String, List<String>> dependsOn) {
+        Set<String> known = new LinkedHashSet<>(flowOrder);
+        Map<String, List<String>> deps = new LinkedHashMap<>();
+        String previous = null;
+        for (String name : flowOrder) {
+            List<String> declared = dependsOn.get(name);
+            List<String> resolved;
+            if (declared == null) {
+                resolved = previous != null ? List.of(previous) : List.of();
+            } else {
+                Set<String> unique = new LinkedHashSet<>();
+                for (String dep : declared) {
+                    if (dep == null || dep.isBlank()) continue;
+                    String d = dep.trim();
+                    if (d.equals(name)) throw new IllegalArgumentException("capability " + name + " depends on itself");
+                    if (!known.contains(d)) throw new IllegalArgumentException("capability " + name + " depends on " + d + ", which is not in this pipeline");
+                    unique.add(d);
+                }
+                resolved = List.copyOf(unique);
+            }
+            deps.put(name, resolved);
+            previous = name;
+        }
+        return new CapabilityDag(List.copyOf(flowOrder), Collections.unmodifiableMap(deps), layer(flowOrder, deps));
+    }
+
+    /** Capabilities in flow order. */
+    public List<String> capabilities() {
+        return capabilities;
+    }
+
+    /** Resolved dependencies of a capability (empty for roots and unknown names). */
+    public List<String> dependenciesOf(String capability) {
+        return dependencies.getOrDefault(capability, List.of());
+    }
+
+    /** Topological layers; capabilities within a layer are independent and keep flow order. */
+    public List<List<String>> layers() {
+        return layers;
+    }
+
+    /** True when no two capabilities can run concurrently. */
+    public boolean isLinear() {
+        for (List<String> layer : layers) {
+            if (layer.size() > 1) return false;
+        }
+        return true;
+    }
+
+    private static List<String> dependsOnOf(NodeConfig root) {
+        return root != null ? root.getDependsOn() : null;
+    }
+
+    /** Kahn's algorithm by rounds: each round takes every capability whose dependencies are all placed. */
+    private static List<List<String>> layer(List<String> flowOrder, Map<String, List<String>> deps) {
+        Map<String, Integer> level = new HashMap<>();
+        List<List<String>> layers = new ArrayList<>();
+        List<String> remaining = new ArrayList<>(flowOrder);
+        while (!remaining.isEmpty()) {
+            List<String> ready = new ArrayList<>();
+            for (String name : remaining) {
+                boolean placed = true;
+                for (String d : deps.get(name)) {
+                    if (!level.containsKey(d)) {
+                        placed = false;
+                        break;
+                    }
+                }
+                if (placed) ready.add(name);
+            }
+            if (ready.isEmpty()) {
+                throw new IllegalArgumentException("dependsOn cycle: capabilities " + remaining + " are in or behind a cycle");
+            }
+            for (String name : ready) level.put(name, layers.size());
+            layers.add(List.copyOf(ready));
+            remaining.removeAll(ready);
+        }
+        return List.copyOf(layers);
+    }
+}
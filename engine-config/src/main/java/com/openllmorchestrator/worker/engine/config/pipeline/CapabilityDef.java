@@ -36,4 +36,8 @@ public class CapabilityDef {
     private String pluginType;
     /** Activity/plugin id (FQCN or registered name). Required. */
     private String name;
+    /** Optional circuit breaker for this capability's plugin; applies wherever the capability is referenced. */
+    private CircuitBreakerConfig circuitBreaker;
+    /** Optional: run this capability's plugin as a Temporal local activity (short, idempotent plugin types only). */
+    private LocalActivityConfig localActivity;
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Circuit breaker for a plugin (PLUGIN node or user-defined capability). When the failure rate over the last
+ * {@link #slidingWindowSize} calls reaches {@link #failureRateThreshold} percent, the breaker opens for
+ * {@link #openDurationSeconds}: calls are not scheduled and {@link #fallback} applies. Afterwards
+ * {@link #halfOpenProbes} trial calls decide whether it closes again.
+ * <p>
+ * Example: {@code "circuitBreaker": { "failureRateThreshold": 50, "slidingWindowSize": 20, "openDurationSeconds": 30,
+ * "fallback": "ALTERNATE_PLUGIN", "alternatePlugin": "com.example.plugin.BackupModel" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CircuitBreakerConfig {
+    /** Skip the plugin: the node completes with empty output. */
+    public static final String SKIP = "SKIP";
+    /** Fail the node immediately without scheduling the activity (default). */
+    public static final String FAIL_FAST = "FAIL_FAST";
+    /** Invoke {@link #alternatePlugin} instead. */
+    public static final String ALTERNATE_PLUGIN = "ALTERNATE_PLUGIN";
+
+    public static final Set<String> FALLBACKS = Set.of(SKIP, FAIL_FAST, ALTERNATE_PLUGIN);
+
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+    public static final int DEFAULT_OPEN_DURATION_SECONDS = 30;
+    public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    /** Failure rate in percent (1-100) at which the breaker opens (default 50). */
+    private Integer failureRateThreshold;
+    /** Number of most recent calls the failure rate is computed over (default 20). */
+    private Integer slidingWindowSize;
+    /** Calls required in the window before the rate is evaluated (default: slidingWindowSize). */
+    private Integer minimumCalls;
+    /** How long the breaker stays open before probing (default 30 s). */
+    private Integer openDurationSeconds;
+    /** Trial calls allowed while half-open; all must succeed to close (default 3). */
+    private Integer halfOpenProbes;
+    /** SKIP | FAIL_FAST (default) | ALTERNATE_PLUGIN. */
+    private String fallback;
+    /** For ALTERNATE_PLUGIN: plugin name (activity id / FQCN) of the same pluginType to call while open. */
+    private String alternatePlugin;
+
+    @JsonIgnore
+    public int getFailureRateThresholdEffective() {
+        return failureRateThreshold != null ? failureRateThreshold : DEFAULT_FAILURE_RATE_THRESHOLD;
+    }
+
+    @JsonIgnore
+    public int getSlidingWindowSizeEffective() {
+        return slidingWindowSize != null ? slidingWindowSize : DEFAULT_SLIDING_WINDOW_SIZE;
+    }
+
+    @JsonIgnore
+    public int getMinimumCallsEffective() {
+        return minimumCalls != null ? minimumCalls : getSlidingWindowSizeEffective();
+    }
+
+    @JsonIgnore
+    public int getOpenDurationSecondsEffective() {
+        return openDurationSeconds != null ? openDurationSeconds : DEFAULT_OPEN_DURATION_SECONDS;
+    }
+
+    @JsonIgnore
+    public int getHalfOpenProbesEffective() {
+        return halfOpenProbes != null ? halfOpenProbes : DEFAULT_HALF_OPEN_PROBES;
+    }
+
+    @JsonIgnore
+    public String getFallbackEffective() {
+        return fallback != null && !fallback.isBlank() ? fallback.trim().toUpperCase() : FAIL_FAST;
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites the pipelines of a config into one canonical, minimal form before it is stored, so workers parse less and
+ * build plans without alias handling or dead structure. Behaviour of every pipeline is unchanged.
+ * <ul>
+ *   <li>Legacy keys ({@code stages}, {@code stagePlugins}, {@code rootByStage}, {@code stageOrder}) are already mapped on
+ *       parse; serializing the normalized config writes only the current keys. STAGE nodes become PLUGIN nodes.</li>
+ *   <li>Flows the engine never reads are dropped: {@code root} and {@code rootByCapability} when {@code capabilities} is
+ *       set, the single-tree {@code root} when {@code rootByCapability} is set, and {@code rootByCapability} entries not
+ *       in capabilityOrder. The remaining entries are put in capabilityOrder.</li>
+ *   <li>Branches that can never run are dropped: {@code children}/{@code thenChildren} shadowed by {@code thenGroup},
+ *       {@code elseChildren} shadowed by {@code elseGroup}, branch fields on non-conditional groups, children of plugins.</li>
+ *   <li>Empty nested groups (no children, no condition, no iterator) are dropped, except under ASYNC FIRST_SUCCESS
+ *       groups where an empty child completes the group.</li>
+ *   <li>Nested groups with a single child and no settings of their own are replaced by that child. A single-child ASYNC
+ *       group is only replaced under an ASYNC parent with the same effective completion policy.</li>
+ * </ul>
+ * Capability roots and top-level {@code capabilities} blocks are kept even when empty, since other capabilities may
+ * depend on them. A single-tree {@code root} alone is kept as is (apart from the node rewrites): it has no capability
+ * names to map it to {@code rootByCapability}.
+ */
+public final class ConfigNormalizer {
+
+    private ConfigNormalizer() {}
+
+    /** Normalizes the config in place and returns the rewrites made. */
+    public static List<NormalizationChange> normalize(EngineFileConfig config) {
+        List<NormalizationChange> changes = new ArrayList<>();
+        if (config == null || config.getPipelines() == null) return changes;
+        List<String> order = config.getCapabilityOrderEffective();
+        for (Map.Entry<String, PipelineSection> e : config.getPipelines().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            normalizePipeline("$.pipelines." + e.getKey(), pipeline, order, changes);
+        }
+        return changes;
+    }
+
+    private static void normalizePipeline(String base, PipelineSection pipeline, List<String> order, List<NormalizationChange> changes) {
+        boolean hasCapabilities = pipeline.getCapabilities() != null && !pipeline.getCapabilities().isEmpty();
+        boolean hasRootByCapability = pipeline.getRootByCapability() != null && !pipeline.getRootByCapability().isEmpty();
+        if (pipeline.getRoot() != null && (hasCapabilities || hasRootByCapability)) {
+            pipeline.setRoot(null);
+            changes.add(new NormalizationChange(base + ".root", "dropped; shadowed by " + (hasCapabilities ? "capabilities" : "rootByCapability")));
+        }
+        if (hasRootByCapability && hasCapabilities) {
+            pipeline.setRootByCapability(null);
+            changes.add(new NormalizationChange(base + ".rootByCapability", "dropped; shadowed by capabilities"));
+            hasRootByCapability = false;
+        }
+        if (hasRootByCapability && !order.isEmpty()) {
+            Map<String, NodeConfig> roots = pipeline.getRootByCapability();
+            Map<String, NodeConfig> ordered = new LinkedHashMap<>();
+            for (String name : order) {
+                if (roots.containsKey(name)) ordered.put(name, roots.get(name));
+            }
+            for (String name : roots.keySet()) {
+                if (!ordered.containsKey(name)) {
+                    changes.add(new NormalizationChange(base + ".rootByCapability." + name, "dropped; not in capabilityOrder"));
+                }
+            }
+            pipeline.setRootByCapability(ordered);
+        }
+        String policy = pipeline.getDefaultAsyncCompletionPolicy();
+        if (pipeline.getRoot() != null) {
+            normalizeNode(base + ".root", pipeline.getRoot(), policy, changes);
+        }
+        if (pipeline.getRootByCapability() != null) {
+            for (Map.Entry<String, NodeConfig> e : pipeline.getRootByCapability().entrySet()) {
+                if (e.getValue() != null) normalizeNode(base + ".rootByCapability." + e.getKey(), e.getValue(), policy, changes);
+            }
+        }
+        if (hasCapabilities) {
+            List<CapabilityBlockConfig> blocks = pipeline.getCapabilities();
+            for (int b = 0; b < blocks.size(); b++) {
+                CapabilityBlockConfig block = blocks.get(b);
+                if (block == null || block.getGroups() == null) continue;
+                String blockPath = base + ".capabilities[" + b + "].groups";
+                List<GroupConfig> kept = new ArrayList<>();
+                for (int g = 0; g < block.getGroups().size(); g++) {
+                    GroupConfig group = block.getGroups().get(g);
+                    if (group == null) continue;
+                    normalizeGroup(blockPath + "[" + g + "]", group, policy, changes);
+                    if (isEmpty(group)) {
+                        changes.add(new NormalizationChange(blockPath + "[" + g + "]", "dropped empty group"));
+                    } else {
+                        kept.add(group);
+                    }
+                }
+                block.setGroups(kept);
+            }
+        }
+    }
+
+    // --- NodeConfig trees (root, rootByCapability) ---
+
+    private static void normalizeNode(String path, NodeConfig node, String defaultPolicy, List<NormalizationChange> changes) {
+        if ("STAGE".equalsIgnoreCase(node.getType())) {
+            node.setType("PLUGIN");
+            changes.add(new NormalizationChange(path, "STAGE node type replaced by PLUGIN"));
+        }
+        if (node.isPlugin()) {
+            if (node.getChildren().isEmpty() && !hasBranches(node)) return;
+            clearBranches(node);
+            node.setChildren(null);
+            changes.add(new NormalizationChange(path, "dropped children and branches of plugin node"));
+            return;
+        }
+        if (!node.isConditional()) {
+            if (hasBranches(node)) {
+                clearBranches(node);
+                changes.add(new NormalizationChange(path, "dropped branches of non-conditional group"));
+            }
+        } else {
+            if (node.hasThenGroup() && (node.getThenChildren() != null || !node.getChildren().isEmpty())) {
+                node.setThenChildren(null);
+                node.setChildren(null);
+                changes.add(new NormalizationChange(path, "dropped children/thenChildren shadowed by thenGroup"));
+            } else if (node.getThenChildren() != null && !node.getChildren().isEmpty()) {
+                node.setChildren(null);
+                changes.add(new NormalizationChange(path + ".children", "dropped; shadowed by thenChildren"));
+            }
+            if (node.hasElseGroup() && node.getElseChildren() != null) {
+                node.setElseChildren(null);
+                changes.add(new NormalizationChange(path + ".elseChildren", "dropped; shadowed by elseGroup"));
+            }
+        }
+        String policy = "ASYNC".equalsIgnoreCase(node.getExecutionMode())
+                ? (node.getAsyncCompletionPolicy() != null ? node.getAsyncCompletionPolicy() : defaultPolicy) : null;
+        if (node.getChildren() != null && !node.getChildren().isEmpty()) {
+            node.setChildren(normalizeNodes(path + ".children", node.getChildren(), policy, defaultPolicy, changes));
+        }
+        if (node.getThenChildren() != null) {
+            node.setThenChildren(normalizeNodes(path + ".thenChildren", node.getThenChildren(), null, defaultPolicy, changes));
+        }
+        if (node.getThenGroup() != null) normalizeNode(path + ".thenGroup", node.getThenGroup(), defaultPolicy, changes);
+        List<ElseIfBranchNodeConfig> branches = node.getElseifBranches();
+        if (branches != null) {
+            for (int i = 0; i < branches.size(); i++) {
+                ElseIfBranchNodeConfig branch = branches.get(i);
+                if (branch == null) continue;
+                String branchPath = path + ".elseifBranches[" + i + "]";
+                if (branch.hasThenGroup() && branch.getThen() != null) {
+                    branch.setThen(null);
+                    changes.add(new NormalizationChange(branchPath + ".then", "dropped; shadowed by thenGroup"));
+                }
+                if (branch.getThen() != null) branch.setThen(normalizeNodes(branchPath + ".then", branch.getThen(), null, defaultPolicy, changes));
+                if (branch.getThenGroup() != null) normalizeNode(branchPath + ".thenGroup", branch.getThenGroup(), defaultPolicy, changes);
+            }
+        }
+        if (node.getElseChildren() != null) {
+            node.setElseChildren(normalizeNodes(path + ".elseChildren", node.getElseChildren(), null, defaultPolicy, changes));
+        }
+        if (node.getElseGroup() != null) normalizeNode(path + ".elseGroup", node.getElseGroup(), defaultPolicy, changes);
+    }
+
+    /**
+     * Normalizes a child list: drops empty groups and replaces single-child groups by their child.
+     * {@code asyncPolicy} is the completion policy of the owning group when it is ASYNC, else null.
+     */
+    private static List<NodeConfig> normalizeNodes(String listPath, List<NodeConfig> nodes, String asyncPolicy, String defaultPolicy,
+                                                   List<NormalizationChange> changes) {
+        boolean keepEmpty = "FIRST_SUCCESS".equalsIgnoreCase(asyncPolicy);
+        List<NodeConfig> result = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeConfig child = nodes.get(i);
+            if (child == null) continue;
+            String path = listPath + "[" + i + "]";
+            normalizeNode(path, child, defaultPolicy, changes);
+            if (child.isGroup() && !child.isConditional() && !child.isIterative()) {
+                if (child.getChildren().isEmpty() && !keepEmpty) {
+                    changes.add(new NormalizationChange(path, "dropped empty group"));
+                    continue;
+                }
+                if (child.getChildren().size() == 1 && isTransparent(child, asyncPolicy, defaultPolicy)) {
+                    changes.add(new NormalizationChange(path, "single-child group replaced by its child"));
+                    result.add(child.getChildren().get(0));
+                    continue;
+                }
+            }
+            result.add(child);
+        }
+        return result;
+    }
+
+    /**
+     * True when the group only wraps its children: no settings that would change how a single child runs, and the same
+     * execution mode and completion policy as the parent ({@code parentPolicy} is null when the parent is SYNC).
+     */
+    private static boolean isTransparent(NodeConfig group, String parentPolicy, String defaultPolicy) {
+        return sameRunSemantics(group.getExecutionMode(), group.getAsyncCompletionPolicy(), parentPolicy, defaultPolicy)
+                && group.getTimeoutSeconds() == null
+                && group.getMaxDepth() == null
+                && group.getFuse() == null
+                && group.getForkPlugin() == null
+                && group.getJoinPlugin() == null
+                && group.getMergePolicy() == null
+                && group.getAsyncOutputMergePolicy() == null
+                && group.getDependsOn() == null
+                && group.getIteration() == null;
+    }
+
+    /** SYNC (or unset) under any parent; ASYNC only under an ASYNC parent with the same effective completion policy. */
+    private static boolean sameRunSemantics(String mode, String policy, String parentPolicy, String defaultPolicy) {
+        if (mode == null || "SYNC".equalsIgnoreCase(mode)) return true;
+        if (!"ASYNC".equalsIgnoreCase(mode) || parentPolicy == null) return false;
+        String effective = policy != null ? policy : defaultPolicy;
+        return effective != null && effective.equalsIgnoreCase(parentPolicy);
+    }
+
+    private static boolean hasBranches(NodeConfig node) {
+        return node.getThenChildren() != null || node.getThenGroup() != null || node.getElseifBranches() != null
+                || node.getElseChildren() != null || node.getElseGroup() != null;
+    }
+
+    private static void clearBranches(NodeConfig node) {
+        node.setThenChildren(null);
+        node.setThenGroup(null);
+        node.setElseifBranches(null);
+        node.setElseChildren(null);
+        node.setElseGroup(null);
+    }
+
+    // --- GroupConfig (capabilities[].groups[], children are activity names or nested groups) ---
+
+    private static void normalizeGroup(String path, GroupConfig group, String defaultPolicy, List<NormalizationChange> changes) {
+        if (!group.isConditional()) {
+            if (hasBranches(group)) {
+                group.setThenChildren(null);
+                group.setThenGroup(null);
+                group.setElseifBranches(null);
+                group.setElseChildren(null);
+                group.setElseGroup(null);
+                changes.add(new NormalizationChange(path, "dropped branches of non-conditional group"));
+            }
+        } else {
+            if (group.hasThenGroup() && (group.getThenChildren() != null || !group.getChildrenAsList().isEmpty())) {
+                group.setThenChildren(null);
+                group.setChildren(null);
+                changes.add(new NormalizationChange(path, "dropped children/thenChildren shadowed by thenGroup"));
+            } else if (group.getThenChildren() != null && !group.getChildrenAsList().isEmpty()) {
+                group.setChildren(null);
+                changes.add(new NormalizationChange(path + ".children", "dropped; shadowed by thenChildren"));
+            }
+            if (group.hasElseGroup() && group.getElseChildren() != null) {
+                group.setElseChildren(null);
+                changes.add(new NormalizationChange(path + ".elseChildren", "dropped; shadowed by elseGroup"));
+            }
+        }
+        String policy = group.isAsync() ? (group.getAsyncCompletionPolicy() != null ? group.getAsyncCompletionPolicy() : defaultPolicy) : null;
+        if (!group.getChildrenAsList().isEmpty()) {
+            group.setChildren(normalizeItems(path + ".children", group.getChildrenAsList(), policy, defaultPolicy, changes));
+        }
+        if (group.getThenChildren() != null) {
+            group.setThenChildren(normalizeItems(path + ".thenChildren", group.getThenChildren(), null, defaultPolicy, changes));
+        }
+        if (group.getThenGroup() != null) group.setThenGroup(normalizeSlot(path + ".thenGroup", group.getThenGroup(), defaultPolicy, changes));
+        List<ElseIfBranchConfig> branches = group.getElseifBranches();
+        if (branches != null) {
+            for (int i = 0; i < branches.size(); i++) {
+                ElseIfBranchConfig branch = branches.get(i);
+                if (branch == null) continue;
+                String branchPath = path + ".elseifBranches[" + i + "]";
+                if (branch.hasThenGroup() && branch.getThen() != null) {
+                    branch.setThen(null);
+                    changes.add(new NormalizationChange(branchPath + ".then", "dropped; shadowed by thenGroup"));
+                }
+                if (branch.getThen() != null) branch.setThen(normalizeItems(branchPath + ".then", branch.getThen(), null, defaultPolicy, changes));
+                if (branch.getThenGroup() != null) branch.setThenGroup(normalizeSlot(branchPath + ".thenGroup", branch.getThenGroup(), defaultPolicy, changes));
+            }
+        }
+        if (group.getElseChildren() != null) {
+            group.setElseChildren(normalizeItems(path + ".elseChildren", group.getElseChildren(), null, defaultPolicy, changes));
+        }
+        if (group.getElseGroup() != null) group.setElseGroup(normalizeSlot(path + ".elseGroup", group.getElseGroup(), defaultPolicy, changes));
+    }
+
+    private static List<Object> normalizeItems(String listPath, List<Object> items, String asyncPolicy, String defaultPolicy,
+                                               List<NormalizationChange> changes) {
+        boolean keepEmpty = "FIRST_SUCCESS".equalsIgnoreCase(asyncPolicy);
+        List<Object> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            GroupConfig nested = GroupWalker.asGroup(item);
+            if (nested == null) {
+                if (item != null) result.add(item);
+                continue;
+            }
+            String path = listPath + "[" + i + "]";
+            normalizeGroup(path, nested, defaultPolicy, changes);
+            if (!nested.isConditional() && !nested.isIterative()) {
+                if (nested.getChildrenAsList().isEmpty() && !keepEmpty) {
+                    changes.add(new NormalizationChange(path, "dropped empty group"));
+                    continue;
+                }
+                if (nested.getChildrenAsList().size() == 1 && isTransparent(nested, asyncPolicy, defaultPolicy)) {
+                    changes.add(new NormalizationChange(path, "single-child group replaced by its child"));
+                    result.add(nested.getChildrenAsList().get(0));
+                    continue;
+                }
+            }
+            result.add(nested);
+        }
+        return result;
+    }
+
+    /** Normalizes a thenGroup/elseGroup slot; the slot itself is kept. */
+    private static Object normalizeSlot(String path, Object slot, String defaultPolicy, List<NormalizationChange> changes) {
+        GroupConfig group = GroupWalker.asGroup(slot);
+        if (group == null) return slot;
+        normalizeGroup(path, group, defaultPolicy, changes);
+        return group;
+    }
+
+    private static boolean isTransparent(GroupConfig group, String parentPolicy, String defaultPolicy) {
+        return sameRunSemantics(group.getExecutionMode(), group.getAsyncCompletionPolicy(), parentPolicy, defaultPolicy)
+                && group.getTimeoutSeconds() == null
+                && group.getMaxDepth() == null
+                && group.getFuse() == null
+                && group.getForkPlugin() == null
+                && group.getJoinPlugin() == null
+                && group.getMergePolicy() == null
+                && group.getAsyncOutputMergePolicy() == null
+                && group.getIteration() == null;
+    }
+
+    private static boolean hasBranches(GroupConfig group) {
+        return group.getThenChildren() != null || group.getThenGroup() != null || group.getElseifBranches() != null
+                || group.getElseChildren() != null || group.getElseGroup() != null;
+    }
+
+    private static boolean isEmpty(GroupConfig group) {
+        return !group.isConditional() && !group.isIterative() && group.getChildrenAsList().isEmpty();
+    }
+}
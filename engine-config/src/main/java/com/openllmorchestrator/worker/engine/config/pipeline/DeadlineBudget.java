@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+/**
+ * Remaining-time budget for one pipeline run, derived from {@link PipelineSection#getDeadlineSeconds()}.
+ * Created when the run starts; each node clamps its configured timeout to what is left, so a slow early capability
+ * cannot push later ones past the deadline. Immutable; pass the clock reading explicitly (in a workflow use
+ * {@code Workflow.currentTimeMillis()} so replay stays deterministic).
+ * <pre>{@code
+ * DeadlineBudget budget = DeadlineBudget.start(pipeline, now);
+ * int timeout = budget.clampTimeoutSeconds(NodeActivitySettings.timeoutSeconds(config, pipeline, node), now);
+ * if (budget.isExpired(now)) { ... fail fast ... }
+ * }</pre>
+ */
+public final class DeadlineBudget {
+
+    /** Budget without a deadline: never expires, never clamps. */
+    public static final DeadlineBudget UNBOUNDED = new DeadlineBudget(Long.MAX_VALUE);
+
+    private final long deadlineAtMillis;
+
+    private DeadlineBudget(long deadlineAtMillis) {
+        this.deadlineAtMillis = deadlineAtMillis;
+    }
+
+    /** Budget for a run starting at {@code startMillis}; {@link #UNBOUNDED} when the pipeline has no deadline. */
+    public static DeadlineBudget start(PipelineSection pipeline, long startMillis) {
+        if (pipeline == null || pipeline.getDeadlineSeconds() == null || pipeline.getDeadlineSeconds() <= 0) {
+            return UNBOUNDED;
+        }
+        return new DeadlineBudget(startMillis + pipeline.getDeadlineSeconds() * 1000L);
+    }
+
+    /** Budget that ends at the given absolute time (epoch millis). */
+    public static DeadlineBudget until(long deadlineAtMillis) {
+        return new DeadlineBudget(deadlineAtMillis);
+    }
+
+    public boolean isUnbounded() {
+        return deadlineAtMillis == Long.MAX_VALUE;
+    }
+
+    public long getDeadlineAtMillis() {
+        return deadlineAtMillis;
+    }
+
+    /** Milliseconds left (0 when expired, {@link Long#MAX_VALUE} when unbounded). */
+    public long remainingMillis(long nowMillis) {
+        if (isUnbounded()) return Long.MAX_VALUE;
+        return Math.max(0L, deadlineAtMillis - nowMillis);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return remainingMillis(nowMillis) == 0L;
+    }
+
+    /**
+     * Configured timeout clamped to the remaining budget, rounded up to whole seconds.
+     * Returns 0 when the budget is exhausted; the caller should fail the node without scheduling it.
+     */
+    public int clampTimeoutSeconds(int configuredSeconds, long nowMillis) {
+        long remaining = remainingMillis(nowMillis);
+        if (remaining == Long.MAX_VALUE) return configuredSeconds;
+        long remainingSeconds = (remaining + 999) / 1000;
+        return (int) Math.min(configuredSeconds, remainingSeconds);
+    }
+
+    /** Configured timeout in milliseconds clamped to the remaining budget. */
+    public long clampTimeoutMillis(long configuredMillis, long nowMillis) {
+        return Math.min(configuredMillis, remainingMillis(nowMillis));
+    }
+
+    /**
+     * Budget for a child scope (e.g. a GROUP with its own timeoutSeconds) that must finish within {@code childMillis}
+     * and within this budget, whichever ends first.
+     */
+    public DeadlineBudget child(long childMillis, long nowMillis) {
+        if (childMillis <= 0 || childMillis == Long.MAX_VALUE) return this;
+        long childDeadline = nowMillis + childMillis;
+        return childDeadline < deadlineAtMillis ? new DeadlineBudget(childDeadline) : this;
+    }
+
+    @Override
+    public String toString() {
+        return isUnbounded() ? "DeadlineBudget[unbounded]" : "DeadlineBudget[at=" + deadlineAtMillis + "]";
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.openllmorchestrator.worker.engine.config.pipeline;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -37,6 +38,7 @@ public class ElseIfBranchConfig {
     /** "Then" branch as a single GROUP (preferred when set). Deserialized as Map → GroupConfig. */
     private Object thenGroup;
 
+    @JsonIgnore
     public List<Object> getThenSafe() {
         return then != null ? then : Collections.emptyList();
     }
@@ -15,6 +15,7 @@
  */
 package com.openllmorchestrator.worker.engine.config.pipeline;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -36,6 +37,7 @@ public class ElseIfBranchNodeConfig {
     /** "Then" branch as a single GROUP node (preferred when set). Condition has group as children. */
     private NodeConfig thenGroup;
 
+    @JsonIgnore
     public List<NodeConfig> getThenSafe() {
         return then != null ? then : Collections.emptyList();
     }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+
+import java.util.List;
+
+/**
+ * A run of consecutive plugins in a SYNC group that {@link ActivityFusionPass} fuses into one activity.
+ *
+ * @param fusionId       id shared by the fused nodes (also written to {@link NodeConfig#getFusionId()})
+ * @param groupPath      JSON path of the list holding the run (e.g. {@code $.pipelines.chat.rootByCapability.ACCESS.children})
+ * @param fromIndex      index of the first fused child (inclusive)
+ * @param toIndex        index of the last fused child (inclusive)
+ * @param plugins        plugin names in execution order
+ * @param timeoutSeconds start-to-close timeout of the fused activity (sum of the members' timeouts)
+ * @param retryPolicy    retry policy shared by all members
+ */
+public record FusedRun(String fusionId, String groupPath, int fromIndex, int toIndex, List<String> plugins,
+                       int timeoutSeconds, RetryPolicyConfig retryPolicy) {
+
+    public int size() {
+        return toIndex - fromIndex + 1;
+    }
+}
@@ -16,7 +16,7 @@
 package com.openllmorchestrator.worker.engine.config.pipeline;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,6 +36,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class GroupConfig {
     /** SYNC or ASYNC */
     private String executionMode;
@@ -58,6 +59,10 @@ public class GroupConfig {
     private String condition;
     /** If set, this group is iterative: run iterator plugin (PLUGIN_ITERATOR) to drive loop. At most one PLUGIN_ITERATOR per group. */
     private String iterator;
+    /** For iterator groups: sequential or parallel (map) iteration, chunking and result order. Null = sequential. */
+    private IterationConfig iteration;
+    /** For SYNC groups: true = run consecutive activity children in one activity; false = never fuse (overrides pipeline autoFuse). */
+    private Boolean fuse;
     /** For ASYNC: plugin name for FORK. If not set, engine uses default from engine configuration. */
     private String forkPlugin;
     /** For ASYNC: plugin name for JOIN. If not set, engine uses default from engine configuration. */
@@ -73,6 +78,7 @@ public class GroupConfig {
     /** "Else" branch as a single GROUP (preferred when set). Deserialized as Map → GroupConfig. */
     private Object elseGroup;
 
+    @JsonIgnore
     public List<Object> getChildrenAsList() {
         return children != null ? children : Collections.emptyList();
     }
@@ -102,19 +108,23 @@ public class GroupConfig {
         return elseGroup != null;
     }
 
+    @JsonIgnore
     public boolean isConditional() {
         return condition != null && !condition.isBlank();
     }
 
     /** True if this group has an iterator plugin (PLUGIN_ITERATOR). */
+    @JsonIgnore
     public boolean isIterative() {
         return iterator != null && !iterator.isBlank();
     }
 
+    @JsonIgnore
     public boolean isAsync() {
         return "ASYNC".equalsIgnoreCase(executionMode);
     }
 
+    @JsonIgnore
     public boolean isSync() {
         return "SYNC".equalsIgnoreCase(executionMode);
     }
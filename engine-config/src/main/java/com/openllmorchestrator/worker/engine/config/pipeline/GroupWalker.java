@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Depth-first traversal of the {@link GroupConfig} trees of a pipeline's {@code capabilities} blocks, the counterpart of
+ * {@link PipelineWalker} for node trees. Visits every group, including nested groups in children and conditional
+ * branches (then/elseif/else), and every activity-name child, with a JSON path per element. Depth is 1 for a block's
+ * top-level group and grows by one per nesting level.
+ */
+public final class GroupWalker {
+
+    /** Callback for each visited group and activity name. */
+    @FunctionalInterface
+    public interface GroupVisitor {
+        /** Visits a group; return false to skip everything below it. */
+        boolean visit(String path, GroupConfig group, int depth);
+
+        /** Visits an activity-name child of a group at {@code depth} (the depth of that group plus one). */
+        default void activity(String path, String name, int depth) {}
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private GroupWalker() {}
+
+    /**
+     * Walks the groups of all capability blocks of the pipeline. Paths start at {@code basePath} (e.g. {@code $.pipelines.chat}).
+     */
+    public static void walk(String basePath, PipelineSection pipeline, GroupVisitor visitor) {
+        if (pipeline == null || pipeline.getCapabilities() == null) return;
+        List<CapabilityBlockConfig> blocks = pipeline.getCapabilities();
+        for (int b = 0; b < blocks.size(); b++) {
+            walkBlock(basePath + ".capabilities[" + b + "]", blocks.get(b), visitor);
+        }
+    }
+
+    /** Walks the groups of one capability block; paths start at {@code blockPath} (e.g. {@code $.pipelines.chat.capabilities[0]}). */
+    public static void walkBlock(String blockPath, CapabilityBlockConfig block, GroupVisitor visitor) {
+        if (block == null) return;
+        List<GroupConfig> groups = block.getGroupsSafe();
+        for (int g = 0; g < groups.size(); g++) {
+            walkGroup(blockPath + ".groups[" + g + "]", groups.get(g), 1, visitor);
+        }
+    }
+
+    /** Walks one group and everything below it. */
+    public static void walkGroup(String path, GroupConfig group, int depth, GroupVisitor visitor) {
+        if (group == null || !visitor.visit(path, group, depth)) return;
+        walkItems(path + ".children", group.getChildren(), depth + 1, visitor);
+        walkItems(path + ".thenChildren", group.getThenChildren(), depth + 1, visitor);
+        walkItem(path + ".thenGroup", group.getThenGroup(), depth + 1, visitor);
+        List<ElseIfBranchConfig> branches = group.getElseifBranchesSafe();
+        for (int i = 0; i < branches.size(); i++) {
+            ElseIfBranchConfig branch = branches.get(i);
+            if (branch == null) continue;
+            String branchPath = path + ".elseifBranches[" + i + "]";
+            walkItems(branchPath + ".then", branch.getThen(), depth + 1, visitor);
+            walkItem(branchPath + ".thenGroup", branch.getThenGroup(), depth + 1, visitor);
+        }
+        walkItems(path + ".elseChildren", group.getElseChildren(), depth + 1, visitor);
+        walkItem(path + ".elseGroup", group.getElseGroup(), depth + 1, visitor);
+    }
+
+    /**
+     * A group child or branch slot as a GroupConfig: nested groups are GroupConfig instances or, straight from JSON, maps.
+     * Returns null for activity names and anything else.
+     */
+    public static GroupConfig asGroup(Object item) {
+        if (item instanceof GroupConfig g) return g;
+        if (item instanceof Map<?, ?> map) return MAPPER.convertValue(map, GroupConfig.class);
+        return null;
+    }
+
+    private static void walkItems(String path, List<Object> items, int depth, GroupVisitor visitor) {
+        if (items == null) return;
+        for (int i = 0; i < items.size(); i++) {
+            walkItem(path + "[" + i + "]", items.get(i), depth, visitor);
+        }
+    }
+
+    private static void walkItem(String path, Object item, int depth, GroupVisitor visitor) {
+        if (item instanceof String name) {
+            visitor.activity(path, name, depth);
+        } else {
+            walkGroup(path, asGroup(item), depth, visitor);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Hedged (speculative) execution for a PLUGIN node: if the first attempt has not completed after {@link #delayMillis},
+ * the engine schedules a duplicate attempt, up to {@link #maxHedges} duplicates. {@link #winner} decides which result is kept;
+ * the remaining attempts are cancelled. Use on idempotent, latency-critical plugins (MODEL, RETRIEVAL).
+ * <p>
+ * Example: {@code "hedge": { "delayMillis": 800, "maxHedges": 1, "winner": "FIRST_SUCCESS" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HedgePolicyConfig {
+    /** First successful attempt wins; failures are ignored while another attempt is still running. */
+    public static final String FIRST_SUCCESS = "FIRST_SUCCESS";
+    /** First attempt to complete wins, whether it succeeded or failed. */
+    public static final String FIRST_COMPLETED = "FIRST_COMPLETED";
+
+    public static final Set<String> WINNERS = Set.of(FIRST_SUCCESS, FIRST_COMPLETED);
+
+    /** Duplicates when maxHedges is not set. */
+    public static final int DEFAULT_MAX_HEDGES = 1;
+    /** Default delay as a fraction of the node's effective start-to-close timeout. */
+    public static final double DEFAULT_DELAY_FRACTION = 0.1;
+    /** Lower bound for the derived default delay. */
+    public static final long MIN_DEFAULT_DELAY_MILLIS = 50;
+
+    /** Delay after the first attempt (and between duplicates) before the next duplicate fires. When null, derived from the node timeout. */
+    private Integer delayMillis;
+    /** Maximum number of duplicate attempts (default 1). */
+    private Integer maxHedges;
+    /** FIRST_SUCCESS (default) or FIRST_COMPLETED. */
+    private String winner;
+
+    @JsonIgnore
+    public int getMaxHedgesEffective() {
+        return maxHedges != null ? maxHedges : DEFAULT_MAX_HEDGES;
+    }
+
+    @JsonIgnore
+    public String getWinnerEffective() {
+        return winner != null && !winner.isBlank() ? winner.trim().toUpperCase() : FIRST_SUCCESS;
+    }
+
+    /**
+     * Effective hedge delay: {@link #delayMillis} when set, otherwise {@link #DEFAULT_DELAY_FRACTION} of the node's
+     * start-to-close timeout (at least {@link #MIN_DEFAULT_DELAY_MILLIS}).
+     */
+    public long delayMillisFor(int timeoutSeconds) {
+        if (delayMillis != null) {
+            return delayMillis;
+        }
+        long derived = (long) (timeoutSeconds * 1000L * DEFAULT_DELAY_FRACTION);
+        return Math.max(MIN_DEFAULT_DELAY_MILLIS, derived);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * How an iterator group (one with {@code iterator}) runs its body over the items produced by the iterator plugin.
+ * SEQUENTIAL runs one iteration at a time (default). PARALLEL maps the body over items with at most
+ * {@link #maxParallelism} iterations in flight; the engine wraps the body in an implicit ASYNC fan-out group, which
+ * counts as one extra nesting level against {@code maxDepth} / {@code defaultMaxGroupDepth}.
+ * <p>
+ * Example: {@code "iteration": { "mode": "PARALLEL", "maxParallelism": 16, "chunkSize": 4, "maxIterations": 500, "resultOrder": "ORDERED" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IterationConfig {
+    public static final String SEQUENTIAL = "SEQUENTIAL";
+    public static final String PARALLEL = "PARALLEL";
+    public static final Set<String> MODES = Set.of(SEQUENTIAL, PARALLEL);
+
+    /** Results are collected in item order (default). */
+    public static final String ORDERED = "ORDERED";
+    /** Results are collected in completion order; no head-of-line blocking on slow items. */
+    public static final String UNORDERED = "UNORDERED";
+    public static final Set<String> RESULT_ORDERS = Set.of(ORDERED, UNORDERED);
+
+    public static final int DEFAULT_MAX_PARALLELISM = 8;
+    public static final int DEFAULT_CHUNK_SIZE = 1;
+
+    /** SEQUENTIAL (default) | PARALLEL. */
+    private String mode;
+    /** For PARALLEL: max iterations in flight (default 8). */
+    private Integer maxParallelism;
+    /** Items handed to one iteration of the body (default 1). */
+    private Integer chunkSize;
+    /** Upper bound on iterations; items beyond it are not processed. Null = no bound. */
+    private Integer maxIterations;
+    /** ORDERED (default) | UNORDERED. */
+    private String resultOrder;
+
+    @JsonIgnore
+    public String getModeEffective() {
+        return mode != null && !mode.isBlank() ? mode.trim().toUpperCase() : SEQUENTIAL;
+    }
+
+    @JsonIgnore
+    public boolean isParallel() {
+        return PARALLEL.equals(getModeEffective());
+    }
+
+    /** In-flight iterations: maxParallelism for PARALLEL, 1 for SEQUENTIAL. */
+    @JsonIgnore
+    public int getMaxParallelismEffective() {
+        if (!isParallel()) return 1;
+        return maxParallelism != null ? maxParallelism : DEFAULT_MAX_PARALLELISM;
+    }
+
+    @JsonIgnore
+    public int getChunkSizeEffective() {
+        return chunkSize != null ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    @JsonIgnore
+    public String getResultOrderEffective() {
+        return resultOrder != null && !resultOrder.isBlank() ? resultOrder.trim().toUpperCase() : ORDERED;
+    }
+
+    /** Iterations needed for {@code itemCount} items: ceil(items / chunkSize), capped at maxIterations. */
+    public int iterationsFor(int itemCount) {
+        if (itemCount <= 0) return 0;
+        int chunk = Math.max(1, getChunkSizeEffective());
+        int iterations = (itemCount + chunk - 1) / chunk;
+        return maxIterations != null && maxIterations > 0 ? Math.min(iterations, maxIterations) : iterations;
+    }
+}
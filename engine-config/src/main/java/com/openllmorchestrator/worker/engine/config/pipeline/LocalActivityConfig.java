@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Runs a plugin as a Temporal local activity: executed in the workflow worker without a task-queue round trip and
+ * recorded as a single marker event. Only for short, idempotent plugin types
+ * ({@link AllowedPluginTypes#localActivityEligible()}), since a local activity holds the workflow task while it runs
+ * and is re-executed if the workflow task fails.
+ * <p>
+ * Example: {@code "localActivity": { "startToCloseSeconds": 2, "scheduleToCloseSeconds": 5 }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LocalActivityConfig {
+    public static final int DEFAULT_START_TO_CLOSE_SECONDS = 5;
+    /** Temporal default workflow task timeout; local activities should finish well within it. */
+    public static final int MAX_RECOMMENDED_SECONDS = 10;
+
+    /** False turns the marker off (e.g. on a node overriding its CapabilityDef). Default true. */
+    private Boolean enabled;
+    /** Timeout of one attempt (default 5). */
+    private Integer startToCloseSeconds;
+    /** Timeout across all attempts. Null = startToCloseSeconds times the retry policy's attempts. */
+    private Integer scheduleToCloseSeconds;
+    /** Retries whose backoff exceeds this are scheduled with a workflow timer instead of in-process (Temporal localRetryThreshold). */
+    private Integer localRetryThresholdSeconds;
+
+    @JsonIgnore
+    public boolean isEnabledEffective() {
+        return enabled == null || enabled;
+    }
+
+    @JsonIgnore
+    public int getStartToCloseSecondsEffective() {
+        return startToCloseSeconds != null ? startToCloseSeconds : DEFAULT_START_TO_CLOSE_SECONDS;
+    }
+
+    /**
+     * Local-activity settings for a PLUGIN node: the node's own block, else the block of a {@code capabilities} entry
+     * whose plugin name matches the node. Null when the node does not run locally.
+     */
+    public static LocalActivityConfig effectiveFor(EngineFileConfig config, NodeConfig node) {
+        if (node == null || !node.isPlugin()) return null;
+        LocalActivityConfig own = node.getLocalActivity();
+        if (own == null && config != null && node.getName() != null) {
+            for (CapabilityDef def : config.getCapabilitiesEffective().values()) {
+                if (def != null && node.getName().equals(def.getName()) && def.getLocalActivity() != null) {
+                    own = def.getLocalActivity();
+                    break;
+                }
+            }
+        }
+        return own != null && own.isEnabledEffective() ? own : null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fallback chain for a MODEL plugin: when the primary is slower than {@link #maxLatencyMillis} or fails more often than
+ * {@link #maxErrorRate}, calls are routed to the first eligible entry of {@link #targets} (ORDERED). WEIGHTED instead
+ * always picks the eligible plugin, primary included, with the best quality/cost score. Declared on a PLUGIN node ({@code fallbacks}) or per capability
+ * ({@code capabilityFallbacks} at engine or pipeline level); see {@link ModelFallbackResolver}.
+ * <p>
+ * Example: {@code "fallbacks": { "maxLatencyMillis": 4000, "maxErrorRate": 0.2, "targets": [ { "plugin": "com.example.FastModel", "maxLatencyMillis": 2000 } ] }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ModelFallbackChain {
+    /** First eligible target in declaration order (default). */
+    public static final String ORDERED = "ORDERED";
+    /** Eligible plugin with the highest qualityWeight * quality - costWeight * cost; ties keep the primary, then declaration order. */
+    public static final String WEIGHTED = "WEIGHTED";
+    public static final Set<String> STRATEGIES = Set.of(ORDERED, WEIGHTED);
+
+    /** Primary is routed around when its observed latency (ms) exceeds this. Null = latency not checked. */
+    private Long maxLatencyMillis;
+    /** Primary is routed around when its observed error rate exceeds this (0-1]. Null = errors not checked. */
+    private Double maxErrorRate;
+    /** Primary cost and quality, compared with the targets under WEIGHTED. */
+    private Double cost;
+    private Double quality;
+    /** ORDERED (default) | WEIGHTED. */
+    private String strategy;
+    /** Weight of quality in WEIGHTED scores (default 1). */
+    private Double qualityWeight;
+    /** Weight of cost in WEIGHTED scores (default 0). */
+    private Double costWeight;
+    /** Alternate model plugins, in preference order. */
+    private List<ModelFallbackTarget> targets;
+
+    @JsonIgnore
+    public String getStrategyEffective() {
+        return strategy != null && !strategy.isBlank() ? strategy.trim().toUpperCase() : ORDERED;
+    }
+
+    @JsonIgnore
+    public double getQualityWeightEffective() {
+        return qualityWeight != null ? qualityWeight : 1.0;
+    }
+
+    @JsonIgnore
+    public double getCostWeightEffective() {
+        return costWeight != null ? costWeight : 0.0;
+    }
+
+    @JsonIgnore
+    public double getCostEffective() {
+        return cost != null ? cost : 0.0;
+    }
+
+    @JsonIgnore
+    public double getQualityEffective() {
+        return quality != null ? quality : 1.0;
+    }
+
+    @JsonIgnore
+    public List<ModelFallbackTarget> getTargetsSafe() {
+        return targets != null ? targets : Collections.emptyList();
+    }
+}
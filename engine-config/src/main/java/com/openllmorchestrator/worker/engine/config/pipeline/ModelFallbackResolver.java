@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.util.Map;
+
+/**
+ * Resolves the model fallback chain and primary plugin for a node or capability.
+ * Chain: node {@code fallbacks}, else pipeline {@code capabilityFallbacks[capability]}, else engine
+ * {@code capabilityFallbacks[capability]}. Primary plugin for a capability follows {@code capabilityPlugins} the same way.
+ */
+public final class ModelFallbackResolver {
+
+    private ModelFallbackResolver() {}
+
+    /** Fallback chain for a node in the given capability, or null when none is declared. */
+    public static ModelFallbackChain chainFor(EngineFileConfig config, PipelineSection pipeline, String capability, NodeConfig node) {
+        if (node != null && node.getFallbacks() != null) return node.getFallbacks();
+        return chainForCapability(config, pipeline, capability);
+    }
+
+    /** Fallback chain declared for a capability (pipeline level first, then engine level), or null. */
+    public static ModelFallbackChain chainForCapability(EngineFileConfig config, PipelineSection pipeline, String capability) {
+        if (capability == null) return null;
+        ModelFallbackChain chain = lookup(pipeline != null ? pipeline.getCapabilityFallbacks() : null, capability);
+        if (chain != null) return chain;
+        return lookup(config != null ? config.getCapabilityFallbacks() : null, capability);
+    }
+
+    /** Primary plugin for a capability from {@code capabilityPlugins} (pipeline level first, then engine level), or null. */
+    public static String primaryPluginForCapability(EngineFileConfig config, PipelineSection pipeline, String capability) {
+        if (capability == null) return null;
+        Map<String, String> own = pipeline != null ? pipeline.getCapabilityPlugins() : null;
+        if (own != null && own.get(capability) != null) return own.get(capability);
+        return config != null ? config.getCapabilityPluginsEffective().get(capability) : null;
+    }
+
+    private static ModelFallbackChain lookup(Map<String, ModelFallbackChain> byCapability, String capability) {
+        return byCapability != null ? byCapability.get(capability) : null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One alternate model plugin in a {@link ModelFallbackChain}. The target is eligible while its observed latency and
+ * error rate stay within its own thresholds; unset thresholds are not checked.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ModelFallbackTarget {
+    /** Plugin name (activity id / FQCN). Required. */
+    private String plugin;
+    /** Plugin type; must be ModelPlugin. Null = ModelPlugin. */
+    private String pluginType;
+    /** Max observed latency (ms) for this target to stay eligible. */
+    private Long maxLatencyMillis;
+    /** Max observed error rate (0-1] for this target to stay eligible. */
+    private Double maxErrorRate;
+    /** Relative cost per call (e.g. price per 1K tokens); used by WEIGHTED routing. Default 0. */
+    private Double cost;
+    /** Relative answer quality in [0, 1]; used by WEIGHTED routing. Default 1. */
+    private Double quality;
+
+    @JsonIgnore
+    public String getPluginTypeEffective() {
+        return pluginType != null && !pluginType.isBlank() ? pluginType.trim() : AllowedPluginTypes.MODEL;
+    }
+
+    @JsonIgnore
+    public double getCostEffective() {
+        return cost != null ? cost : 0.0;
+    }
+
+    @JsonIgnore
+    public double getQualityEffective() {
+        return quality != null ? quality : 1.0;
+    }
+}
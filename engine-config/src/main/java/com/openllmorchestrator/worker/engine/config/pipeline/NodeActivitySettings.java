@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.ActivityTimeoutsConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+
+/**
+ * Resolves the effective activity settings of a PLUGIN node: node override, then pipeline default, then engine activity defaults.
+ * Same precedence the worker applies when it builds activity options.
+ */
+public final class NodeActivitySettings {
+
+    /** Start-to-close fallback when neither node, pipeline nor activity defaults set one. */
+    public static final int FALLBACK_TIMEOUT_SECONDS = 30;
+
+    private NodeActivitySettings() {}
+
+    /** Effective start-to-close timeout (seconds): node timeoutSeconds, pipeline defaultTimeoutSeconds, activity.defaultTimeouts.startToCloseSeconds. */
+    public static int timeoutSeconds(EngineFileConfig config, PipelineSection pipeline, NodeConfig node) {
+        if (node != null && node.getTimeoutSeconds() != null && node.getTimeoutSeconds() > 0) {
+            return node.getTimeoutSeconds();
+        }
+        if (pipeline != null && pipeline.getDefaultTimeoutSeconds() > 0) {
+            return pipeline.getDefaultTimeoutSeconds();
+        }
+        ActivityTimeoutsConfig defaults = config != null && config.getActivity() != null
+                ? config.getActivity().getDefaultTimeouts()
+                : null;
+        if (defaults != null && defaults.getStartToCloseSeconds() != null && defaults.getStartToCloseSeconds() > 0) {
+            return defaults.getStartToCloseSeconds();
+        }
+        return FALLBACK_TIMEOUT_SECONDS;
+    }
+
+    /** Effective retry policy: node retryPolicy, then activity.retryPolicy, then built-in defaults. Never null. */
+    public static RetryPolicyConfig retryPolicy(EngineFileConfig config, NodeConfig node) {
+        if (node != null && node.getRetryPolicy() != null) {
+            return node.getRetryPolicy();
+        }
+        if (config != null && config.getActivity() != null && config.getActivity().getRetryPolicy() != null) {
+            return config.getActivity().getRetryPolicy();
+        }
+        return new RetryPolicyConfig();
+    }
+}
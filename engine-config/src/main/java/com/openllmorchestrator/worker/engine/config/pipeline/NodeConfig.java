@@ -56,11 +56,34 @@ public class NodeConfig {
     private Integer scheduleToCloseSeconds;
     /** For PLUGIN: optional retry override. */
     private RetryPolicyConfig retryPolicy;
+    /** For PLUGIN: optional hedged execution (duplicate attempt after a delay) for latency-critical plugins. */
+    private HedgePolicyConfig hedge;
+    /** For PLUGIN (VectorStorePlugin, ModelPlugin, SearchPlugin): optional micro-batching of concurrent calls. */
+    private BatchConfig batch;
+    /** For PLUGIN (streaming-capable types): marks the node as streaming and overrides pipeline streaming defaults. */
+    private StreamingConfig streaming;
+    /** For PLUGIN: optional circuit breaker (fail fast, skip or alternate plugin while the plugin is failing). */
+    private CircuitBreakerConfig circuitBreaker;
+    /** For PLUGIN (ModelPlugin): alternate model plugins to route to when this one is slow or failing. */
+    private ModelFallbackChain fallbacks;
+    /** For PLUGIN (short, idempotent types only): run as a Temporal local activity with these timeouts. */
+    private LocalActivityConfig localActivity;
+    /** For SYNC GROUP: true = run compatible consecutive PLUGIN children in one activity; false = never fuse (overrides pipeline autoFuse). */
+    private Boolean fuse;
+    /** For PLUGIN: set by {@link ActivityFusionPass}; consecutive nodes with the same fusionId run inside one activity. */
+    private String fusionId;
+    /**
+     * For capability roots in rootByCapability: capabilities that must complete before this one starts (see {@link CapabilityDag}).
+     * Null = the previous capability in capabilityOrder; empty = none. Ignored on nested nodes.
+     */
+    private List<String> dependsOn;
     private List<NodeConfig> children;
     /** If set, this GROUP is conditional: run condition plugin (PLUGIN_IF), then one of then/elseif/else. Plugin must write output key "branch" (0=then, 1=elseif, ..., n-1=else). At most one PLUGIN_IF per group. */
     private String condition;
     /** If set, this GROUP is iterative: run iterator plugin (PLUGIN_ITERATOR) to drive loop over body. At most one PLUGIN_ITERATOR per group. */
     private String iterator;
+    /** For iterator GROUPs: sequential or parallel (map) iteration, chunking and result order. Null = sequential. */
+    private IterationConfig iteration;
     /** For ASYNC groups: plugin name for FORK. If not set, engine uses default from engine configuration. */
     private String forkPlugin;
     /** For ASYNC groups: plugin name for JOIN. If not set, engine uses default from engine configuration. */
@@ -105,26 +128,31 @@ public class NodeConfig {
         return elseGroup != null;
     }
 
+    @JsonIgnore
     public boolean isConditional() {
         return condition != null && !condition.isBlank();
     }
 
     /** True if this GROUP has an iterator plugin (PLUGIN_ITERATOR). */
+    @JsonIgnore
     public boolean isIterative() {
         return iterator != null && !iterator.isBlank();
     }
 
+    @JsonIgnore
     public boolean isGroup() {
         return "GROUP".equalsIgnoreCase(type);
     }
 
     /** True if this node is a leaf plugin (type PLUGIN or legacy STAGE). */
+    @JsonIgnore
     public boolean isPlugin() {
         return "PLUGIN".equalsIgnoreCase(type) || "STAGE".equalsIgnoreCase(type);
     }
 
     /** @deprecated Use {@link #isPlugin()} instead. Returns true for PLUGIN or STAGE. */
     @Deprecated
+    @JsonIgnore
     public boolean isStage() {
         return isPlugin();
     }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds children of SYNC groups with no data dependency between them, using the input and output keys declared in the
+ * plugin catalog ({@link PluginDataContract}), and proposes running them as ASYNC groups.
+ * <p>
+ * Two plugins conflict when one writes a key the other reads or writes; conflicting plugins keep their order. Each run of
+ * consecutive plugins is split into dependency levels. A level with several plugins becomes a nested ASYNC group
+ * ({@code asyncOutputMergePolicy: LAST_WINS}; members write disjoint keys, so the merge order does not matter). When the
+ * whole group is one level, the group itself is switched to ASYNC. Barriers that are never moved:
+ * nested groups, plugins without declared inputs and outputs, control types (condition, iterator, fork, join),
+ * gate types (access control, tenant policy, guardrail, security scanner) and fused nodes.
+ * Conditional, iterative and fused groups are skipped, as are nested groups that would exceed the group depth limit.
+ */
+public final class ParallelizationAdvisor {
+
+    public static final String MERGE_POLICY = "LAST_WINS";
+
+    private static final Set<String> BARRIER_TYPES = Set.of(
+            AllowedPluginTypes.PLUGIN_IF, AllowedPluginTypes.PLUGIN_ITERATOR, AllowedPluginTypes.FORK, AllowedPluginTypes.JOIN,
+            AllowedPluginTypes.ACCESS_CONTROL, AllowedPluginTypes.TENANT_POLICY, AllowedPluginTypes.GUARDRAIL, AllowedPluginTypes.SECURITY_SCANNER);
+
+    private ParallelizationAdvisor() {}
+
+    /** Computes the proposals for all pipelines without modifying the config. */
+    public static List<ParallelizationProposal> plan(EngineFileConfig config, Map<String, PluginDataContract> catalog) {
+        return run(config, catalog, false);
+    }
+
+    /** Computes the proposals and rewrites the groups in place. Returns the applied proposals. */
+    public static List<ParallelizationProposal> apply(EngineFileConfig config, Map<String, PluginDataContract> catalog) {
+        return run(config, catalog, true);
+    }
+
+    private static List<ParallelizationProposal> run(EngineFileConfig config, Map<String, PluginDataContract> catalog, boolean rewrite) {
+        List<ParallelizationProposal> proposals = new ArrayList<>();
+        if (config == null) return proposals;
+        Map<String, PluginDataContract> contracts = catalog != null ? catalog : Collections.emptyMap();
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            boolean autoFuse = Boolean.TRUE.equals(pipeline.getAutoFuse());
+            String base = "$.pipelines." + e.getKey();
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                if (!node.isGroup() || node.isConditional() || node.isIterative() || "ASYNC".equalsIgnoreCase(node.getExecutionMode())) return;
+                if (fused(node.getFuse(), autoFuse)) return;
+                List<NodeConfig> children = node.getChildren();
+                List<PluginDataContract> items = new ArrayList<>(children.size());
+                for (NodeConfig child : children) items.add(nodeContract(child, contracts));
+                boolean nestAllowed = depth + 1 <= maxDepth(node.getMaxDepth(), pipeline);
+                List<ParallelizationProposal> found = propose(path + ".children", items, nestAllowed);
+                proposals.addAll(found);
+                if (rewrite && !found.isEmpty()) node.setChildren(rewriteNodes(node, children, found));
+            });
+            List<CapabilityBlockConfig> blocks = pipeline.getCapabilities();
+            if (blocks == null) continue;
+            for (int b = 0; b < blocks.size(); b++) {
+                if (blocks.get(b) == null) continue;
+                List<GroupConfig> groups = blocks.get(b).getGroupsSafe();
+                for (int g = 0; g < groups.size(); g++) {
+                    GroupConfig group = groups.get(g);
+                    if (group == null || group.isAsync() || group.isConditional() || group.isIterative() || fused(group.getFuse(), false)) continue;
+                    List<Object> children = group.getChildrenAsList();
+                    List<PluginDataContract> items = new ArrayList<>(children.size());
+                    for (Object child : children) items.add(nameContract(child, contracts));
+                    boolean nestAllowed = 2 <= maxDepth(group.getMaxDepth(), pipeline);
+                    String listPath = base + ".capabilities[" + b + "].groups[" + g + "].children";
+                    List<ParallelizationProposal> found = propose(listPath, items, nestAllowed);
+                    proposals.addAll(found);
+                    if (rewrite && !found.isEmpty()) group.setChildren(rewriteNames(group, children, found));
+                }
+            }
+        }
+        return proposals;
+    }
+
+    /** Splits the children into runs between barriers (null items) and levels each run. */
+    private static List<ParallelizationProposal> propose(String listPath, List<PluginDataContract> items, boolean nestAllowed) {
+        List<ParallelizationProposal> proposals = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= items.size(); i++) {
+            if (i < items.size() && items.get(i) != null) continue;
+            if (i - start >= 2) {
+                List<List<Integer>> indices = levels(items, start, i);
+                boolean whole = start == 0 && i == items.size() && indices.size() == 1;
+                if (indices.size() < i - start && (whole || nestAllowed)) {
+                    List<List<String>> levels = new ArrayList<>(indices.size());
+                    for (List<Integer> level : indices) {
+                        List<String> names = new ArrayList<>(level.size());
+                        for (int index : level) names.add(items.get(index).plugin());
+                        levels.add(List.copyOf(names));
+                    }
+                    proposals.add(new ParallelizationProposal(listPath, start, i - 1, List.copyOf(levels), indices, whole));
+                }
+            }
+            start = i + 1;
+        }
+        return proposals;
+    }
+
+    /**
+     * Longest-path level of each plugin in items[from, to) over the conflict order, as child indices; plugins keep their
+     * relative order within a level.
+     */
+    private static List<List<Integer>> levels(List<PluginDataContract> items, int from, int to) {
+        int[] level = new int[to - from];
+        int max = 0;
+        for (int k = 0; k < level.length; k++) {
+            for (int j = 0; j < k; j++) {
+                if (items.get(from + j).conflictsWith(items.get(from + k))) level[k] = Math.max(level[k], level[j] + 1);
+            }
+            max = Math.max(max, level[k]);
+        }
+        List<List<Integer>> levels = new ArrayList<>(max + 1);
+        for (int l = 0; l <= max; l++) levels.add(new ArrayList<>());
+        for (int k = 0; k < level.length; k++) levels.get(level[k]).add(from + k);
+        List<List<Integer>> result = new ArrayList<>(levels.size());
+        for (List<Integer> l : levels) result.add(List.copyOf(l));
+        return List.copyOf(result);
+    }
+
+    private static List<NodeConfig> rewriteNodes(NodeConfig group, List<NodeConfig> children, List<ParallelizationProposal> proposals) {
+        if (proposals.size() == 1 && proposals.get(0).wholeGroup()) {
+            group.setExecutionMode("ASYNC");
+            if (group.getAsyncOutputMergePolicy() == null && group.getMergePolicy() == null) group.setAsyncOutputMergePolicy(MERGE_POLICY);
+            return children;
+        }
+        List<NodeConfig> result = new ArrayList<>(children);
+        for (int p = proposals.size() - 1; p >= 0; p--) {
+            ParallelizationProposal proposal = proposals.get(p);
+            List<NodeConfig> replacement = new ArrayList<>();
+            for (List<Integer> level : proposal.levelIndices()) {
+                if (level.size() == 1) {
+                    replacement.add(children.get(level.get(0)));
+                    continue;
+                }
+                List<NodeConfig> members = new ArrayList<>(level.size());
+                for (int index : level) members.add(children.get(index));
+                replacement.add(NodeConfig.builder().type("GROUP").executionMode("ASYNC").asyncOutputMergePolicy(MERGE_POLICY).children(members).build());
+            }
+            result.subList(proposal.fromIndex(), proposal.toIndex() + 1).clear();
+            result.addAll(proposal.fromIndex(), replacement);
+        }
+        return result;
+    }
+
+    private static List<Object> rewriteNames(GroupConfig group, List<Object> children, List<ParallelizationProposal> proposals) {
+        if (proposals.size() == 1 && proposals.get(0).wholeGroup()) {
+            group.setExecutionMode("ASYNC");
+            if (group.getAsyncOutputMergePolicy() == null && group.getMergePolicy() == null) group.setAsyncOutputMergePolicy(MERGE_POLICY);
+            return children;
+        }
+        List<Object> result = new ArrayList<>(children);
+        for (int p = proposals.size() - 1; p >= 0; p--) {
+            ParallelizationProposal proposal = proposals.get(p);
+            List<Object> replacement = new ArrayList<>();
+            for (List<Integer> level : proposal.levelIndices()) {
+                if (level.size() == 1) {
+                    replacement.add(children.get(level.get(0)));
+                    continue;
+                }
+                // Same shape as a nested group parsed from JSON.
+                Map<String, Object> nested = new LinkedHashMap<>();
+                nested.put("executionMode", "ASYNC");
+                nested.put("asyncOutputMergePolicy", MERGE_POLICY);
+                List<Object> members = new ArrayList<>(level.size());
+                for (int index : level) members.add(children.get(index));
+                nested.put("children", members);
+                replacement.add(nested);
+            }
+            result.subList(proposal.fromIndex(), proposal.toIndex() + 1).clear();
+            result.addAll(proposal.fromIndex(), replacement);
+        }
+        return result;
+    }
+
+    /** Contract of a PLUGIN node, or null when the node is a barrier. */
+    private static PluginDataContract nodeContract(NodeConfig node, Map<String, PluginDataContract> catalog) {
+        if (node == null || !node.isPlugin() || node.getName() == null || node.getFusionId() != null) return null;
+        if (node.getPluginType() != null && BARRIER_TYPES.contains(node.getPluginType())) return null;
+        return declared(node.getName(), catalog);
+    }
+
+    /** Contract of an activity-name child, or null when the child is a nested group or a barrier. */
+    private static PluginDataContract nameContract(Object child, Map<String, PluginDataContract> catalog) {
+        return child instanceof String name ? declared(name, catalog) : null;
+    }
+
+    private static PluginDataContract declared(String name, Map<String, PluginDataContract> catalog) {
+        PluginDataContract contract = catalog.get(name);
+        if (contract == null || !contract.isDeclared()) return null;
+        if (contract.pluginType() != null && BARRIER_TYPES.contains(contract.pluginType())) return null;
+        return contract.plugin() != null && contract.plugin().equals(name) ? contract
+                : new PluginDataContract(name, contract.pluginType(), contract.inputs(), contract.outputs());
+    }
+
+    private static boolean fused(Boolean fuse, boolean autoFuse) {
+        return Boolean.TRUE.equals(fuse) || (autoFuse && fuse == null);
+    }
+
+    private static int maxDepth(Integer groupMaxDepth, PipelineSection pipeline) {
+        return groupMaxDepth != null && groupMaxDepth > 0 ? groupMaxDepth : pipeline.getDefaultMaxGroupDepth();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import java.util.List;
+
+/**
+ * A rewrite proposed by {@link ParallelizationAdvisor} for consecutive children of a SYNC group.
+ *
+ * @param groupPath  JSON path of the children list (e.g. {@code $.pipelines.chat.rootByCapability.RETRIEVAL.children})
+ * @param fromIndex  index of the first child of the run (inclusive)
+ * @param toIndex    index of the last child of the run (inclusive)
+ * @param levels     plugins grouped by dependency level, in execution order; levels with more than one plugin run as ASYNC groups
+ * @param levelIndices child indices per level, parallel to {@code levels}; tells apart repeated plugins within one run
+ * @param wholeGroup true when the run covers the whole group, which is then switched to ASYNC instead of nesting groups
+ */
+public record ParallelizationProposal(String groupPath, int fromIndex, int toIndex, List<List<String>> levels,
+                                      List<List<Integer>> levelIndices, boolean wholeGroup) {
+
+    /** Sequential steps before the rewrite. */
+    public int stepsBefore() {
+        return toIndex - fromIndex + 1;
+    }
+
+    /** Sequential steps after the rewrite (one per level). */
+    public int stepsAfter() {
+        return levels.size();
+    }
+}
@@ -15,6 +15,11 @@
  */
 package com.openllmorchestrator.worker.engine.config.pipeline;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.openllmorchestrator.worker.engine.config.admission.AdmissionControlConfig;
+import com.openllmorchestrator.worker.engine.config.codec.PayloadCodecConfig;
+import com.openllmorchestrator.worker.engine.config.queue.AffinityConfig;
+import com.openllmorchestrator.worker.engine.config.warmup.WarmupConfig;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,6 +49,8 @@ public class PipelineSection {
     private NodeConfig root;
     /** Optional: capability name → plugin id. When absent, engine-level capabilityPlugins are used. */
     private Map<String, String> capabilityPlugins;
+    /** Optional: capability name → model fallback chain. Overrides engine-level capabilityFallbacks per capability. */
+    private Map<String, ModelFallbackChain> capabilityFallbacks;
     /**
      * Top-level flow: ordered list of capabilities. Each capability has groups; group children are activity names.
      * When non-null and non-empty, plan is built from this instead of root/rootByCapability.
@@ -54,4 +61,35 @@ public class PipelineSection {
      * When non-null and non-empty, plan is built from this. Accepts key "root" or "rootByCapability" in JSON.
      */
     private Map<String, NodeConfig> rootByCapability;
+    /**
+     * End-to-end deadline for one run (seconds). Node timeouts are clamped to the remaining budget ({@link DeadlineBudget}).
+     * Null or 0 = no deadline.
+     */
+    private Integer deadlineSeconds;
+    /** Latency targets (p50/p99) for this pipeline. */
+    private SloConfig slo;
+    /** INTERACTIVE | STANDARD | BATCH (see {@link PriorityClasses}). Null = STANDARD. */
+    private String priorityClass;
+    /** Streaming defaults for nodes marked with {@code streaming}; {@code enabled: false} turns streaming off for this pipeline. */
+    private StreamingConfig streaming;
+    /** Admission limits (max in-flight runs, rate, queue depth) checked before a run of this pipeline starts. */
+    private AdmissionControlConfig admission;
+    /** Warm-up entries for this pipeline, added to the engine-level warmup ({@code enabled: false} drops them). */
+    private WarmupConfig warmup;
+    /** When true, {@link ActivityFusionPass} fuses every SYNC group that does not set {@code fuse: false}. Default false. */
+    private Boolean autoFuse;
+    /** Worker affinity (sticky execution, preferred queue) for runs of this pipeline; see {@code QueueResolver}. */
+    private AffinityConfig affinity;
+    /** Optional: capability name → affinity; overrides {@link #affinity} for that capability. */
+    private Map<String, AffinityConfig> capabilityAffinity;
+    /** Payload codecs for this pipeline; overrides the engine-level {@code payloadCodec} key by key. */
+    private PayloadCodecConfig payloadCodec;
+    /** Weighted alternatives for A/B comparison on a slice of traffic; see {@link VariantSelector}. */
+    private List<PipelineVariantConfig> variants;
+
+    /** Priority class, defaulting to STANDARD. */
+    @JsonIgnore
+    public String getPriorityClassEffective() {
+        return priorityClass != null && !priorityClass.isBlank() ? priorityClass.trim().toUpperCase() : PriorityClasses.STANDARD;
+    }
 }
@@ -21,6 +21,10 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openllmorchestrator.worker.engine.config.admission.AdmissionControlConfig;
+import com.openllmorchestrator.worker.engine.config.codec.PayloadCodecConfig;
+import com.openllmorchestrator.worker.engine.config.queue.AffinityConfig;
+import com.openllmorchestrator.worker.engine.config.warmup.WarmupConfig;
 
 import java.io.IOException;
 import java.util.List;
@@ -56,6 +60,9 @@ public final class PipelineSectionDeserializer extends JsonDeserializer<Pipeline
         } else if (node.has("stagePlugins")) {
             section.setCapabilityPlugins(MAPPER.convertValue(node.get("stagePlugins"), new TypeReference<Map<String, String>>() {}));
         }
+        if (node.has("capabilityFallbacks")) {
+            section.setCapabilityFallbacks(MAPPER.convertValue(node.get("capabilityFallbacks"), new TypeReference<Map<String, ModelFallbackChain>>() {}));
+        }
         if (node.has("capabilities")) {
             section.setCapabilities(MAPPER.convertValue(node.get("capabilities"), new TypeReference<List<CapabilityBlockConfig>>() {}));
         } else if (node.has("stages")) {
@@ -80,6 +87,39 @@ public final class PipelineSectionDeserializer extends JsonDeserializer<Pipeline
                 section.setRootByCapability(MAPPER.convertValue(rootNode, new TypeReference<Map<String, NodeConfig>>() {}));
             }
         }
+        if (node.has("deadlineSeconds") && !node.get("deadlineSeconds").isNull()) {
+            section.setDeadlineSeconds(node.get("deadlineSeconds").asInt());
+        }
+        if (node.has("slo")) {
+            section.setSlo(MAPPER.treeToValue(node.get("slo"), SloConfig.class));
+        }
+        if (node.has("priorityClass")) {
+            section.setPriorityClass(node.get("priorityClass").asText());
+        }
+        if (node.has("streaming")) {
+            section.setStreaming(MAPPER.treeToValue(node.get("streaming"), StreamingConfig.class));
+        }
+        if (node.has("admission")) {
+            section.setAdmission(MAPPER.treeToValue(node.get("admission"), AdmissionControlConfig.class));
+        }
+        if (node.has("warmup")) {
+            section.setWarmup(MAPPER.treeToValue(node.get("warmup"), WarmupConfig.class));
+        }
+        if (node.has("autoFuse") && !node.get("autoFuse").isNull()) {
+            section.setAutoFuse(node.get("autoFuse").asBoolean());
+        }
+        if (node.has("affinity")) {
+            section.setAffinity(MAPPER.treeToValue(node.get("affinity"), AffinityConfig.class));
+        }
+        if (node.has("capabilityAffinity")) {
+            section.setCapabilityAffinity(MAPPER.convertValue(node.get("capabilityAffinity"), new TypeReference<Map<String, AffinityConfig>>() {}));
+        }
+        if (node.has("payloadCodec")) {
+            section.setPayloadCodec(MAPPER.treeToValue(node.get("payloadCodec"), PayloadCodecConfig.class));
+        }
+        if (node.has("variants")) {
+            section.setVariants(MAPPER.convertValue(node.get("variants"), new TypeReference<List<PipelineVariantConfig>>() {}));
+        }
 
         return section;
     }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * A weighted alternative of a pipeline for A/B comparison on live traffic. Either a whole {@link #pipeline} or
+ * {@link #overrides} merged into the base pipeline (JSON merge patch). {@link VariantSelector} assigns requests.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PipelineVariantConfig {
+    /** Variant name reported with each run (e.g. "async-retrieval"). Must be unique per pipeline and not "baseline". */
+    private String name;
+    /** Percent of traffic (0-100). The base pipeline receives what the variants leave. Null = 0. */
+    private Integer weight;
+    /** Complete alternative pipeline. Its own variants are ignored. */
+    private PipelineSection pipeline;
+    /**
+     * Changes to the base pipeline as serialized (current keys, e.g. {@code rootByCapability}): objects are merged
+     * recursively, arrays and values replace, null removes a key.
+     */
+    private Map<String, Object> overrides;
+
+    @JsonIgnore
+    public int getWeightEffective() {
+        return weight != null ? weight : 0;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Depth-first traversal of the node trees of a pipeline ({@code root} and {@code rootByCapability}).
+ * Visits GROUP and PLUGIN nodes, including conditional branches (then/elseif/else), with a JSON path per node.
+ * Depth is 1 for the capability (or legacy root) node and grows by one per nesting level.
+ */
+public final class PipelineWalker {
+
+    /** Callback for each visited node. */
+    @FunctionalInterface
+    public interface NodeVisitor {
+        void visit(String path, NodeConfig node, int depth);
+    }
+
+    private PipelineWalker() {}
+
+    /**
+     * Walks all node trees of the pipeline. Paths start at {@code basePath} (e.g. {@code $.pipelines.chat}).
+     */
+    public static void walk(String basePath, PipelineSection pipeline, NodeVisitor visitor) {
+        if (pipeline == null) return;
+        if (pipeline.getRoot() != null) {
+            walkNode(basePath + ".root", pipeline.getRoot(), 1, visitor);
+        }
+        Map<String, NodeConfig> byCapability = pipeline.getRootByCapability();
+        if (byCapability != null) {
+            for (Map.Entry<String, NodeConfig> e : byCapability.entrySet()) {
+                walkNode(basePath + ".rootByCapability." + e.getKey(), e.getValue(), 1, visitor);
+            }
+        }
+    }
+
+    /** Walks one node and everything below it. */
+    public static void walkNode(String path, NodeConfig node, int depth, NodeVisitor visitor) {
+        if (node == null) return;
+        visitor.visit(path, node, depth);
+        if (node.isPlugin()) return;
+        walkList(path + ".children", node.getChildren(), depth + 1, visitor);
+        walkList(path + ".thenChildren", node.getThenChildren(), depth + 1, visitor);
+        walkNode(path + ".thenGroup", node.getThenGroup(), depth + 1, visitor);
+        List<ElseIfBranchNodeConfig> branches = node.getElseifBranchesSafe();
+        for (int i = 0; i < branches.size(); i++) {
+            ElseIfBranchNodeConfig branch = branches.get(i);
+            if (branch == null) continue;
+            String branchPath = path + ".elseifBranches[" + i + "]";
+            walkList(branchPath + ".then", branch.getThen(), depth + 1, visitor);
+            walkNode(branchPath + ".thenGroup", branch.getThenGroup(), depth + 1, visitor);
+        }
+        walkList(path + ".elseChildren", node.getElseChildren(), depth + 1, visitor);
+        walkNode(path + ".elseGroup", node.getElseGroup(), depth + 1, visitor);
+    }
+
+    private static void walkList(String path, List<NodeConfig> nodes, int depth, NodeVisitor visitor) {
+        if (nodes == null) return;
+        for (int i = 0; i < nodes.size(); i++) {
+            walkNode(path + "[" + i + "]", nodes.get(i), depth, visitor);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import java.util.Set;
+
+/**
+ * Declared data flow of a plugin, taken from the plugin catalog ({@code inputs} and {@code outputs} in plugin.yaml).
+ * Used by {@link ParallelizationAdvisor}.
+ *
+ * @param plugin     plugin name as used in the config (class name or id)
+ * @param pluginType plugin type, or null when unknown
+ * @param inputs     keys the plugin reads; null = not declared (may read anything)
+ * @param outputs    keys the plugin writes; null = not declared (may write anything)
+ */
+public record PluginDataContract(String plugin, String pluginType, Set<String> inputs, Set<String> outputs) {
+
+    /** True when both inputs and outputs are declared, so dependencies on this plugin can be decided. */
+    public boolean isDeclared() {
+        return inputs != null && outputs != null;
+    }
+
+    /**
+     * True when the two plugins must keep their relative order: one writes a key the other reads or writes.
+     * Both contracts must be {@link #isDeclared() declared}.
+     */
+    public boolean conflictsWith(PluginDataContract other) {
+        return writesAny(other.inputs()) || writesAny(other.outputs()) || other.writesAny(inputs);
+    }
+
+    private boolean writesAny(Set<String> keys) {
+        for (String key : outputs) {
+            if (keys.contains(key)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import java.util.List;
+
+/**
+ * Allowed values for pipeline {@code priorityClass}. Workers use it to order work when pipelines share task queues
+ * and worker slots: INTERACTIVE before STANDARD before BATCH.
+ */
+public final class PriorityClasses {
+    /** Latency-sensitive, user-facing (e.g. chat). */
+    public static final String INTERACTIVE = "INTERACTIVE";
+    /** Default when not set. */
+    public static final String STANDARD = "STANDARD";
+    /** Throughput-oriented background work (e.g. document ingestion). */
+    public static final String BATCH = "BATCH";
+
+    /** Highest priority first. */
+    private static final List<String> ORDERED = List.of(INTERACTIVE, STANDARD, BATCH);
+
+    private PriorityClasses() {}
+
+    public static boolean isAllowed(String priorityClass) {
+        return priorityClass != null && ORDERED.contains(priorityClass.trim().toUpperCase());
+    }
+
+    /** Rank for ordering: 0 = highest priority. Unknown or null values rank as STANDARD. */
+    public static int rank(String priorityClass) {
+        int i = priorityClass != null ? ORDERED.indexOf(priorityClass.trim().toUpperCase()) : -1;
+        return i >= 0 ? i : ORDERED.indexOf(STANDARD);
+    }
+
+    public static List<String> all() {
+        return ORDERED;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Streaming settings (STREAMING feature). At pipeline level: defaults for all streaming nodes, and {@code enabled: false}
+ * switches streaming off for the whole pipeline. At PLUGIN node level: marks the node as streaming (unless
+ * {@code enabled: false}) and overrides pipeline defaults. Only streaming-capable plugin types may stream
+ * ({@link AllowedPluginTypes#isStreamingCapable(String)}).
+ * <p>
+ * Example: {@code "streaming": { "tokenBufferSize": 64, "flushIntervalMillis": 25, "overflowPolicy": "COALESCE" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StreamingConfig {
+    /** Producer waits until the consumer drains the buffer (no token loss; backpressure reaches the plugin). */
+    public static final String BLOCK = "BLOCK";
+    /** Oldest buffered tokens are dropped (lowest memory, lossy; for progress-style updates). */
+    public static final String DROP_OLDEST = "DROP_OLDEST";
+    /** Buffered tokens are merged into one chunk (no loss, fewer larger messages). */
+    public static final String COALESCE = "COALESCE";
+
+    public static final Set<String> OVERFLOW_POLICIES = Set.of(BLOCK, DROP_OLDEST, COALESCE);
+
+    public static final int DEFAULT_TOKEN_BUFFER_SIZE = 256;
+    public static final int DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+
+    /** Node: whether this node streams (default true when the block is present). Pipeline: false disables streaming for all nodes. */
+    private Boolean enabled;
+    /** Max tokens buffered per stream before the overflow policy applies (default 256). */
+    private Integer tokenBufferSize;
+    /** Max time tokens wait in the buffer before being pushed to the observer (default 50 ms). */
+    private Integer flushIntervalMillis;
+    /** BLOCK (default) | DROP_OLDEST | COALESCE. */
+    private String overflowPolicy;
+
+    @JsonIgnore
+    public int getTokenBufferSizeEffective() {
+        return tokenBufferSize != null ? tokenBufferSize : DEFAULT_TOKEN_BUFFER_SIZE;
+    }
+
+    @JsonIgnore
+    public int getFlushIntervalMillisEffective() {
+        return flushIntervalMillis != null ? flushIntervalMillis : DEFAULT_FLUSH_INTERVAL_MILLIS;
+    }
+
+    @JsonIgnore
+    public String getOverflowPolicyEffective() {
+        return overflowPolicy != null && !overflowPolicy.isBlank() ? overflowPolicy.trim().toUpperCase() : BLOCK;
+    }
+
+    /**
+     * Effective streaming settings for a node: node values override pipeline values.
+     * Returns null when the node does not stream (no node block, node disabled, or pipeline disabled).
+     */
+    public static StreamingConfig effectiveFor(PipelineSection pipeline, NodeConfig node) {
+        StreamingConfig nodeLevel = node != null ? node.getStreaming() : null;
+        if (nodeLevel == null || Boolean.FALSE.equals(nodeLevel.getEnabled())) return null;
+        StreamingConfig pipelineLevel = pipeline != null ? pipeline.getStreaming() : null;
+        if (pipelineLevel == null) return nodeLevel;
+        if (Boolean.FALSE.equals(pipelineLevel.getEnabled())) return null;
+        return StreamingConfig.builder()
+                .enabled(Boolean.TRUE)
+                .tokenBufferSize(nodeLevel.getTokenBufferSize() != null ? nodeLevel.getTokenBufferSize() : pipelineLevel.getTokenBufferSize())
+                .flushIntervalMillis(nodeLevel.getFlushIntervalMillis() != null ? nodeLevel.getFlushIntervalMillis() : pipelineLevel.getFlushIntervalMillis())
+                .overflowPolicy(nodeLevel.getOverflowPolicy() != null ? nodeLevel.getOverflowPolicy() : pipelineLevel.getOverflowPolicy())
+                .build();
+    }
+}
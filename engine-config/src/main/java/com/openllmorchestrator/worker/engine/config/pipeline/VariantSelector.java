@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.pipeline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.openllmorchestrator.worker.engine.config.EngineConfigMapper;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Assigns runs of one pipeline to its weighted {@link PipelineSection#getVariants() variants}. Selection hashes a
+ * request or tenant id together with the pipeline name into one of 100 buckets, so the same id always gets the same
+ * variant (use the tenant id for sticky per-tenant assignment) and different pipelines split independently.
+ * Variant pipelines (whole or base + overrides) are built once here; {@link #select(CharSequence)} does not allocate.
+ * Index 0 is the base pipeline ({@link #BASELINE}). Immutable and thread-safe.
+ */
+public final class VariantSelector {
+
+    public static final String BASELINE = "baseline";
+    /** Traffic buckets; variant weights are percentages. */
+    public static final int BUCKETS = 100;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long salt;
+    private final String[] names;
+    private final int[] weights;
+    private final PipelineSection[] pipelines;
+    /** upperBounds[i] = first bucket after variant i + 1; buckets from the last bound up are the baseline's. */
+    private final int[] upperBounds;
+
+    private VariantSelector(String pipelineName, String[] names, int[] weights, PipelineSection[] pipelines) {
+        this.salt = hash(FNV_OFFSET, pipelineName);
+        this.names = names;
+        this.weights = weights;
+        this.pipelines = pipelines;
+        this.upperBounds = new int[names.length - 1];
+        int bound = 0;
+        for (int i = 1; i < names.length; i++) {
+            bound += weights[i];
+            upperBounds[i - 1] = bound;
+        }
+    }
+
+    /**
+     * Builds the selector for a pipeline.
+     *
+     * @throws IllegalArgumentException if variants are invalid (see {@code VariantCheck}) or overrides do not yield a pipeline
+     */
+    public static VariantSelector of(String pipelineName, PipelineSection pipeline) {
+        Objects.requireNonNull(pipeline, "pipeline");
+        List<PipelineVariantConfig> variants = pipeline.getVariants() != null ? pipeline.getVariants() : List.of();
+        int n = variants.size() + 1;
+        String[] names = new String[n];
+        int[] weights = new int[n];
+        PipelineSection[] pipelines = new PipelineSection[n];
+        names[0] = BASELINE;
+        pipelines[0] = pipeline;
+        int total = 0;
+        for (int i = 0; i < variants.size(); i++) {
+            PipelineVariantConfig variant = variants.get(i);
+            if (variant == null || variant.getName() == null || variant.getName().isBlank()) {
+                throw new IllegalArgumentException("variants[" + i + "]: name is required");
+            }
+            String name = variant.getName().trim();
+            if (BASELINE.equals(name)) throw new IllegalArgumentException("variants[" + i + "]: name \"" + BASELINE + "\" is reserved for the base pipeline");
+            for (int k = 0; k <= i; k++) {
+                if (name.equals(names[k])) throw new IllegalArgumentException("variants[" + i + "]: duplicate name " + name);
+            }
+            int weight = variant.getWeightEffective();
+            if (weight < 0 || weight > BUCKETS) {
+                throw new IllegalArgumentException("variants[" + i + "]: weight must be between 0 and " + BUCKETS + ", got " + weight);
+            }
+            total += weight;
+            names[i + 1] = name;
+            weights[i + 1] = weight;
+            pipelines[i + 1] = variantPipeline(pipeline, variant, i);
+        }
+        if (total > BUCKETS) {
+            throw new IllegalArgumentException("variant weights add up to " + total + "%, more than 100%");
+        }
+        weights[0] = BUCKETS - total;
+        return new VariantSelector(pipelineName != null ? pipelineName : "", names, weights, pipelines);
+    }
+
+    /** Variant index for the id (0 = baseline). Null or empty ids get the baseline. */
+    public int select(CharSequence id) {
+        if (id == null || id.length() == 0 || upperBounds.length == 0) return 0;
+        int bucket = (int) Long.remainderUnsigned(mix(hash(salt, id)), BUCKETS);
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (bucket < upperBounds[i]) return i + 1;
+        }
+        return 0;
+    }
+
+    /** Pipeline to run for the id. */
+    public PipelineSection selectPipeline(CharSequence id) {
+        return pipelines[select(id)];
+    }
+
+    /** Number of variants including the baseline. */
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    /** Percent of traffic the variant receives; the baseline gets the remainder. */
+    public int weight(int index) {
+        return weights[index];
+    }
+
+    /** Effective pipeline of the variant; index 0 is the base pipeline itself. */
+    public PipelineSection pipeline(int index) {
+        return pipelines[index];
+    }
+
+    private static PipelineSection variantPipeline(PipelineSection base, PipelineVariantConfig variant, int i) {
+        boolean whole = variant.getPipeline() != null;
+        boolean patch = variant.getOverrides() != null;
+        if (whole == patch) {
+            throw new IllegalArgumentException("variants[" + i + "]: set exactly one of pipeline or overrides");
+        }
+        if (whole) return variant.getPipeline();
+        ObjectMapper mapper = EngineConfigMapper.getInstance().getObjectMapper();
+        ObjectNode tree = mapper.valueToTree(base);
+        tree.remove("variants");
+        mergePatch(tree, mapper.valueToTree(variant.getOverrides()));
+        try {
+            return mapper.treeToValue(tree, PipelineSection.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("variants[" + i + "]: overrides do not yield a valid pipeline: " + e.getMessage(), e);
+        }
+    }
+
+    /** RFC 7386 merge: objects merge recursively, null removes, anything else replaces. */
+    static void mergePatch(ObjectNode target, JsonNode patch) {
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            JsonNode current = target.get(field.getKey());
+            if (value.isNull()) {
+                target.remove(field.getKey());
+            } else if (value.isObject() && current != null && current.isObject()) {
+                mergePatch((ObjectNode) current, value);
+            } else {
+                target.set(field.getKey(), value.deepCopy());
+            }
+        }
+    }
+
+    private static long hash(long seed, CharSequence s) {
+        long h = seed;
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    /** Final avalanche (MurmurHash3 fmix64) so ids that differ only in the last characters spread over all buckets. */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.queue;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Worker affinity for a pipeline ({@code pipelines.<name>.affinity}) or one of its capabilities
+ * ({@code pipelines.<name>.capabilityAffinity.<CAPABILITY>}). Keeps runs on workers with warm local state
+ * (memory caches, loaded models, connection pools). Resolved together with {@link QueueTopologyConfig} by {@link QueueResolver}.
+ * <p>
+ * Example: {@code "affinity": { "sticky": true, "stickyScheduleToStartSeconds": 3, "preferredQueue": "model-gpu-queue" }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AffinityConfig {
+    public static final int DEFAULT_STICKY_SCHEDULE_TO_START_SECONDS = 5;
+
+    /** Prefer the worker that ran the previous tasks of the same run (Temporal sticky execution). */
+    private Boolean sticky;
+    /** How long a task waits for the sticky worker before it goes to the shared queue (default 5). */
+    private Integer stickyScheduleToStartSeconds;
+    /** Task queue to run on for cache locality (e.g. the queue served by workers that hold a loaded model). */
+    private String preferredQueue;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.queue;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+
+import java.util.Map;
+
+/**
+ * Resolves the task queue and sticky settings for a capability of a pipeline run, combining {@link QueueTopologyConfig}
+ * and {@link AffinityConfig}. Queue precedence:
+ * <ol>
+ *   <li>QUEUE_PER_TENANT mapping for the tenant (isolation is a hard boundary)</li>
+ *   <li>capability affinity {@code preferredQueue}</li>
+ *   <li>pipeline affinity {@code preferredQueue}</li>
+ *   <li>QUEUE_PER_STAGE mapping for the capability</li>
+ *   <li>worker queueName</li>
+ * </ol>
+ * Sticky settings come from the capability affinity, else the pipeline affinity.
+ */
+public final class QueueResolver {
+
+    private QueueResolver() {}
+
+    public static QueueRoute resolve(EngineFileConfig config, String pipelineName, String capability, String tenantId) {
+        PipelineSection pipeline = config != null && pipelineName != null ? config.getPipelinesEffective().get(pipelineName) : null;
+        AffinityConfig pipelineAffinity = pipeline != null ? pipeline.getAffinity() : null;
+        AffinityConfig capabilityAffinity = capabilityAffinity(pipeline, capability);
+        QueueTopologyConfig topology = config != null ? config.getQueueTopology() : null;
+
+        String queue = null;
+        String source = null;
+        if (topology != null && QueueTopologyConfig.QUEUE_PER_TENANT.equals(topology.getStrategy()) && tenantId != null) {
+            queue = lookup(topology.getTenantToQueue(), tenantId);
+            source = QueueRoute.TENANT;
+        }
+        if (queue == null) {
+            queue = preferredQueue(capabilityAffinity);
+            source = QueueRoute.CAPABILITY_AFFINITY;
+        }
+        if (queue == null) {
+            queue = preferredQueue(pipelineAffinity);
+            source = QueueRoute.PIPELINE_AFFINITY;
+        }
+        if (queue == null && topology != null && QueueTopologyConfig.QUEUE_PER_STAGE.equals(topology.getStrategy()) && capability != null) {
+            queue = lookup(topology.getStageToQueue(), capability);
+            source = QueueRoute.STAGE;
+        }
+        if (queue == null) {
+            queue = config != null && config.getWorker() != null ? config.getWorker().getQueueName() : null;
+            source = QueueRoute.WORKER;
+        }
+
+        AffinityConfig stickySource = capabilityAffinity != null && capabilityAffinity.getSticky() != null ? capabilityAffinity : pipelineAffinity;
+        boolean sticky = stickySource != null && Boolean.TRUE.equals(stickySource.getSticky());
+        int stickyTimeout = AffinityConfig.DEFAULT_STICKY_SCHEDULE_TO_START_SECONDS;
+        if (capabilityAffinity != null && capabilityAffinity.getStickyScheduleToStartSeconds() != null) {
+            stickyTimeout = capabilityAffinity.getStickyScheduleToStartSeconds();
+        } else if (pipelineAffinity != null && pipelineAffinity.getStickyScheduleToStartSeconds() != null) {
+            stickyTimeout = pipelineAffinity.getStickyScheduleToStartSeconds();
+        }
+        return new QueueRoute(queue, source, sticky, stickyTimeout);
+    }
+
+    private static AffinityConfig capabilityAffinity(PipelineSection pipeline, String capability) {
+        if (pipeline == null || capability == null || pipeline.getCapabilityAffinity() == null) return null;
+        return pipeline.getCapabilityAffinity().get(capability);
+    }
+
+    private static String preferredQueue(AffinityConfig affinity) {
+        if (affinity == null || affinity.getPreferredQueue() == null || affinity.getPreferredQueue().isBlank()) return null;
+        return affinity.getPreferredQueue().trim();
+    }
+
+    private static String lookup(Map<String, String> map, String key) {
+        String value = map != null ? map.get(key) : null;
+        return value != null && !value.isBlank() ? value : null;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.queue;
+
+/**
+ * Resolved placement for a capability of a pipeline run.
+ *
+ * @param queue                        task queue to schedule on
+ * @param source                       where the queue came from: TENANT, CAPABILITY_AFFINITY, PIPELINE_AFFINITY, STAGE or WORKER
+ * @param sticky                       whether to prefer the worker that ran the previous tasks of the run
+ * @param stickyScheduleToStartSeconds sticky wait before falling back to the shared queue (meaningful when sticky)
+ */
+public record QueueRoute(String queue, String source, boolean sticky, int stickyScheduleToStartSeconds) {
+    public static final String TENANT = "TENANT";
+    public static final String CAPABILITY_AFFINITY = "CAPABILITY_AFFINITY";
+    public static final String PIPELINE_AFFINITY = "PIPELINE_AFFINITY";
+    public static final String STAGE = "STAGE";
+    public static final String WORKER = "WORKER";
+}
@@ -3,6 +3,7 @@
  */
 package com.openllmorchestrator.worker.engine.config.queue;
 
+import com.openllmorchestrator.worker.engine.config.admission.AdmissionControlConfig;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,8 +27,21 @@ public class QueueTopologyConfig {
     private String strategy = "SINGLE";
     private Map<String, String> stageToQueue = Collections.emptyMap();
     private Map<String, String> tenantToQueue = Collections.emptyMap();
+    /** Admission limits per tenant id (checked before a workflow starts); keeps one tenant's burst from starving the others. */
+    private Map<String, AdmissionControlConfig> tenantAdmission;
+    /** Admission limits for tenants without an entry in {@link #tenantAdmission}. Null = no tenant limit. */
+    private AdmissionControlConfig defaultTenantAdmission;
 
     public static final String SINGLE = "SINGLE";
     public static final String QUEUE_PER_STAGE = "QUEUE_PER_STAGE";
     public static final String QUEUE_PER_TENANT = "QUEUE_PER_TENANT";
+
+    /** Admission limits for the tenant: its own entry, else {@link #defaultTenantAdmission}; null when neither is set. */
+    public AdmissionControlConfig admissionFor(String tenantId) {
+        if (tenantId != null && tenantAdmission != null) {
+            AdmissionControlConfig own = tenantAdmission.get(tenantId);
+            if (own != null) return own;
+        }
+        return defaultTenantAdmission;
+    }
 }
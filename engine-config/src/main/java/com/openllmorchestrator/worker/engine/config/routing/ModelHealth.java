@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.routing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Observed health of one model plugin: exponentially weighted moving averages of latency and error rate.
+ * A plugin outside its thresholds gets one probe call per probe interval ({@link #tryProbe(long, long)}); the outcome
+ * of that call replaces the averages, so a single good probe makes the plugin eligible again.
+ * Lock-free (CAS on the double bits); safe to update from many activity threads.
+ */
+public final class ModelHealth {
+
+    /** Weight of the newest sample in the moving averages. */
+    public static final double DEFAULT_ALPHA = 0.1;
+    /** Samples required before the averages are trusted for routing. */
+    public static final int MIN_SAMPLES = 10;
+
+    private final double alpha;
+    private final AtomicLong latencyBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final AtomicLong errorBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final AtomicLong samples = new AtomicLong();
+    /** Start of the current probe interval ({@link System#nanoTime()} scale), or NO_PROBE while healthy. */
+    private final AtomicLong probeAtNanos = new AtomicLong(NO_PROBE);
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private static final long NO_PROBE = Long.MIN_VALUE;
+
+    public ModelHealth() {
+        this(DEFAULT_ALPHA);
+    }
+
+    public ModelHealth(double alpha) {
+        if (!(alpha > 0 && alpha <= 1)) throw new IllegalArgumentException("alpha must be in (0, 1]");
+        this.alpha = alpha;
+    }
+
+    /** Records one call: latency in milliseconds and whether it succeeded. */
+    public void record(long latencyMillis, boolean success) {
+        boolean probe = probing.get() && probing.compareAndSet(true, false);
+        boolean first = samples.getAndIncrement() == 0 || probe;
+        update(latencyBits, latencyMillis, first);
+        update(errorBits, success ? 0.0 : 1.0, first);
+    }
+
+    public double latencyMillis() {
+        return Double.longBitsToDouble(latencyBits.get());
+    }
+
+    public double errorRate() {
+        return Double.longBitsToDouble(errorBits.get());
+    }
+
+    public long samples() {
+        return samples.get();
+    }
+
+    /** True when enough samples exist and they are within the thresholds (null thresholds are not checked). */
+    public boolean isWithin(Long maxLatencyMillis, Double maxErrorRate) {
+        if (samples.get() < MIN_SAMPLES) return true;
+        if (maxLatencyMillis != null && latencyMillis() > maxLatencyMillis) return false;
+        return maxErrorRate == null || errorRate() <= maxErrorRate;
+    }
+
+    /**
+     * Whether the caller may send one probe call to this (unhealthy) plugin. The first call starts the probe interval;
+     * afterwards one caller per {@code intervalNanos} wins. The next recorded outcome then replaces the averages.
+     */
+    public boolean tryProbe(long nowNanos, long intervalNanos) {
+        long since = probeAtNanos.get();
+        if (since == NO_PROBE) {
+            probeAtNanos.compareAndSet(NO_PROBE, nowNanos);
+            return false;
+        }
+        if (nowNanos - since < intervalNanos || !probeAtNanos.compareAndSet(since, nowNanos)) return false;
+        probing.set(true);
+        return true;
+    }
+
+    /** Ends the probe interval once the plugin is within its thresholds again. */
+    void clearProbe() {
+        if (probeAtNanos.get() != NO_PROBE) probeAtNanos.set(NO_PROBE);
+    }
+
+    private void update(AtomicLong bits, double sample, boolean first) {
+        while (true) {
+            long current = bits.get();
+            double next = first ? sample : Double.longBitsToDouble(current) + alpha * (sample - Double.longBitsToDouble(current));
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(next))) return;
+        }
+    }
+}
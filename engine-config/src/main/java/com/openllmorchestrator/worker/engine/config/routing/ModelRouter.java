@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.routing;
+
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackChain;
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackTarget;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the model plugin to call for a {@link ModelFallbackChain}, based on the {@link ModelHealth} observed per plugin.
+ * ORDERED uses the primary while it is within the chain thresholds, else the first eligible target. WEIGHTED picks the
+ * eligible plugin (primary included) with the best quality/cost score. When nothing is eligible the primary is used.
+ * A plugin routed around is probed with one call per probe interval, but only when it ranks ahead of the plugin that
+ * would be picked instead; a good probe makes it eligible again, so a single bad window does not demote it for good.
+ * Workers share one router and report every call with {@link #record(String, long, boolean)}.
+ */
+public final class ModelRouter {
+
+    /** Default interval between probe calls to a plugin outside its thresholds. */
+    public static final long DEFAULT_PROBE_INTERVAL_MILLIS = 30_000L;
+
+    private final Map<String, ModelHealth> health = new ConcurrentHashMap<>();
+    private final long probeIntervalNanos;
+
+    public ModelRouter() {
+        this(DEFAULT_PROBE_INTERVAL_MILLIS);
+    }
+
+    public ModelRouter(long probeIntervalMillis) {
+        if (probeIntervalMillis <= 0) throw new IllegalArgumentException("probeIntervalMillis must be positive");
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(probeIntervalMillis);
+    }
+
+    public String select(String primary, ModelFallbackChain chain) {
+        return select(primary, chain, System.nanoTime());
+    }
+
+    /** Plugin to call: {@code primary} or one of the chain targets ({@link System#nanoTime()} scale). Does not allocate. */
+    public String select(String primary, ModelFallbackChain chain, long nowNanos) {
+        if (chain == null || chain.getTargetsSafe().isEmpty()) return primary;
+        boolean weighted = ModelFallbackChain.WEIGHTED.equals(chain.getStrategyEffective());
+        boolean primaryOk = isWithin(primary, chain.getMaxLatencyMillis(), chain.getMaxErrorRate());
+        if (!weighted && (primaryOk || tryProbe(primary, nowNanos))) return primary;
+        double primaryScore = score(chain, chain.getQualityEffective(), chain.getCostEffective());
+        String best = primaryOk ? primary : null;
+        double bestScore = primaryOk ? primaryScore : Double.NEGATIVE_INFINITY;
+        // WEIGHTED: best-scoring unhealthy plugin, probed when it would beat the healthy pick.
+        String probe = primaryOk ? null : primary;
+        double probeScore = primaryOk ? Double.NEGATIVE_INFINITY : primaryScore;
+        List<ModelFallbackTarget> targets = chain.getTargetsSafe();
+        for (int i = 0; i < targets.size(); i++) {
+            ModelFallbackTarget t = targets.get(i);
+            if (t == null || t.getPlugin() == null) continue;
+            boolean ok = isWithin(t.getPlugin(), t.getMaxLatencyMillis(), t.getMaxErrorRate());
+            if (!weighted) {
+                if (ok || tryProbe(t.getPlugin(), nowNanos)) return t.getPlugin();
+                continue;
+            }
+            double score = score(chain, t.getQualityEffective(), t.getCostEffective());
+            if (ok && score > bestScore) {
+                bestScore = score;
+                best = t.getPlugin();
+            } else if (!ok && score > probeScore) {
+                probeScore = score;
+                probe = t.getPlugin();
+            }
+        }
+        if (probe != null && probeScore > bestScore && tryProbe(probe, nowNanos)) return probe;
+        return best != null ? best : primary;
+    }
+
+    /** Records the outcome of a call to {@code plugin}. */
+    public void record(String plugin, long latencyMillis, boolean success) {
+        if (plugin == null) return;
+        health.computeIfAbsent(plugin, k -> new ModelHealth()).record(latencyMillis, success);
+    }
+
+    /** Observed health of a plugin, or null when no call was recorded. */
+    public ModelHealth health(String plugin) {
+        return plugin != null ? health.get(plugin) : null;
+    }
+
+    private static double score(ModelFallbackChain chain, double quality, double cost) {
+        return chain.getQualityWeightEffective() * quality - chain.getCostWeightEffective() * cost;
+    }
+
+    private boolean isWithin(String plugin, Long maxLatencyMillis, Double maxErrorRate) {
+        ModelHealth h = plugin != null ? health.get(plugin) : null;
+        if (h == null) return true;
+        if (!h.isWithin(maxLatencyMillis, maxErrorRate)) return false;
+        h.clearProbe();
+        return true;
+    }
+
+    private boolean tryProbe(String plugin, long nowNanos) {
+        ModelHealth h = plugin != null ? health.get(plugin) : null;
+        return h != null && h.tryProbe(nowNanos, probeIntervalNanos);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@link CapacityPlanner#plan(com.openllmorchestrator.worker.engine.config.EngineFileConfig, CapacityPlanSpec)}.
+ *
+ * @param strategy              queueTopology strategy the plan was computed for
+ * @param queues                sizing per task queue, largest slot demand first
+ * @param peakFanOutByPipeline  widest concurrent activity count of one run, per pipeline
+ * @param totalWorkers          sum of workers over all queues
+ * @param warnings              inputs that were ignored (unknown pipelines, invalid rates or shares)
+ */
+public record CapacityPlan(
+        String strategy,
+        List<QueueCapacity> queues,
+        Map<String, Integer> peakFanOutByPipeline,
+        int totalWorkers,
+        List<String> warnings) {
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Inputs for {@link CapacityPlanner}: target request rate per pipeline, per-plugin service times and worker sizing.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * { "requestRatesPerSecond": { "chat": 40, "document-ingestion": 5 },
+ *   "tenantShares": { "tenant-a": 0.6 },
+ *   "model": { "plugins": { "llama-model": { "p50Millis": 900, "p99Millis": 4000 } }, "defaultPlugin": { "meanMillis": 20 } },
+ *   "targetUtilization": 0.7, "activitySlotsPerWorker": 100 }
+ * }</pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CapacityPlanSpec {
+    public static final double DEFAULT_TARGET_UTILIZATION = 0.7;
+    /** Temporal SDK default for maxConcurrentActivityExecutionSize. */
+    public static final int DEFAULT_ACTIVITY_SLOTS_PER_WORKER = 200;
+    public static final double DEFAULT_TASKS_PER_POLLER_PER_SECOND = 20;
+
+    /** Pipeline name → target requests per second. */
+    private Map<String, Double> requestRatesPerSecond;
+    /** Tenant → share (0..1) of each pipeline's traffic; used with QUEUE_PER_TENANT. The rest goes to the worker queue. */
+    private Map<String, Double> tenantShares;
+    /** Plugin latencies (mean = service time), branch weights and iteration items. Load fields (runs, arrival rate) are ignored. */
+    private SimulationSpec model;
+    /** Fraction of activity slots busy at the target rate (0..1]. Default 0.7; headroom absorbs bursts. */
+    private Double targetUtilization;
+    /** Activity slots per worker process (maxConcurrentActivityExecutionSize). Default 200. */
+    private Integer activitySlotsPerWorker;
+    /** Tasks one poller sustains per second; drives the poller recommendation. Default 20. */
+    private Double tasksPerPollerPerSecond;
+
+    @JsonIgnore
+    public Map<String, Double> getRequestRatesPerSecondSafe() {
+        return requestRatesPerSecond != null ? requestRatesPerSecond : Collections.emptyMap();
+    }
+
+    @JsonIgnore
+    public Map<String, Double> getTenantSharesSafe() {
+        return tenantShares != null ? tenantShares : Collections.emptyMap();
+    }
+
+    @JsonIgnore
+    public SimulationSpec getModelEffective() {
+        return model != null ? model : new SimulationSpec();
+    }
+
+    @JsonIgnore
+    public double getTargetUtilizationEffective() {
+        return targetUtilization != null && targetUtilization > 0 && targetUtilization <= 1 ? targetUtilization : DEFAULT_TARGET_UTILIZATION;
+    }
+
+    @JsonIgnore
+    public int getActivitySlotsPerWorkerEffective() {
+        return activitySlotsPerWorker != null && activitySlotsPerWorker > 0 ? activitySlotsPerWorker : DEFAULT_ACTIVITY_SLOTS_PER_WORKER;
+    }
+
+    @JsonIgnore
+    public double getTasksPerPollerPerSecondEffective() {
+        return tasksPerPollerPerSecond != null && tasksPerPollerPerSecond > 0 ? tasksPerPollerPerSecond : DEFAULT_TASKS_PER_POLLER_PER_SECOND;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.queue.QueueResolver;
+import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Activity;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Conditional;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Dag;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Loop;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Parallel;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Sequence;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Step;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sizes task queues and worker fleets for target request rates. Expected activity time per run is derived analytically
+ * from the same step model as {@link PipelineSimulator} (mean service times, branch weights, iteration items, retries),
+ * routed to queues with {@link QueueResolver} (SINGLE, QUEUE_PER_STAGE, QUEUE_PER_TENANT and affinity), and turned
+ * into slots with Little's law: busy slots = rate × activity seconds per run.
+ * <p>
+ * Poller counts are a heuristic: one poller per {@code tasksPerPollerPerSecond} tasks per worker, at least 2.
+ * All children of FIRST_SUCCESS groups are counted, so the plan errs towards more capacity.
+ */
+public final class CapacityPlanner {
+
+    /** Poller floor; a single poller stalls the queue during its long-poll round trip. */
+    static final int MIN_POLLERS = 2;
+    /** Worker queue when the config does not set one (same default as {@code EngineFileConfig.applyDefaultGlobals}). */
+    static final String DEFAULT_QUEUE = "core-task-queue";
+
+    /** Indices into the per-capability load arrays. */
+    private static final int BUSY_MILLIS = 0;
+    private static final int ATTEMPTS = 1;
+
+    private CapacityPlanner() {}
+
+    public static CapacityPlan plan(EngineFileConfig config, CapacityPlanSpec spec) {
+        CapacityPlanSpec effective = spec != null ? spec : new CapacityPlanSpec();
+        SimulationSpec model = effective.getModelEffective();
+        QueueTopologyConfig topology = config.getQueueTopology();
+        String strategy = topology != null && topology.getStrategy() != null ? topology.getStrategy() : QueueTopologyConfig.SINGLE;
+        List<String> warnings = new ArrayList<>();
+        Map<String, Integer> peakFanOut = new LinkedHashMap<>();
+        Map<String, QueueLoad> loads = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Double> e : effective.getRequestRatesPerSecondSafe().entrySet()) {
+            String name = e.getKey();
+            PipelineSection pipeline = config.getPipelinesEffective().get(name);
+            if (pipeline == null) {
+                warnings.add("Unknown pipeline " + name + "; rate ignored");
+                continue;
+            }
+            double rate = e.getValue() != null ? e.getValue() : 0;
+            if (!(rate > 0)) {
+                warnings.add("Pipeline " + name + " has no positive rate; ignored");
+                continue;
+            }
+            Step plan;
+            try {
+                plan = SimulationPlan.compile(config, pipeline);
+            } catch (IllegalArgumentException ex) {
+                warnings.add("Pipeline " + name + " skipped: " + ex.getMessage());
+                continue;
+            }
+            Map<String, double[]> perCapability = new LinkedHashMap<>();
+            expect(plan, 1.0, model, perCapability);
+            double attemptsPerRun = 0;
+            for (double[] load : perCapability.values()) attemptsPerRun += load[ATTEMPTS];
+            int width = width(plan, model);
+            peakFanOut.put(name, width);
+
+            for (Map.Entry<String, Double> split : splits(strategy, rate, effective, name, warnings).entrySet()) {
+                String tenant = split.getKey().isEmpty() ? null : split.getKey();
+                double splitRate = split.getValue();
+                QueueLoad workflowQueue = load(loads, QueueResolver.resolve(config, name, null, tenant).queue());
+                workflowQueue.workflowTasks += splitRate * (attemptsPerRun + 1);
+                workflowQueue.pipelines.add(name);
+                for (Map.Entry<String, double[]> c : perCapability.entrySet()) {
+                    QueueLoad queue = load(loads, QueueResolver.resolve(config, name, c.getKey(), tenant).queue());
+                    queue.busySlots += splitRate * c.getValue()[BUSY_MILLIS] / 1000.0;
+                    queue.activityTasks += splitRate * c.getValue()[ATTEMPTS];
+                    queue.peakFanOut = Math.max(queue.peakFanOut, width);
+                    queue.pipelines.add(name);
+                }
+            }
+        }
+
+        double utilization = effective.getTargetUtilizationEffective();
+        int slotsPerWorker = effective.getActivitySlotsPerWorkerEffective();
+        double perPoller = effective.getTasksPerPollerPerSecondEffective();
+        List<QueueCapacity> queues = new ArrayList<>();
+        int totalWorkers = 0;
+        for (Map.Entry<String, QueueLoad> e : loads.entrySet()) {
+            QueueLoad load = e.getValue();
+            int slots = load.activityTasks > 0 ? Math.max((int) Math.ceil(load.busySlots / utilization), load.peakFanOut) : 0;
+            int workers = Math.max(1, (int) Math.ceil((double) slots / slotsPerWorker));
+            int activityPollers = load.activityTasks > 0 ? pollers(load.activityTasks / workers, perPoller, slotsPerWorker) : 0;
+            int workflowPollers = load.workflowTasks > 0 ? pollers(load.workflowTasks / workers, perPoller, slotsPerWorker) : 0;
+            queues.add(new QueueCapacity(e.getKey(), List.copyOf(load.pipelines), load.activityTasks, load.workflowTasks,
+                    load.busySlots, load.peakFanOut, slots, workers, activityPollers, workflowPollers));
+            totalWorkers += workers;
+        }
+        queues.sort((a, b) -> Integer.compare(b.requiredActivitySlots(), a.requiredActivitySlots()));
+        return new CapacityPlan(strategy, queues, peakFanOut, totalWorkers, warnings);
+    }
+
+    /** Tenant ("" = untagged traffic) → rate. Only QUEUE_PER_TENANT splits traffic. */
+    private static Map<String, Double> splits(String strategy, double rate, CapacityPlanSpec spec, String pipeline, List<String> warnings) {
+        Map<String, Double> splits = new LinkedHashMap<>();
+        double assigned = 0;
+        if (QueueTopologyConfig.QUEUE_PER_TENANT.equals(strategy)) {
+            for (Map.Entry<String, Double> e : spec.getTenantSharesSafe().entrySet()) {
+                double share = e.getValue() != null ? e.getValue() : 0;
+                if (share <= 0) continue;
+                splits.put(e.getKey(), rate * share);
+                assigned += share;
+            }
+        }
+        if (assigned > 1.0 + 1e-9) {
+            warnings.add("Tenant shares add up to " + assigned + " for pipeline " + pipeline + "; scaled to 1");
+            for (Map.Entry<String, Double> e : splits.entrySet()) e.setValue(e.getValue() / assigned);
+            assigned = 1;
+        }
+        if (assigned < 1) splits.put("", rate * (1 - assigned));
+        return splits;
+    }
+
+    /** Adds expected busy millis and attempts per run (scaled by {@code weight}) per capability. */
+    private static void expect(Step step, double weight, SimulationSpec model, Map<String, double[]> out) {
+        if (weight <= 0) return;
+        if (step instanceof Activity activity) {
+            PluginLatencySpec latency = model.latencyOf(activity.plugin());
+            double mean = latency.getMeanMillisEffective();
+            if (activity.timeoutMillis() > 0) mean = Math.min(mean, activity.timeoutMillis());
+            double attempts = expectedAttempts(latency.getFailureRateEffective(), activity.retry());
+            double[] load = out.computeIfAbsent(activity.capability(), k -> new double[2]);
+            load[BUSY_MILLIS] += weight * attempts * mean;
+            load[ATTEMPTS] += weight * attempts;
+        } else if (step instanceof Sequence seq) {
+            for (Step s : seq.steps()) expect(s, weight, model, out);
+        } else if (step instanceof Parallel parallel) {
+            for (Step s : parallel.steps()) expect(s, weight, model, out);
+        } else if (step instanceof Conditional conditional) {
+            expect(conditional.condition(), weight, model, out);
+            double[] p = branchProbabilities(conditional, model);
+            for (int i = 0; i < p.length; i++) expect(conditional.branches().get(i), weight * p[i], model, out);
+        } else if (step instanceof Loop loop) {
+            expect(loop.iterator(), weight, model, out);
+            expect(loop.body(), weight * iterations(loop, model), model, out);
+        } else if (step instanceof Dag dag) {
+            for (Step s : dag.steps()) expect(s, weight, model, out);
+        }
+    }
+
+    /** Widest number of activities one run can have in flight at once. */
+    private static int width(Step step, SimulationSpec model) {
+        if (step instanceof Activity) return 1;
+        if (step instanceof Sequence seq) {
+            int max = 0;
+            for (Step s : seq.steps()) max = Math.max(max, width(s, model));
+            return max;
+        }
+        if (step instanceof Parallel parallel) {
+            int sum = 0;
+            for (Step s : parallel.steps()) sum += width(s, model);
+            return sum;
+        }
+        if (step instanceof Conditional conditional) {
+            int max = 1;
+            for (Step s : conditional.branches()) max = Math.max(max, width(s, model));
+            return max;
+        }
+        if (step instanceof Loop loop) {
+            int concurrent = loop.iteration() != null && loop.iteration().isParallel()
+                    ? Math.min(loop.iteration().getMaxParallelismEffective(), iterations(loop, model))
+                    : 1;
+            return Math.max(1, concurrent * width(loop.body(), model));
+        }
+        if (step instanceof Dag dag) {
+            // Capabilities at the same dependency depth may run together.
+            int[] levels = new int[dag.steps().size()];
+            Arrays.fill(levels, -1);
+            Map<Integer, Integer> byLevel = new HashMap<>();
+            for (int i = 0; i < levels.length; i++) {
+                byLevel.merge(level(dag, i, levels), width(dag.steps().get(i), model), Integer::sum);
+            }
+            int max = 0;
+            for (int w : byLevel.values()) max = Math.max(max, w);
+            return max;
+        }
+        return 0;
+    }
+
+    private static int level(Dag dag, int index, int[] levels) {
+        if (levels[index] >= 0) return levels[index];
+        int level = 0;
+        for (int dep : dag.dependencies().get(index)) level = Math.max(level, level(dag, dep, levels) + 1);
+        levels[index] = level;
+        return level;
+    }
+
+    /** Branch probabilities from the model's weights; equal when none are given. */
+    static double[] branchProbabilities(Conditional conditional, SimulationSpec model) {
+        int n = conditional.branches().size();
+        double[] p = new double[n];
+        List<Double> weights = model.branchWeightsOf(conditional.condition().plugin());
+        double sum = 0;
+        for (int i = 0; i < n && i < weights.size(); i++) {
+            p[i] = Math.max(0, weights.get(i) != null ? weights.get(i) : 0);
+            sum += p[i];
+        }
+        for (int i = 0; i < n; i++) p[i] = sum > 0 ? p[i] / sum : 1.0 / n;
+        return p;
+    }
+
+    private static int iterations(Loop loop, SimulationSpec model) {
+        int items = model.iterationItemsOf(loop.iterator().plugin());
+        return loop.iteration() != null ? loop.iteration().iterationsFor(items) : items;
+    }
+
+    /** Expected attempts of one call: 1 + p + p² + … up to maximumAttempts. */
+    static double expectedAttempts(double failureRate, RetryPolicyConfig retry) {
+        int max = PipelineSimulator.maxAttempts(retry);
+        double attempts = 0;
+        double p = 1;
+        for (int i = 0; i < max; i++) {
+            attempts += p;
+            p *= failureRate;
+        }
+        return attempts;
+    }
+
+    private static int pollers(double tasksPerWorker, double perPoller, int cap) {
+        return Math.max(MIN_POLLERS, Math.min(cap, (int) Math.ceil(tasksPerWorker / perPoller)));
+    }
+
+    private static QueueLoad load(Map<String, QueueLoad> loads, String queue) {
+        return loads.computeIfAbsent(queue != null ? queue : DEFAULT_QUEUE, k -> new QueueLoad());
+    }
+
+    private static final class QueueLoad {
+        private final Set<String> pipelines = new LinkedHashSet<>();
+        private double busySlots;
+        private double activityTasks;
+        private double workflowTasks;
+        private int peakFanOut;
+    }
+}
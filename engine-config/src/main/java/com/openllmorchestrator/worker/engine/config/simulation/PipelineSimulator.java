@@ -0,0 +1,419 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Activity;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Conditional;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Dag;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Loop;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Parallel;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Sequence;
+import com.openllmorchestrator.worker.engine.config.simulation.SimulationPlan.Step;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Offline discrete-event simulator: runs a parsed pipeline against per-plugin latency distributions
+ * ({@link SimulationSpec}) with no Temporal cluster and no plugins. Models SYNC and ASYNC groups with their completion
+ * policy (ALL and FIRST_FAILURE fail on the first failed child, like Temporal's {@code Promise.allOf}; ALL_SETTLED waits
+ * for every child before failing; FIRST_SUCCESS completes on the first success), conditions (branch weights), iterators (item counts, SEQUENTIAL or PARALLEL iteration), capability
+ * dependencies, start-to-close timeouts and retries with backoff. With {@code arrivalRatePerSecond} and
+ * {@code workerConcurrency}, runs overlap and queue for activity slots.
+ * <p>
+ * Not modelled: workflow task latency, schedule-to-start, hedging, batching and non-retryable errors.
+ * Late ASYNC children of a completed group are cancelled before they start but run to the end once started.
+ * Compare two config versions with {@link SimulationComparison#of(SimulationResult, SimulationResult)} using the same spec.
+ */
+public final class PipelineSimulator {
+
+    /** Attempts simulated when a retry policy sets maximumAttempts 0 (unlimited). */
+    static final int UNLIMITED_ATTEMPTS_CAP = 10;
+
+    private final SimulationSpec spec;
+    private final Random random;
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+    private final Map<String, Double> busyByCapability = new HashMap<>();
+    private double now;
+    private long sequence;
+    private int freeSlots;
+    private long attempts;
+    private double busyTotal;
+    private double slotWaitTotal;
+
+    private PipelineSimulator(SimulationSpec spec) {
+        this.spec = spec;
+        this.random = new Random(spec.getSeedEffective());
+        boolean queued = spec.getArrivalRatePerSecond() != null && spec.getArrivalRatePerSecond() > 0
+                && spec.getWorkerConcurrency() != null && spec.getWorkerConcurrency() > 0;
+        this.freeSlots = queued ? spec.getWorkerConcurrency() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Simulates one pipeline.
+     *
+     * @throws IllegalArgumentException when the pipeline does not exist or its capability dependencies are invalid
+     */
+    public static SimulationResult simulate(EngineFileConfig config, String pipelineName, SimulationSpec spec) {
+        PipelineSection pipeline = config != null ? config.getPipelinesEffective().get(pipelineName) : null;
+        if (pipeline == null) {
+            throw new IllegalArgumentException("Unknown pipeline: " + pipelineName);
+        }
+        SimulationSpec effective = spec != null ? spec : new SimulationSpec();
+        return new PipelineSimulator(effective).run(pipelineName, pipeline, SimulationPlan.compile(config, pipeline));
+    }
+
+    /** Simulates every pipeline of the config with the same spec, in config order. */
+    public static Map<String, SimulationResult> simulateAll(EngineFileConfig config, SimulationSpec spec) {
+        Map<String, SimulationResult> results = new LinkedHashMap<>();
+        for (String name : config.getPipelinesEffective().keySet()) {
+            results.put(name, simulate(config, name, spec));
+        }
+        return results;
+    }
+
+    private SimulationResult run(String name, PipelineSection pipeline, Step plan) {
+        int runs = spec.getRunsEffective();
+        double[] latencies = new double[runs];
+        boolean[] failed = new boolean[runs];
+        double[] lastEnd = {0};
+        Double rate = spec.getArrivalRatePerSecond();
+        double arrival = 0;
+        for (int i = 0; i < runs; i++) {
+            if (rate != null && rate > 0) {
+                arrival += -Math.log(1 - random.nextDouble()) * 1000.0 / rate;
+            }
+            int index = i;
+            double start = arrival;
+            schedule(start, () -> execute(plan, new Scope(null), ok -> {
+                latencies[index] = now - start;
+                failed[index] = !ok;
+                lastEnd[0] = Math.max(lastEnd[0], now);
+            }));
+        }
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            now = event.time;
+            event.action.run();
+        }
+        return result(name, pipeline, latencies, failed, lastEnd[0]);
+    }
+
+    // --- step execution ---
+
+    @FunctionalInterface
+    private interface Completion {
+        void complete(boolean ok);
+    }
+
+    private void execute(Step step, Scope scope, Completion done) {
+        if (step instanceof Activity activity) {
+            attempt(activity, 1, scope, done);
+        } else if (step instanceof Sequence seq) {
+            sequence(seq.steps(), 0, scope, done);
+        } else if (step instanceof Parallel parallel) {
+            parallel(parallel, scope, done);
+        } else if (step instanceof Conditional conditional) {
+            execute(conditional.condition(), scope, ok -> {
+                if (!ok) {
+                    done.complete(false);
+                    return;
+                }
+                Step branch = conditional.branches().get(pickBranch(conditional));
+                execute(branch, scope, done);
+            });
+        } else if (step instanceof Loop loop) {
+            execute(loop.iterator(), scope, ok -> {
+                if (ok) iterate(loop, scope, done);
+                else done.complete(false);
+            });
+        } else if (step instanceof Dag dag) {
+            dag(dag, scope, done);
+        }
+    }
+
+    private void attempt(Activity activity, int attempt, Scope scope, Completion done) {
+        double requested = now;
+        acquire(() -> {
+            slotWaitTotal += now - requested;
+            if (scope.isCancelled()) {
+                release();
+                done.complete(false);
+                return;
+            }
+            PluginLatencySpec latency = spec.latencyOf(activity.plugin());
+            double millis = latency.sampleMillis(random);
+            boolean failed = random.nextDouble() < latency.getFailureRateEffective();
+            boolean timedOut = activity.timeoutMillis() > 0 && millis > activity.timeoutMillis();
+            double busy = timedOut ? activity.timeoutMillis() : millis;
+            attempts++;
+            busyTotal += busy;
+            busyByCapability.merge(activity.capability(), busy, Double::sum);
+            schedule(now + busy, () -> {
+                release();
+                if (!failed && !timedOut) {
+                    done.complete(true);
+                } else if (attempt >= maxAttempts(activity.retry()) || scope.isCancelled()) {
+                    done.complete(false);
+                } else {
+                    schedule(now + backoffMillis(activity.retry(), attempt), () -> attempt(activity, attempt + 1, scope, done));
+                }
+            });
+        });
+    }
+
+    private void sequence(List<Step> steps, int index, Scope scope, Completion done) {
+        if (index >= steps.size()) {
+            done.complete(true);
+            return;
+        }
+        execute(steps.get(index), scope, ok -> {
+            if (ok) sequence(steps, index + 1, scope, done);
+            else done.complete(false);
+        });
+    }
+
+    private void parallel(Parallel parallel, Scope scope, Completion done) {
+        List<Step> steps = parallel.steps();
+        if (steps.isEmpty()) {
+            done.complete(true);
+            return;
+        }
+        Join join = new Join(new Scope(scope), steps.size(), done);
+        String policy = parallel.policy();
+        for (Step step : steps) {
+            execute(step, join.scope, ok -> {
+                join.pending--;
+                join.anyFailed |= !ok;
+                switch (policy) {
+                    // First success completes the group; fails only when every child failed.
+                    case "FIRST_SUCCESS" -> {
+                        if (ok) join.finish(true);
+                        else if (join.pending == 0) join.finish(false);
+                    }
+                    // Waits for every child to settle, failed ones included, then fails if any failed.
+                    case "ALL_SETTLED" -> {
+                        if (join.pending == 0) join.finish(!join.anyFailed);
+                    }
+                    // ALL (default) and FIRST_FAILURE: the first failure fails the group and cancels the others.
+                    default -> {
+                        if (!ok) join.finish(false);
+                        else if (join.pending == 0) join.finish(true);
+                    }
+                }
+            });
+        }
+    }
+
+    private void iterate(Loop loop, Scope scope, Completion done) {
+        int items = spec.iterationItemsOf(loop.iterator().plugin());
+        int total = loop.iteration() != null ? loop.iteration().iterationsFor(items) : items;
+        if (total <= 0) {
+            done.complete(true);
+            return;
+        }
+        int width = loop.iteration() != null && loop.iteration().isParallel() ? loop.iteration().getMaxParallelismEffective() : 1;
+        Join join = new Join(new Scope(scope), total, done);
+        int[] launched = {0};
+        Runnable[] launch = new Runnable[1];
+        launch[0] = () -> {
+            launched[0]++;
+            execute(loop.body(), join.scope, ok -> {
+                join.pending--;
+                if (!ok) join.finish(false);
+                else if (join.pending == 0) join.finish(true);
+                else if (launched[0] < total && !join.finished) launch[0].run();
+            });
+        };
+        for (int i = 0; i < Math.min(width, total); i++) launch[0].run();
+    }
+
+    private void dag(Dag dag, Scope scope, Completion done) {
+        int n = dag.steps().size();
+        if (n == 0) {
+            done.complete(true);
+            return;
+        }
+        int[] remaining = new int[n];
+        List<List<Integer>> dependents = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) dependents.add(new ArrayList<>());
+        for (int i = 0; i < n; i++) {
+            remaining[i] = dag.dependencies().get(i).size();
+            for (int dep : dag.dependencies().get(i)) dependents.get(dep).add(i);
+        }
+        Join join = new Join(new Scope(scope), n, done);
+        Runnable[] start = new Runnable[n];
+        for (int i = 0; i < n; i++) {
+            int index = i;
+            start[i] = () -> execute(dag.steps().get(index), join.scope, ok -> {
+                join.pending--;
+                if (!ok) {
+                    join.finish(false);
+                    return;
+                }
+                if (join.pending == 0) {
+                    join.finish(true);
+                    return;
+                }
+                for (int next : dependents.get(index)) {
+                    if (--remaining[next] == 0 && !join.finished) start[next].run();
+                }
+            });
+        }
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) start[i].run();
+        }
+    }
+
+    private int pickBranch(Conditional conditional) {
+        int branches = conditional.branches().size();
+        List<Double> weights = spec.branchWeightsOf(conditional.condition().plugin());
+        double sum = 0;
+        for (int i = 0; i < branches && i < weights.size(); i++) sum += Math.max(0, weights.get(i) != null ? weights.get(i) : 0);
+        if (sum <= 0) return random.nextInt(branches);
+        double r = random.nextDouble() * sum;
+        for (int i = 0; i < branches && i < weights.size(); i++) {
+            r -= Math.max(0, weights.get(i) != null ? weights.get(i) : 0);
+            if (r < 0) return i;
+        }
+        return Math.min(branches, weights.size()) - 1;
+    }
+
+    static int maxAttempts(RetryPolicyConfig retry) {
+        return retry.getMaximumAttempts() > 0 ? retry.getMaximumAttempts() : UNLIMITED_ATTEMPTS_CAP;
+    }
+
+    static double backoffMillis(RetryPolicyConfig retry, int attempt) {
+        double millis = retry.getInitialIntervalSeconds() * 1000.0 * Math.pow(Math.max(1, retry.getBackoffCoefficient()), attempt - 1);
+        return retry.getMaximumIntervalSeconds() > 0 ? Math.min(millis, retry.getMaximumIntervalSeconds() * 1000.0) : millis;
+    }
+
+    // --- event loop and activity slots ---
+
+    private void schedule(double time, Runnable action) {
+        events.add(new Event(time, sequence++, action));
+    }
+
+    private void acquire(Runnable onGranted) {
+        if (freeSlots > 0) {
+            if (freeSlots != Integer.MAX_VALUE) freeSlots--;
+            onGranted.run();
+        } else {
+            waiting.add(onGranted);
+        }
+    }
+
+    private void release() {
+        Runnable next = waiting.poll();
+        if (next != null) next.run();
+        else if (freeSlots != Integer.MAX_VALUE) freeSlots++;
+    }
+
+    private SimulationResult result(String name, PipelineSection pipeline, double[] latencies, boolean[] failed, double lastEnd) {
+        int runs = latencies.length;
+        int failures = 0;
+        double sum = 0;
+        int misses = 0;
+        Integer deadline = pipeline.getDeadlineSeconds();
+        for (int i = 0; i < runs; i++) {
+            if (failed[i]) failures++;
+            sum += latencies[i];
+            if (deadline != null && deadline > 0 && latencies[i] > deadline * 1000.0) misses++;
+        }
+        double[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double busyPerRun = busyTotal / runs;
+        Integer slots = spec.getWorkerConcurrency();
+        Double maxThroughput = slots != null && slots > 0 && busyPerRun > 0 ? slots * 1000.0 / busyPerRun : null;
+        Double rate = spec.getArrivalRatePerSecond();
+        Double achieved = rate != null && rate > 0 && lastEnd > 0 ? runs * 1000.0 / lastEnd : null;
+
+        List<Map.Entry<String, Double>> shares = new ArrayList<>(busyByCapability.entrySet());
+        shares.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+        Map<String, Double> timeShare = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> e : shares) {
+            timeShare.put(e.getKey(), busyTotal > 0 ? e.getValue() / busyTotal : 0);
+        }
+        return new SimulationResult(name, runs, failures,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sum / runs,
+                (double) attempts / runs, busyPerRun, attempts > 0 ? slotWaitTotal / attempts : 0,
+                maxThroughput, achieved,
+                deadline != null && deadline > 0 ? (double) misses / runs : null,
+                timeShare);
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    static double percentile(double[] sorted, int percent) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private record Event(double time, long sequence, Runnable action) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Double.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /** Cancellation flag shared by the children of a group; children check it before each attempt. */
+    private static final class Scope {
+        private final Scope parent;
+        private boolean cancelled;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private boolean isCancelled() {
+            return cancelled || (parent != null && parent.isCancelled());
+        }
+    }
+
+    /** Completion state of a group of children; reports to {@code done} once and cancels the rest. */
+    private static final class Join {
+        private final Scope scope;
+        private final Completion done;
+        private int pending;
+        private boolean anyFailed;
+        private boolean finished;
+
+        private Join(Scope scope, int pending, Completion done) {
+            this.scope = scope;
+            this.pending = pending;
+            this.done = done;
+        }
+
+        private void finish(boolean ok) {
+            if (finished) return;
+            finished = true;
+            scope.cancelled = true;
+            done.complete(ok);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Latency distribution and failure rate of one plugin for {@link PipelineSimulator}. Values are in milliseconds.
+ * <ul>
+ *   <li>{@code LOGNORMAL} (default when p50 and p99 are set): fitted to {@code p50Millis} and {@code p99Millis}.</li>
+ *   <li>{@code EXPONENTIAL}: mean {@code meanMillis}.</li>
+ *   <li>{@code UNIFORM}: between {@code minMillis} and {@code maxMillis}.</li>
+ *   <li>{@code CONSTANT} (default otherwise): {@code p50Millis}, else {@code meanMillis}.</li>
+ * </ul>
+ * Example: {@code { "p50Millis": 400, "p99Millis": 2500, "failureRate": 0.01 }}
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PluginLatencySpec {
+    public static final String CONSTANT = "CONSTANT";
+    public static final String UNIFORM = "UNIFORM";
+    public static final String EXPONENTIAL = "EXPONENTIAL";
+    public static final String LOGNORMAL = "LOGNORMAL";
+    public static final Set<String> DISTRIBUTIONS = Set.of(CONSTANT, UNIFORM, EXPONENTIAL, LOGNORMAL);
+
+    /** z-score of the 99th percentile of the standard normal distribution. */
+    private static final double Z_99 = 2.3263478740408408;
+
+    private String distribution;
+    private Double p50Millis;
+    private Double p99Millis;
+    private Double meanMillis;
+    private Double minMillis;
+    private Double maxMillis;
+    /** Probability (0..1) that one attempt fails. Default 0. */
+    private Double failureRate;
+
+    @JsonIgnore
+    public String getDistributionEffective() {
+        if (distribution != null && !distribution.isBlank()) return distribution.trim().toUpperCase();
+        return p50Millis != null && p99Millis != null ? LOGNORMAL : CONSTANT;
+    }
+
+    @JsonIgnore
+    public double getFailureRateEffective() {
+        return failureRate != null ? Math.max(0, Math.min(1, failureRate)) : 0;
+    }
+
+    /** Mean latency (milliseconds) of the distribution. */
+    @JsonIgnore
+    public double getMeanMillisEffective() {
+        switch (getDistributionEffective()) {
+            case LOGNORMAL: {
+                double mu = Math.log(Math.max(1e-3, orZero(p50Millis)));
+                double sigma = sigma(mu);
+                return Math.exp(mu + sigma * sigma / 2);
+            }
+            case EXPONENTIAL:
+                return orZero(meanMillis);
+            case UNIFORM: {
+                double min = orZero(minMillis);
+                return (min + Math.max(min, orZero(maxMillis))) / 2;
+            }
+            default:
+                return Math.max(0, p50Millis != null ? p50Millis : orZero(meanMillis));
+        }
+    }
+
+    /** Draws one latency (milliseconds, never negative). */
+    public double sampleMillis(Random random) {
+        switch (getDistributionEffective()) {
+            case LOGNORMAL: {
+                double mu = Math.log(Math.max(1e-3, orZero(p50Millis)));
+                return Math.exp(mu + sigma(mu) * random.nextGaussian());
+            }
+            case EXPONENTIAL:
+                return -orZero(meanMillis) * Math.log(1 - random.nextDouble());
+            case UNIFORM: {
+                double min = orZero(minMillis);
+                double max = Math.max(min, orZero(maxMillis));
+                return min + (max - min) * random.nextDouble();
+            }
+            default:
+                return Math.max(0, p50Millis != null ? p50Millis : orZero(meanMillis));
+        }
+    }
+
+    private double sigma(double mu) {
+        return Math.max(0, (Math.log(Math.max(1e-3, orZero(p99Millis))) - mu) / Z_99);
+    }
+
+    private static double orZero(Double value) {
+        return value != null ? value : 0;
+    }
+}
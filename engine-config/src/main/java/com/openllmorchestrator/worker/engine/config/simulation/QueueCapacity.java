@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import java.util.List;
+
+/**
+ * Sizing for one task queue from {@link CapacityPlanner}.
+ *
+ * @param queue                    task queue name
+ * @param pipelines                pipelines with work on this queue
+ * @param activityTasksPerSecond   activity attempts per second, including retries
+ * @param workflowTasksPerSecond   workflow tasks per second (runs whose workflow is on this queue)
+ * @param busySlots                mean activity slots in use at the target rate (Little's law)
+ * @param peakFanOut               widest ASYNC fan-out of a single run among those pipelines
+ * @param requiredActivitySlots    slots for {@code busySlots} at the target utilization, and at least {@code peakFanOut}
+ * @param workers                  worker processes polling this queue
+ * @param activityPollersPerWorker recommended maxConcurrentActivityTaskPollers (0 = no activities on this queue)
+ * @param workflowPollersPerWorker recommended maxConcurrentWorkflowTaskPollers (0 = no workflows on this queue)
+ */
+public record QueueCapacity(
+        String queue,
+        List<String> pipelines,
+        double activityTasksPerSecond,
+        double workflowTasksPerSecond,
+        double busySlots,
+        int peakFanOut,
+        int requiredActivitySlots,
+        int workers,
+        int activityPollersPerWorker,
+        int workflowPollersPerWorker) {
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+/**
+ * Change from a baseline to a candidate config for the same pipeline and {@link SimulationSpec}.
+ * Percent values are relative to the baseline; positive means the candidate is higher (slower, or more throughput).
+ */
+public record SimulationComparison(
+        SimulationResult baseline,
+        SimulationResult candidate,
+        double p50ChangePercent,
+        double p95ChangePercent,
+        double p99ChangePercent,
+        Double maxThroughputChangePercent) {
+
+    public static SimulationComparison of(SimulationResult baseline, SimulationResult candidate) {
+        Double throughput = baseline.maxThroughputPerSecond() != null && candidate.maxThroughputPerSecond() != null
+                ? change(baseline.maxThroughputPerSecond(), candidate.maxThroughputPerSecond())
+                : null;
+        return new SimulationComparison(baseline, candidate,
+                change(baseline.p50Millis(), candidate.p50Millis()),
+                change(baseline.p95Millis(), candidate.p95Millis()),
+                change(baseline.p99Millis(), candidate.p99Millis()),
+                throughput);
+    }
+
+    private static double change(double before, double after) {
+        if (before == 0) return after == 0 ? 0 : 100;
+        return (after - before) * 100.0 / before;
+    }
+}
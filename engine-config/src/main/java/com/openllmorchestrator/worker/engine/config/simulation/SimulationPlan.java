@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityBlockConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDag;
+import com.openllmorchestrator.worker.engine.config.pipeline.ElseIfBranchConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.ElseIfBranchNodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.IterationConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a pipeline into the step tree executed by {@link PipelineSimulator}. Capabilities become a DAG
+ * ({@link CapabilityDag}); groups become sequences, parallel sets, conditionals and loops; plugins become activities
+ * with their effective timeout and retry policy ({@link NodeActivitySettings}).
+ */
+final class SimulationPlan {
+
+    private static final String ALL = "ALL";
+    private static final String ROOT = "root";
+
+    sealed interface Step permits Activity, Sequence, Parallel, Conditional, Loop, Dag {}
+
+    /** One activity; {@code capability} labels its time in the per-capability share. */
+    record Activity(String plugin, String capability, long timeoutMillis, RetryPolicyConfig retry) implements Step {}
+
+    record Sequence(List<Step> steps) implements Step {}
+
+    /** ASYNC group: children run at once and complete per {@code policy} (ALL, FIRST_SUCCESS, FIRST_FAILURE, ALL_SETTLED). */
+    record Parallel(List<Step> steps, String policy) implements Step {}
+
+    /** Condition activity, then one branch (then, elseif..., else); a null branch does nothing. */
+    record Conditional(Activity condition, List<Step> branches) implements Step {}
+
+    /** Iterator activity, then the body once per iteration; PARALLEL iteration runs up to maxParallelism bodies at once. */
+    record Loop(Activity iterator, Step body, IterationConfig iteration) implements Step {}
+
+    /** Steps with dependencies (indices into {@code steps}); a step starts when all its dependencies have succeeded. */
+    record Dag(List<String> names, List<Step> steps, List<List<Integer>> dependencies) implements Step {}
+
+    private final EngineFileConfig config;
+    private final PipelineSection pipeline;
+
+    private SimulationPlan(EngineFileConfig config, PipelineSection pipeline) {
+        this.config = config;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Compiles the pipeline.
+     *
+     * @throws IllegalArgumentException when the capability dependencies are invalid
+     */
+    static Step compile(EngineFileConfig config, PipelineSection pipeline) {
+        return new SimulationPlan(config, pipeline).compilePipeline();
+    }
+
+    private Step compilePipeline() {
+        List<CapabilityBlockConfig> blocks = pipeline.getCapabilities();
+        Map<String, Step> byCapability = new LinkedHashMap<>();
+        if (blocks != null && !blocks.isEmpty()) {
+            for (CapabilityBlockConfig block : blocks) {
+                if (block == null || block.getCapability() == null) continue;
+                List<Step> groups = new ArrayList<>();
+                for (GroupConfig group : block.getGroupsSafe()) {
+                    if (group != null) groups.add(group(group, block.getCapability()));
+                }
+                byCapability.put(block.getCapability(), new Sequence(groups));
+            }
+        } else if (pipeline.getRootByCapability() != null && !pipeline.getRootByCapability().isEmpty()) {
+            for (Map.Entry<String, NodeConfig> e : pipeline.getRootByCapability().entrySet()) {
+                byCapability.put(e.getKey(), node(e.getValue(), e.getKey()));
+            }
+        } else if (pipeline.getRoot() != null) {
+            return node(pipeline.getRoot(), null);
+        }
+        CapabilityDag dag = CapabilityDag.of(config, pipeline);
+        List<String> names = dag.capabilities();
+        List<Step> steps = new ArrayList<>(names.size());
+        List<List<Integer>> dependencies = new ArrayList<>(names.size());
+        for (String name : names) {
+            Step step = byCapability.get(name);
+            steps.add(step != null ? step : new Sequence(List.of()));
+            List<Integer> deps = new ArrayList<>();
+            for (String dep : dag.dependenciesOf(name)) deps.add(names.indexOf(dep));
+            dependencies.add(deps);
+        }
+        return new Dag(List.copyOf(names), steps, dependencies);
+    }
+
+    // --- NodeConfig trees (root, rootByCapability) ---
+
+    private Step node(NodeConfig node, String capability) {
+        if (node == null) return new Sequence(List.of());
+        if (node.isPlugin()) {
+            return activity(node.getName(), capability != null ? capability : labelOf(node), node);
+        }
+        String mode = node.getExecutionMode();
+        String policy = node.getAsyncCompletionPolicy();
+        if (node.isConditional()) {
+            List<Step> branches = new ArrayList<>();
+            branches.add(node.hasThenGroup() ? node(node.getThenGroup(), capability) : nodes(node.getThenChildrenSafe(), mode, policy, capability));
+            for (ElseIfBranchNodeConfig branch : node.getElseifBranchesSafe()) {
+                if (branch == null) continue;
+                branches.add(branch.hasThenGroup() ? node(branch.getThenGroup(), capability) : nodes(branch.getThenSafe(), mode, policy, capability));
+            }
+            branches.add(node.hasElseGroup() ? node(node.getElseGroup(), capability) : nodes(node.getElseChildrenSafe(), mode, policy, capability));
+            return new Conditional(activity(node.getCondition(), label(capability), null), branches);
+        }
+        Step body = nodes(node.getChildren(), mode, policy, capability);
+        if (node.isIterative()) {
+            return new Loop(activity(node.getIterator(), label(capability), null), body, node.getIteration());
+        }
+        return body;
+    }
+
+    private Step nodes(List<NodeConfig> children, String mode, String policy, String capability) {
+        List<Step> steps = new ArrayList<>(children.size());
+        for (NodeConfig child : children) steps.add(node(child, capability));
+        return combine(steps, mode, policy);
+    }
+
+    // --- GroupConfig trees (capabilities[].groups) ---
+
+    private Step group(GroupConfig group, String capability) {
+        String mode = group.getExecutionMode();
+        String policy = group.getAsyncCompletionPolicy();
+        if (group.isConditional()) {
+            List<Step> branches = new ArrayList<>();
+            branches.add(group.hasThenGroup() ? child(group.getThenGroup(), capability) : children(group.getThenChildrenSafe(), mode, policy, capability));
+            for (ElseIfBranchConfig branch : group.getElseifBranchesSafe()) {
+                if (branch == null) continue;
+                branches.add(branch.hasThenGroup() ? child(branch.getThenGroup(), capability) : children(branch.getThenSafe(), mode, policy, capability));
+            }
+            branches.add(group.hasElseGroup() ? child(group.getElseGroup(), capability) : children(group.getElseChildrenSafe(), mode, policy, capability));
+            return new Conditional(activity(group.getCondition(), capability, null), branches);
+        }
+        Step body = children(group.getChildrenAsList(), mode, policy, capability);
+        if (group.isIterative()) {
+            return new Loop(activity(group.getIterator(), capability, null), body, group.getIteration());
+        }
+        return body;
+    }
+
+    private Step children(List<Object> children, String mode, String policy, String capability) {
+        List<Step> steps = new ArrayList<>(children.size());
+        for (Object child : children) steps.add(child(child, capability));
+        return combine(steps, mode, policy);
+    }
+
+    /** A child is a plugin name or a nested group (GroupConfig or its JSON map). */
+    private Step child(Object child, String capability) {
+        if (child instanceof String name) return activity(name, capability, null);
+        GroupConfig group = GroupWalker.asGroup(child);
+        return group != null ? group(group, capability) : new Sequence(List.of());
+    }
+
+    // --- shared ---
+
+    private Step combine(List<Step> steps, String mode, String policy) {
+        if (!"ASYNC".equalsIgnoreCase(mode)) return new Sequence(steps);
+        String effective = policy != null && !policy.isBlank() ? policy.trim().toUpperCase() : pipeline.getDefaultAsyncCompletionPolicy();
+        return new Parallel(steps, effective != null ? effective.toUpperCase() : ALL);
+    }
+
+    private Activity activity(String plugin, String capability, NodeConfig node) {
+        long timeoutMillis = NodeActivitySettings.timeoutSeconds(config, pipeline, node) * 1000L;
+        return new Activity(plugin, label(capability), timeoutMillis, NodeActivitySettings.retryPolicy(config, node));
+    }
+
+    private static String labelOf(NodeConfig node) {
+        return node.getPluginType() != null && !node.getPluginType().isBlank() ? node.getPluginType() : ROOT;
+    }
+
+    private static String label(String capability) {
+        return capability != null ? capability : ROOT;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import java.util.Map;
+
+/**
+ * Prediction for one pipeline from {@link PipelineSimulator}. Latencies are end-to-end per run, in milliseconds.
+ *
+ * @param pipeline                    pipeline name
+ * @param runs                        simulated runs
+ * @param failedRuns                  runs that failed after retries
+ * @param p50Millis                   median latency
+ * @param p95Millis                   95th percentile latency
+ * @param p99Millis                   99th percentile latency
+ * @param meanMillis                  mean latency
+ * @param meanActivitiesPerRun        activity attempts per run, including retries
+ * @param meanBusyMillisPerRun        activity slot time per run
+ * @param meanSlotWaitMillis          mean wait for an activity slot per attempt (0 without {@code workerConcurrency})
+ * @param maxThroughputPerSecond      runs per second that saturate {@code workerConcurrency}; null when unlimited
+ * @param achievedThroughputPerSecond completed runs per second under {@code arrivalRatePerSecond}; null without arrivals
+ * @param deadlineMissRate            share of runs slower than the pipeline {@code deadlineSeconds}; null without a deadline
+ * @param capabilityTimeShare         capability → share (0..1) of activity slot time, largest first
+ */
+public record SimulationResult(
+        String pipeline,
+        int runs,
+        int failedRuns,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double meanMillis,
+        double meanActivitiesPerRun,
+        double meanBusyMillisPerRun,
+        double meanSlotWaitMillis,
+        Double maxThroughputPerSecond,
+        Double achievedThroughputPerSecond,
+        Double deadlineMissRate,
+        Map<String, Double> capabilityTimeShare) {
+}
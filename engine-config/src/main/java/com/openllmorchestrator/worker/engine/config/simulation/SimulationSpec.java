@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.simulation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inputs for {@link PipelineSimulator}: per-plugin latency, branch probabilities of condition plugins,
+ * item counts of iterator plugins and the load to simulate.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * { "plugins": { "llama-model": { "p50Millis": 900, "p99Millis": 4000 } },
+ *   "defaultPlugin": { "p50Millis": 20, "p99Millis": 120 },
+ *   "branchProbabilities": { "route-condition": [0.7, 0.3] },
+ *   "iterationItems": { "chunk-iterator": 12 },
+ *   "runs": 20000, "arrivalRatePerSecond": 50, "workerConcurrency": 200 }
+ * }</pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SimulationSpec {
+    public static final int DEFAULT_RUNS = 10_000;
+    public static final long DEFAULT_SEED = 42L;
+
+    /** Plugin name → latency and failure rate. */
+    private Map<String, PluginLatencySpec> plugins;
+    /** Used for plugins not in {@link #plugins}. Default: constant 0 ms, no failures. */
+    private PluginLatencySpec defaultPlugin;
+    /** Condition plugin → branch weights in branch order (then, elseif..., else). Default: all branches equally likely. */
+    private Map<String, List<Double>> branchProbabilities;
+    /** Iterator plugin → items produced per run. Default 1. */
+    private Map<String, Integer> iterationItems;
+    /** Runs to simulate. Default 10000. */
+    private Integer runs;
+    /**
+     * Poisson arrival rate. When set, runs overlap and compete for {@link #workerConcurrency} activity slots,
+     * so latency includes queueing. When null, runs are simulated in isolation.
+     */
+    private Double arrivalRatePerSecond;
+    /** Activity slots across all workers (workers × maxConcurrentActivityExecutionSize). Null = unlimited. */
+    private Integer workerConcurrency;
+    /** Random seed; the same spec and config always give the same result. Default 42. */
+    private Long seed;
+
+    @JsonIgnore
+    public PluginLatencySpec latencyOf(String plugin) {
+        PluginLatencySpec spec = plugins != null && plugin != null ? plugins.get(plugin) : null;
+        if (spec != null) return spec;
+        return defaultPlugin != null ? defaultPlugin : new PluginLatencySpec();
+    }
+
+    @JsonIgnore
+    public List<Double> branchWeightsOf(String conditionPlugin) {
+        List<Double> weights = branchProbabilities != null && conditionPlugin != null ? branchProbabilities.get(conditionPlugin) : null;
+        return weights != null ? weights : Collections.emptyList();
+    }
+
+    @JsonIgnore
+    public int iterationItemsOf(String iteratorPlugin) {
+        Integer items = iterationItems != null && iteratorPlugin != null ? iterationItems.get(iteratorPlugin) : null;
+        return items != null ? Math.max(0, items) : 1;
+    }
+
+    @JsonIgnore
+    public int getRunsEffective() {
+        return runs != null && runs > 0 ? runs : DEFAULT_RUNS;
+    }
+
+    @JsonIgnore
+    public long getSeedEffective() {
+        return seed != null ? seed : DEFAULT_SEED;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.admission.AdmissionControlConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates admission limits on pipelines ({@code admission}) and tenants ({@code queueTopology.tenantAdmission},
+ * {@code queueTopology.defaultTenantAdmission}). A DELAY wait that outlasts the pipeline deadline is flagged,
+ * since the run would be admitted with no budget left.
+ */
+public final class AdmissionCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null || pipeline.getAdmission() == null) continue;
+            String path = "$.pipelines." + e.getKey() + ".admission";
+            checkLimits(pipeline.getAdmission(), path, issues);
+            AdmissionControlConfig admission = pipeline.getAdmission();
+            Integer deadline = pipeline.getDeadlineSeconds();
+            if (AdmissionControlConfig.DELAY.equals(admission.getOnLimitEffective()) && deadline != null && deadline > 0
+                    && admission.getMaxDelayMillisEffective() >= deadline * 1000L) {
+                issues.add(ValidationIssue.warning("admission.maxDelay", path, "maxDelayMillis " + admission.getMaxDelayMillisEffective()
+                        + " is not below the pipeline deadline (" + deadline + " s); delayed runs would start with no budget left"));
+            }
+        }
+        QueueTopologyConfig topology = config.getQueueTopology();
+        if (topology == null) return;
+        if (topology.getTenantAdmission() != null) {
+            for (Map.Entry<String, AdmissionControlConfig> e : topology.getTenantAdmission().entrySet()) {
+                if (e.getValue() != null) {
+                    checkLimits(e.getValue(), "$.queueTopology.tenantAdmission." + e.getKey(), issues);
+                }
+            }
+        }
+        if (topology.getDefaultTenantAdmission() != null) {
+            checkLimits(topology.getDefaultTenantAdmission(), "$.queueTopology.defaultTenantAdmission", issues);
+        }
+    }
+
+    static void checkLimits(AdmissionControlConfig admission, String path, List<ValidationIssue> issues) {
+        if (admission.getMaxInFlight() != null && admission.getMaxInFlight() < 1) {
+            issues.add(ValidationIssue.error("admission.maxInFlight", path, "maxInFlight must be at least 1"));
+        }
+        Double rate = admission.getRatePerSecond();
+        if (rate != null && !(rate > 0)) {
+            issues.add(ValidationIssue.error("admission.rate", path, "ratePerSecond must be positive"));
+        }
+        if (admission.getBurst() != null) {
+            if (admission.getBurst() < 1) {
+                issues.add(ValidationIssue.error("admission.burst", path, "burst must be at least 1"));
+            } else if (rate == null) {
+                issues.add(ValidationIssue.warning("admission.burst", path, "burst is ignored without ratePerSecond"));
+            }
+        }
+        if (admission.getMaxInFlight() == null && rate == null) {
+            issues.add(ValidationIssue.warning("admission.empty", path, "neither maxInFlight nor ratePerSecond is set; nothing is limited"));
+        }
+        String onLimit = admission.getOnLimitEffective();
+        if (!AdmissionControlConfig.ON_LIMIT.contains(onLimit)) {
+            issues.add(ValidationIssue.error("admission.onLimit", path, "onLimit must be one of " + AdmissionControlConfig.ON_LIMIT + ", got " + admission.getOnLimit()));
+            return;
+        }
+        boolean delay = AdmissionControlConfig.DELAY.equals(onLimit);
+        if (admission.getMaxQueueDepth() != null) {
+            if (admission.getMaxQueueDepth() < 0) {
+                issues.add(ValidationIssue.error("admission.maxQueueDepth", path, "maxQueueDepth must not be negative"));
+            } else if (!delay) {
+                issues.add(ValidationIssue.warning("admission.maxQueueDepth", path, "maxQueueDepth only applies when onLimit is DELAY"));
+            }
+        } else if (delay) {
+            issues.add(ValidationIssue.warning("admission.maxQueueDepth", path, "onLimit DELAY without maxQueueDepth lets waiting requests pile up without bound"));
+        }
+        if (delay && admission.getMaxDelayMillisEffective() <= 0) {
+            issues.add(ValidationIssue.error("admission.maxDelay", path, "maxDelayMillis must be positive for onLimit DELAY"));
+        }
+    }
+}
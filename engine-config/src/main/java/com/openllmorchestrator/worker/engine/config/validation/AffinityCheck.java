@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDag;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.queue.AffinityConfig;
+import com.openllmorchestrator.worker.engine.config.queue.QueueTopologyConfig;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates pipeline and capability affinity ({@code affinity}, {@code capabilityAffinity}). A preferred queue is
+ * overridden by QUEUE_PER_TENANT isolation, and a sticky wait that outlasts the deadline leaves no budget for the fallback.
+ */
+public final class AffinityCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        QueueTopologyConfig topology = config.getQueueTopology();
+        boolean perTenant = topology != null && QueueTopologyConfig.QUEUE_PER_TENANT.equals(topology.getStrategy());
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            String base = "$.pipelines." + e.getKey();
+            if (pipeline.getAffinity() != null) {
+                checkAffinity(pipeline.getAffinity(), pipeline, perTenant, base + ".affinity", issues);
+            }
+            if (pipeline.getCapabilityAffinity() == null || pipeline.getCapabilityAffinity().isEmpty()) continue;
+            List<String> capabilities = capabilities(config, pipeline);
+            for (Map.Entry<String, AffinityConfig> c : pipeline.getCapabilityAffinity().entrySet()) {
+                if (c.getValue() == null) continue;
+                String path = base + ".capabilityAffinity." + c.getKey();
+                if (capabilities != null && !capabilities.contains(c.getKey())) {
+                    issues.add(ValidationIssue.warning("affinity.capability", path, "capability " + c.getKey() + " is not part of this pipeline; affinity is never applied"));
+                }
+                checkAffinity(c.getValue(), pipeline, perTenant, path, issues);
+            }
+        }
+    }
+
+    private static void checkAffinity(AffinityConfig affinity, PipelineSection pipeline, boolean perTenant, String path, List<ValidationIssue> issues) {
+        if (affinity.getPreferredQueue() != null) {
+            if (affinity.getPreferredQueue().isBlank()) {
+                issues.add(ValidationIssue.error("affinity.preferredQueue", path, "preferredQueue must not be blank"));
+            } else if (perTenant) {
+                issues.add(ValidationIssue.warning("affinity.preferredQueue", path, "queueTopology is QUEUE_PER_TENANT; preferredQueue "
+                        + affinity.getPreferredQueue() + " is ignored for tenants with a mapped queue"));
+            }
+        }
+        Integer stickyTimeout = affinity.getStickyScheduleToStartSeconds();
+        if (stickyTimeout == null) return;
+        if (stickyTimeout < 1) {
+            issues.add(ValidationIssue.error("affinity.stickyTimeout", path, "stickyScheduleToStartSeconds must be at least 1"));
+            return;
+        }
+        if (Boolean.FALSE.equals(affinity.getSticky())) {
+            issues.add(ValidationIssue.warning("affinity.stickyTimeout", path, "stickyScheduleToStartSeconds is ignored when sticky is false"));
+        }
+        Integer deadline = pipeline.getDeadlineSeconds();
+        if (deadline != null && deadline > 0 && stickyTimeout >= deadline) {
+            issues.add(ValidationIssue.warning("affinity.stickyTimeout", path, "stickyScheduleToStartSeconds " + stickyTimeout
+                    + " is not below the pipeline deadline (" + deadline + " s); a busy sticky worker would consume the whole budget"));
+        }
+    }
+
+    private static List<String> capabilities(EngineFileConfig config, PipelineSection pipeline) {
+        try {
+            List<String> capabilities = CapabilityDag.of(config, pipeline).capabilities();
+            return capabilities.isEmpty() ? null : capabilities;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
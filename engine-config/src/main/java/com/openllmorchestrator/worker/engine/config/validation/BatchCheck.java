@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.BatchConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.List;
+import java.util.Map;
+
+/** Validates PLUGIN node {@code batch} directives: batch-capable plugin type, sizes and wait time within the node timeout. */
+public final class BatchCheck implements ConfigCheck {
+
+    /** Larger batches rarely help and risk payload limits on the model/vector endpoint. */
+    static final int MAX_RECOMMENDED_BATCH_SIZE = 1024;
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            PipelineWalker.walk("$.pipelines." + e.getKey(), pipeline, (path, node, depth) -> {
+                BatchConfig batch = node.getBatch();
+                if (batch == null) return;
+                String batchPath = path + ".batch";
+                if (!node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("batch.target", batchPath, "batch is only applied to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                if (!AllowedPluginTypes.isBatchable(node.getPluginType())) {
+                    issues.add(ValidationIssue.error("batch.pluginType", batchPath, "pluginType " + node.getPluginType()
+                            + " does not support batching; allowed: " + AllowedPluginTypes.batchable()));
+                }
+                int size = batch.getMaxBatchSizeEffective();
+                if (size < 1) {
+                    issues.add(ValidationIssue.error("batch.maxBatchSize", batchPath, "maxBatchSize must be at least 1"));
+                } else if (size == 1) {
+                    issues.add(ValidationIssue.warning("batch.maxBatchSize", batchPath, "maxBatchSize 1 disables batching; every call is flushed on its own"));
+                } else if (size > MAX_RECOMMENDED_BATCH_SIZE) {
+                    issues.add(ValidationIssue.warning("batch.maxBatchSize", batchPath, "maxBatchSize " + size + " exceeds " + MAX_RECOMMENDED_BATCH_SIZE));
+                }
+                int waitMillis = batch.getMaxWaitMillisEffective();
+                int timeoutSeconds = NodeActivitySettings.timeoutSeconds(config, pipeline, node);
+                if (waitMillis < 0) {
+                    issues.add(ValidationIssue.error("batch.maxWaitMillis", batchPath, "maxWaitMillis must not be negative"));
+                } else if (waitMillis >= timeoutSeconds * 1000L) {
+                    issues.add(ValidationIssue.error("batch.maxWaitMillis", batchPath, "maxWaitMillis " + waitMillis
+                            + " is not below the node timeout (" + timeoutSeconds + " s); calls would time out while waiting for a batch"));
+                }
+                if (batch.getBatchKey() != null && batch.getBatchKey().isBlank()) {
+                    issues.add(ValidationIssue.warning("batch.batchKey", batchPath, "batchKey is blank; all calls share one batch"));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDag;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates capability {@code dependsOn} lists: every dependency must be a capability of the same pipeline and the
+ * graph must be acyclic (see {@link CapabilityDag}). Reports {@code dependsOn} on nested nodes, where it is ignored, and
+ * {@code rootByCapability} entries missing from capabilityOrder, which never run.
+ */
+public final class CapabilityDagCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            String base = "$.pipelines." + e.getKey();
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                boolean capabilityRoot = depth == 1 && !path.equals(base + ".root");
+                if (node.getDependsOn() != null && !capabilityRoot) {
+                    issues.add(ValidationIssue.warning("capability.dependsOn", path + ".dependsOn", "dependsOn is only used on capability roots in rootByCapability; ignored here"));
+                }
+            });
+            List<String> order = config.getCapabilityOrderEffective();
+            if (pipeline.getRootByCapability() != null && !order.isEmpty()) {
+                for (String name : pipeline.getRootByCapability().keySet()) {
+                    if (!order.contains(name)) {
+                        issues.add(ValidationIssue.warning("capability.notInOrder", base + ".rootByCapability." + name, "capability " + name + " is not in capabilityOrder; it never runs"));
+                    }
+                }
+            }
+            try {
+                CapabilityDag dag = CapabilityDag.of(config, pipeline);
+                if (!dag.isLinear()) {
+                    issues.add(ValidationIssue.info("capability.layers", base, "capabilities run in layers " + dag.layers()));
+                }
+            } catch (IllegalArgumentException ex) {
+                issues.add(ValidationIssue.error("capability.dependsOn", base, ex.getMessage()));
+            }
+        }
+    }
+}
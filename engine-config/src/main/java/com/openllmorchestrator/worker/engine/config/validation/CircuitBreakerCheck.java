@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDef;
+import com.openllmorchestrator.worker.engine.config.pipeline.CircuitBreakerConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates {@code circuitBreaker} blocks on PLUGIN nodes and user-defined capabilities.
+ * SKIP is rejected for enforcement plugins: skipping access control or a guardrail while open would bypass it.
+ * Breakers are shared per plugin name, so differing thresholds for one plugin are reported: only one of them applies.
+ */
+public final class CircuitBreakerCheck implements ConfigCheck {
+
+    /** Plugin types whose calls must never be silently skipped. */
+    static final Set<String> ENFORCEMENT_TYPES = Set.of(
+            AllowedPluginTypes.ACCESS_CONTROL,
+            AllowedPluginTypes.TENANT_POLICY,
+            AllowedPluginTypes.GUARDRAIL,
+            AllowedPluginTypes.SECURITY_SCANNER);
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        Map<String, Thresholds> firstByPlugin = new HashMap<>();
+        for (Map.Entry<String, CapabilityDef> e : config.getCapabilitiesEffective().entrySet()) {
+            CapabilityDef def = e.getValue();
+            if (def == null || def.getCircuitBreaker() == null) continue;
+            String breakerPath = "$.capabilities." + e.getKey() + ".circuitBreaker";
+            checkBreaker(def.getCircuitBreaker(), def.getPluginType(), def.getName(), breakerPath, issues);
+            checkShared(firstByPlugin, def.getName(), def.getCircuitBreaker(), breakerPath, issues);
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineWalker.walk("$.pipelines." + e.getKey(), e.getValue(), (path, node, depth) -> {
+                CircuitBreakerConfig breaker = node.getCircuitBreaker();
+                if (breaker == null) return;
+                String breakerPath = path + ".circuitBreaker";
+                if (!node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("circuitBreaker.target", breakerPath, "circuitBreaker is only applied to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                checkBreaker(breaker, node.getPluginType(), node.getName(), breakerPath, issues);
+                checkShared(firstByPlugin, node.getName(), breaker, breakerPath, issues);
+            });
+        }
+    }
+
+    /** Settings that shape the shared breaker state; fallback and alternatePlugin are read per call site. */
+    private record Thresholds(int failureRate, int window, int minimumCalls, int openSeconds, int halfOpenProbes, String path) {
+
+        static Thresholds of(CircuitBreakerConfig breaker, String path) {
+            return new Thresholds(breaker.getFailureRateThresholdEffective(), breaker.getSlidingWindowSizeEffective(),
+                    breaker.getMinimumCallsEffective(), breaker.getOpenDurationSecondsEffective(), breaker.getHalfOpenProbesEffective(), path);
+        }
+
+        boolean sameAs(Thresholds other) {
+            return failureRate == other.failureRate && window == other.window && minimumCalls == other.minimumCalls
+                    && openSeconds == other.openSeconds && halfOpenProbes == other.halfOpenProbes;
+        }
+    }
+
+    private static void checkShared(Map<String, Thresholds> firstByPlugin, String pluginName, CircuitBreakerConfig breaker, String path, List<ValidationIssue> issues) {
+        if (pluginName == null || pluginName.isBlank()) return;
+        Thresholds own = Thresholds.of(breaker, path);
+        Thresholds first = firstByPlugin.putIfAbsent(pluginName, own);
+        if (first != null && !first.sameAs(own)) {
+            issues.add(ValidationIssue.warning("circuitBreaker.conflict", path, "plugin " + pluginName + " shares one breaker with "
+                    + first.path() + " but sets different thresholds; whichever node registers the breaker first wins. Use the same values on every node"));
+        }
+    }
+
+    static void checkBreaker(CircuitBreakerConfig breaker, String pluginType, String pluginName, String path, List<ValidationIssue> issues) {
+        int threshold = breaker.getFailureRateThresholdEffective();
+        if (threshold < 1 || threshold > 100) {
+            issues.add(ValidationIssue.error("circuitBreaker.failureRateThreshold", path, "failureRateThreshold must be a percentage between 1 and 100, got " + threshold));
+        }
+        int window = breaker.getSlidingWindowSizeEffective();
+        if (window < 1) {
+            issues.add(ValidationIssue.error("circuitBreaker.slidingWindowSize", path, "slidingWindowSize must be at least 1"));
+            return;
+        }
+        int minimumCalls = breaker.getMinimumCallsEffective();
+        if (minimumCalls < 1 || minimumCalls > window) {
+            issues.add(ValidationIssue.error("circuitBreaker.minimumCalls", path, "minimumCalls must be between 1 and slidingWindowSize (" + window + "), got " + minimumCalls));
+        }
+        if (breaker.getOpenDurationSecondsEffective() <= 0) {
+            issues.add(ValidationIssue.error("circuitBreaker.openDuration", path, "openDurationSeconds must be positive"));
+        }
+        int probes = breaker.getHalfOpenProbesEffective();
+        if (probes < 1) {
+            issues.add(ValidationIssue.error("circuitBreaker.halfOpenProbes", path, "halfOpenProbes must be at least 1"));
+        } else if (probes > window) {
+            issues.add(ValidationIssue.warning("circuitBreaker.halfOpenProbes", path, "halfOpenProbes " + probes + " exceeds slidingWindowSize " + window));
+        }
+
+        String fallback = breaker.getFallbackEffective();
+        if (!CircuitBreakerConfig.FALLBACKS.contains(fallback)) {
+            issues.add(ValidationIssue.error("circuitBreaker.fallback", path, "fallback must be one of " + CircuitBreakerConfig.FALLBACKS + ", got " + breaker.getFallback()));
+            return;
+        }
+        if (CircuitBreakerConfig.SKIP.equals(fallback) && pluginType != null && ENFORCEMENT_TYPES.contains(pluginType)) {
+            issues.add(ValidationIssue.error("circuitBreaker.fallback", path, "fallback SKIP would bypass enforcement plugin type " + pluginType + "; use FAIL_FAST or ALTERNATE_PLUGIN"));
+        }
+        String alternate = breaker.getAlternatePlugin();
+        boolean hasAlternate = alternate != null && !alternate.isBlank();
+        if (CircuitBreakerConfig.ALTERNATE_PLUGIN.equals(fallback)) {
+            if (!hasAlternate) {
+                issues.add(ValidationIssue.error("circuitBreaker.alternatePlugin", path, "fallback ALTERNATE_PLUGIN requires alternatePlugin"));
+            } else if (alternate.trim().equals(pluginName)) {
+                issues.add(ValidationIssue.error("circuitBreaker.alternatePlugin", path, "alternatePlugin must differ from the guarded plugin " + pluginName));
+            }
+        } else if (hasAlternate) {
+            issues.add(ValidationIssue.warning("circuitBreaker.alternatePlugin", path, "alternatePlugin is ignored unless fallback is ALTERNATE_PLUGIN"));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.PriorityClasses;
+import com.openllmorchestrator.worker.engine.config.pipeline.SloConfig;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates pipeline {@code deadlineSeconds}, {@code slo} and {@code priorityClass}, and flags nodes whose configured
+ * timeouts can never fit the deadline (they would always be clamped by the remaining budget).
+ */
+public final class DeadlineCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            String base = "$.pipelines." + e.getKey();
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            if (pipeline.getPriorityClass() != null && !PriorityClasses.isAllowed(pipeline.getPriorityClass())) {
+                issues.add(ValidationIssue.error("deadline.priorityClass", base + ".priorityClass", "priorityClass must be one of "
+                        + PriorityClasses.all() + ", got " + pipeline.getPriorityClass()));
+            }
+            Integer deadline = pipeline.getDeadlineSeconds();
+            if (deadline != null && deadline < 0) {
+                issues.add(ValidationIssue.error("deadline.value", base + ".deadlineSeconds", "deadlineSeconds must not be negative"));
+                continue;
+            }
+            long deadlineMillis = deadline != null && deadline > 0 ? deadline * 1000L : 0L;
+            checkSlo(pipeline.getSlo(), deadlineMillis, base + ".slo", issues);
+            if (deadlineMillis == 0L) continue;
+
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                if (node.isPlugin()) {
+                    int timeoutSeconds = NodeActivitySettings.timeoutSeconds(config, pipeline, node);
+                    if (timeoutSeconds * 1000L > deadlineMillis) {
+                        issues.add(ValidationIssue.warning("deadline.nodeTimeout", path, "timeout " + timeoutSeconds
+                                + " s exceeds the pipeline deadline (" + deadline + " s); it can never be used in full and is always clamped"));
+                    }
+                    if (node.getScheduleToStartSeconds() != null && node.getScheduleToStartSeconds() * 1000L >= deadlineMillis) {
+                        issues.add(ValidationIssue.warning("deadline.scheduleToStart", path, "scheduleToStartSeconds "
+                                + node.getScheduleToStartSeconds() + " is not below the pipeline deadline (" + deadline + " s)"));
+                    }
+                } else if (node.getTimeoutSeconds() != null && node.getTimeoutSeconds() * 1000L > deadlineMillis) {
+                    issues.add(ValidationIssue.warning("deadline.groupTimeout", path, "group timeout " + node.getTimeoutSeconds()
+                            + " s exceeds the pipeline deadline (" + deadline + " s)"));
+                }
+            });
+        }
+    }
+
+    private static void checkSlo(SloConfig slo, long deadlineMillis, String path, List<ValidationIssue> issues) {
+        if (slo == null) return;
+        Integer p50 = slo.getP50Millis();
+        Integer p99 = slo.getP99Millis();
+        if ((p50 != null && p50 <= 0) || (p99 != null && p99 <= 0)) {
+            issues.add(ValidationIssue.error("deadline.slo", path, "SLO targets must be positive"));
+            return;
+        }
+        if (p50 != null && p99 != null && p50 > p99) {
+            issues.add(ValidationIssue.error("deadline.slo", path, "p50Millis " + p50 + " is above p99Millis " + p99));
+        }
+        if (deadlineMillis > 0 && p99 != null && p99 > deadlineMillis) {
+            issues.add(ValidationIssue.warning("deadline.slo", path, "p99Millis " + p99 + " is above the deadline (" + deadlineMillis + " ms); runs are cut off before reaching it"));
+        }
+    }
+}
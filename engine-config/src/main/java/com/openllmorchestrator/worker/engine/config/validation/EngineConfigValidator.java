@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Semantic validation of a parsed engine config, beyond what JSON deserialization catches.
+ * Runs a fixed list of {@link ConfigCheck}s; use the default constructor for all built-in checks.
+ * <pre>{@code
+ * List<ValidationIssue> issues = new EngineConfigValidator().validate(config);
+ * if (EngineConfigValidator.hasErrors(issues)) { ... }
+ * }</pre>
+ */
+public final class EngineConfigValidator {
+
+    private final List<ConfigCheck> checks;
+
+    public EngineConfigValidator() {
+        this(defaultChecks());
+    }
+
+    public EngineConfigValidator(List<ConfigCheck> checks) {
+        this.checks = List.copyOf(Objects.requireNonNull(checks, "checks"));
+    }
+
+    /** Built-in checks, in execution order. Variant pipelines are run through all checks before {@link VariantCheck}. */
+    public static List<ConfigCheck> defaultChecks() {
+        List<ConfigCheck> checks = new ArrayList<>(List.of(
+                new HedgePolicyCheck(),
+                new BatchCheck(),
+                new DeadlineCheck(),
+                new StreamingCheck(),
+                new PayloadOffloadCheck(),
+                new CircuitBreakerCheck(),
+                new AdmissionCheck(),
+                new CapabilityDagCheck(),
+                new IterationCheck(),
+                new WarmupCheck(),
+                new ModelFallbackCheck(),
+                new LocalActivityCheck(),
+                new FusionCheck(),
+                new AffinityCheck(),
+                new PayloadCodecCheck()
+        ));
+        checks.add(new VariantCheck(List.copyOf(checks)));
+        return List.copyOf(checks);
+    }
+
+    /** Runs all checks. Returns an empty list when the config is valid or null. */
+    public List<ValidationIssue> validate(EngineFileConfig config) {
+        if (config == null) return Collections.emptyList();
+        List<ValidationIssue> issues = new ArrayList<>();
+        for (ConfigCheck check : checks) {
+            check.check(config, issues);
+        }
+        return issues;
+    }
+
+    public static boolean hasErrors(List<ValidationIssue> issues) {
+        return issues != null && issues.stream().anyMatch(ValidationIssue::isError);
+    }
+}
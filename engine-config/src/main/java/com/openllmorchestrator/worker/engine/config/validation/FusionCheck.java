@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.ActivityFusionPass;
+import com.openllmorchestrator.worker.engine.config.pipeline.FusedRun;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reports {@code fuse} directives that have no effect: on PLUGIN, ASYNC or conditional nodes, and on groups where
+ * {@link ActivityFusionPass} finds no run of two or more compatible plugins.
+ */
+public final class FusionCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        Set<String> fusedLists = new HashSet<>();
+        for (FusedRun run : ActivityFusionPass.plan(config)) {
+            fusedLists.add(run.groupPath());
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineWalker.walk("$.pipelines." + e.getKey(), e.getValue(), (path, node, depth) -> {
+                if (!Boolean.TRUE.equals(node.getFuse())) return;
+                String fusePath = path + ".fuse";
+                if (node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("fuse.target", fusePath, "fuse applies to SYNC groups; ignored on PLUGIN"));
+                } else if ("ASYNC".equalsIgnoreCase(node.getExecutionMode()) || node.isConditional()) {
+                    issues.add(ValidationIssue.warning("fuse.target", fusePath, "fuse only applies to non-conditional SYNC groups; ignored"));
+                } else if (!fusedLists.contains(path + ".children")) {
+                    issues.add(ValidationIssue.info("fuse.none", fusePath, "no run of two or more compatible PLUGIN children; nothing is fused"));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.RetryPolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.HedgePolicyConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates PLUGIN node {@code hedge} blocks against the node timeout and the effective retry policy.
+ * Each hedge is retried independently, so worst-case attempts are (maxHedges + 1) * maximumAttempts.
+ */
+public final class HedgePolicyCheck implements ConfigCheck {
+
+    /** Above this many duplicates per attempt, load amplification outweighs the tail-latency gain. */
+    static final int MAX_RECOMMENDED_HEDGES = 3;
+    /** Worst-case attempts (hedges times retries) above which a warning is emitted. */
+    static final int MAX_RECOMMENDED_TOTAL_ATTEMPTS = 10;
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            PipelineWalker.walk("$.pipelines." + e.getKey(), pipeline, (path, node, depth) -> {
+                HedgePolicyConfig hedge = node.getHedge();
+                if (hedge == null) return;
+                String hedgePath = path + ".hedge";
+                if (!node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("hedge.target", hedgePath, "hedge is only applied to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                if (!HedgePolicyConfig.WINNERS.contains(hedge.getWinnerEffective())) {
+                    issues.add(ValidationIssue.error("hedge.winner", hedgePath, "winner must be one of " + HedgePolicyConfig.WINNERS + ", got " + hedge.getWinner()));
+                }
+                int maxHedges = hedge.getMaxHedgesEffective();
+                if (maxHedges < 1) {
+                    issues.add(ValidationIssue.error("hedge.maxHedges", hedgePath, "maxHedges must be at least 1"));
+                    return;
+                } else if (maxHedges > MAX_RECOMMENDED_HEDGES) {
+                    issues.add(ValidationIssue.warning("hedge.maxHedges", hedgePath, "maxHedges " + maxHedges + " exceeds " + MAX_RECOMMENDED_HEDGES + "; extra duplicates add load with little tail-latency gain"));
+                }
+                if (hedge.getDelayMillis() != null && hedge.getDelayMillis() <= 0) {
+                    issues.add(ValidationIssue.error("hedge.delay", hedgePath, "delayMillis must be positive"));
+                    return;
+                }
+                int timeoutSeconds = NodeActivitySettings.timeoutSeconds(config, pipeline, node);
+                long timeoutMillis = timeoutSeconds * 1000L;
+                long delay = hedge.delayMillisFor(timeoutSeconds);
+                if (delay >= timeoutMillis) {
+                    issues.add(ValidationIssue.error("hedge.delay", hedgePath, "delay " + delay + " ms is not below the node timeout (" + timeoutSeconds + " s); the hedge can never fire"));
+                } else if (delay * maxHedges >= timeoutMillis) {
+                    issues.add(ValidationIssue.warning("hedge.delay", hedgePath, "only " + ((timeoutMillis - 1) / delay) + " of " + maxHedges + " hedges can fire within the node timeout (" + timeoutSeconds + " s)"));
+                }
+
+                RetryPolicyConfig retry = NodeActivitySettings.retryPolicy(config, node);
+                int attempts = retry.getMaximumAttempts();
+                int totalAttempts = (maxHedges + 1) * attempts;
+                if (attempts <= 0) {
+                    issues.add(ValidationIssue.warning("hedge.retry", hedgePath, "retry maximumAttempts is unlimited; every hedge is retried without bound"));
+                } else if (totalAttempts > MAX_RECOMMENDED_TOTAL_ATTEMPTS) {
+                    issues.add(ValidationIssue.warning("hedge.retry", hedgePath, "hedging with maximumAttempts " + attempts + " allows up to " + totalAttempts
+                            + " attempts per call; lower maximumAttempts on this node's retryPolicy"));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.IterationConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates {@code iteration} on iterator groups (NodeConfig and GroupConfig, at any depth and in any branch). PARALLEL
+ * adds an implicit fan-out level, so the deepest group under the iterator plus one must stay within {@code maxDepth}
+ * (or the pipeline {@code defaultMaxGroupDepth}). Also warns when the fan-out or loop length exceeds Temporal per-workflow limits.
+ */
+public final class IterationCheck implements ConfigCheck {
+
+    /** Temporal default limit on pending activities per workflow execution. */
+    static final int MAX_PENDING_ACTIVITIES = 2000;
+    /** Temporal warns at 10K and terminates at 50K history events; stay well below. */
+    static final long MAX_RECOMMENDED_HISTORY_EVENTS = 40_000L;
+    /** Approximate history events per activity (scheduled, started, completed). */
+    static final int EVENTS_PER_ACTIVITY = 3;
+    static final int FALLBACK_MAX_GROUP_DEPTH = 5;
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            int pipelineMaxDepth = pipeline.getDefaultMaxGroupDepth() > 0 ? pipeline.getDefaultMaxGroupDepth() : FALLBACK_MAX_GROUP_DEPTH;
+            String base = "$.pipelines." + e.getKey();
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                IterationConfig iteration = node.getIteration();
+                if (iteration == null) return;
+                String iterPath = path + ".iteration";
+                if (node.isPlugin() || !node.isIterative()) {
+                    issues.add(ValidationIssue.warning("iteration.target", iterPath, "iteration only applies to GROUP nodes with an iterator; ignored"));
+                    return;
+                }
+                if (!checkValues(iteration, iterPath, issues)) return;
+                int[] deepestGroup = {depth};
+                int[] plugins = {0};
+                PipelineWalker.walkNode(path, node, depth, (p, n, d) -> {
+                    if (n.isPlugin()) plugins[0]++;
+                    else deepestGroup[0] = Math.max(deepestGroup[0], d);
+                });
+                int maxDepth = node.getMaxDepth() != null ? node.getMaxDepth() : pipelineMaxDepth;
+                checkLimits(iteration, deepestGroup[0], maxDepth, plugins[0], iterPath, issues);
+            });
+            GroupWalker.walk(base, pipeline, (path, group, depth) -> {
+                if (group.getIteration() == null) return true;
+                String iterPath = path + ".iteration";
+                if (!group.isIterative()) {
+                    issues.add(ValidationIssue.warning("iteration.target", iterPath, "iteration only applies to groups with an iterator; ignored"));
+                    return true;
+                }
+                if (!checkValues(group.getIteration(), iterPath, issues)) return true;
+                int[] deepestGroup = {depth};
+                int[] plugins = {0};
+                GroupWalker.walkGroup(path, group, depth, new GroupWalker.GroupVisitor() {
+                    @Override
+                    public boolean visit(String p, GroupConfig g, int d) {
+                        deepestGroup[0] = Math.max(deepestGroup[0], d);
+                        return true;
+                    }
+
+                    @Override
+                    public void activity(String p, String name, int d) {
+                        plugins[0]++;
+                    }
+                });
+                int maxDepth = group.getMaxDepth() != null ? group.getMaxDepth() : pipelineMaxDepth;
+                checkLimits(group.getIteration(), deepestGroup[0], maxDepth, plugins[0], iterPath, issues);
+                return true;
+            });
+        }
+    }
+
+    private static boolean checkValues(IterationConfig iteration, String path, List<ValidationIssue> issues) {
+        boolean ok = true;
+        if (!IterationConfig.MODES.contains(iteration.getModeEffective())) {
+            issues.add(ValidationIssue.error("iteration.mode", path, "mode must be one of " + IterationConfig.MODES + ", got " + iteration.getMode()));
+            ok = false;
+        }
+        if (!IterationConfig.RESULT_ORDERS.contains(iteration.getResultOrderEffective())) {
+            issues.add(ValidationIssue.error("iteration.resultOrder", path, "resultOrder must be one of " + IterationConfig.RESULT_ORDERS + ", got " + iteration.getResultOrder()));
+            ok = false;
+        }
+        if (iteration.getChunkSizeEffective() < 1) {
+            issues.add(ValidationIssue.error("iteration.chunkSize", path, "chunkSize must be at least 1"));
+            ok = false;
+        }
+        if (iteration.getMaxIterations() != null && iteration.getMaxIterations() < 1) {
+            issues.add(ValidationIssue.error("iteration.maxIterations", path, "maxIterations must be at least 1"));
+            ok = false;
+        }
+        if (iteration.getMaxParallelism() != null) {
+            if (iteration.getMaxParallelism() < 1) {
+                issues.add(ValidationIssue.error("iteration.maxParallelism", path, "maxParallelism must be at least 1"));
+                ok = false;
+            } else if (!iteration.isParallel()) {
+                issues.add(ValidationIssue.warning("iteration.maxParallelism", path, "maxParallelism is ignored unless mode is PARALLEL"));
+            }
+        }
+        return ok;
+    }
+
+    private static void checkLimits(IterationConfig iteration, int deepestGroupDepth, int maxDepth, int bodyPlugins,
+                                    String path, List<ValidationIssue> issues) {
+        if (iteration.isParallel() && deepestGroupDepth + 1 > maxDepth) {
+            issues.add(ValidationIssue.error("iteration.depth", path, "PARALLEL iteration adds a fan-out level: nesting reaches depth " + (deepestGroupDepth + 1)
+                    + ", above maxDepth " + maxDepth + "; raise maxDepth/defaultMaxGroupDepth or flatten the body"));
+        }
+        int activities = Math.max(1, bodyPlugins);
+        long inFlight = (long) iteration.getMaxParallelismEffective() * activities;
+        if (inFlight > MAX_PENDING_ACTIVITIES) {
+            issues.add(ValidationIssue.warning("iteration.maxParallelism", path, "maxParallelism " + iteration.getMaxParallelismEffective() + " with " + activities
+                    + " plugin(s) per iteration can exceed Temporal's " + MAX_PENDING_ACTIVITIES + " pending activities per workflow"));
+        }
+        if (iteration.getMaxIterations() != null && (long) iteration.getMaxIterations() * activities * EVENTS_PER_ACTIVITY > MAX_RECOMMENDED_HISTORY_EVENTS) {
+            issues.add(ValidationIssue.warning("iteration.maxIterations", path, "maxIterations " + iteration.getMaxIterations() + " with " + activities
+                    + " plugin(s) per iteration approaches the workflow history limit; raise chunkSize or split the input"));
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDef;
+import com.openllmorchestrator.worker.engine.config.pipeline.LocalActivityConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.StreamingConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Validates {@code localActivity} on PLUGIN nodes and capability definitions. Only short, idempotent plugin types
+ * qualify; timeouts should stay within the workflow task timeout. Batching and streaming need the activity task queue,
+ * so they cannot be combined with a local activity.
+ */
+public final class LocalActivityCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, CapabilityDef> e : config.getCapabilitiesEffective().entrySet()) {
+            CapabilityDef def = e.getValue();
+            if (def == null || def.getLocalActivity() == null || !def.getLocalActivity().isEnabledEffective()) continue;
+            String path = "$.capabilities." + e.getKey() + ".localActivity";
+            checkType(def.getPluginType(), path, issues);
+            checkTimeouts(def.getLocalActivity(), path, issues);
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            PipelineWalker.walk("$.pipelines." + e.getKey(), pipeline, (path, node, depth) -> {
+                if (node.getLocalActivity() != null && !node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("localActivity.target", path + ".localActivity", "localActivity only applies to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                LocalActivityConfig local = LocalActivityConfig.effectiveFor(config, node);
+                if (local == null) return;
+                String localPath = path + ".localActivity";
+                if (node.getLocalActivity() != null) {
+                    checkType(node.getPluginType(), localPath, issues);
+                    checkTimeouts(local, localPath, issues);
+                } else if (!AllowedPluginTypes.isLocalActivityEligible(node.getPluginType())) {
+                    issues.add(ValidationIssue.error("localActivity.pluginType", localPath, "inherits localActivity from its capability but pluginType "
+                            + node.getPluginType() + " is not eligible"));
+                }
+                if (node.getBatch() != null) {
+                    issues.add(ValidationIssue.error("localActivity.batch", localPath, "batch coalesces calls on the activity task queue; it cannot be combined with localActivity"));
+                }
+                if (StreamingConfig.effectiveFor(pipeline, node) != null) {
+                    issues.add(ValidationIssue.error("localActivity.streaming", localPath, "streaming nodes cannot run as local activities"));
+                }
+                if (node.getHedge() != null) {
+                    issues.add(ValidationIssue.warning("localActivity.hedge", localPath, "hedging a local activity has no effect; remove hedge or localActivity"));
+                }
+                int attempts = NodeActivitySettings.retryPolicy(config, node).getMaximumAttempts();
+                if (attempts <= 0 && local.getScheduleToCloseSeconds() == null) {
+                    issues.add(ValidationIssue.warning("localActivity.retry", localPath, "unlimited retries without scheduleToCloseSeconds can keep retrying the local activity indefinitely"));
+                }
+            });
+        }
+    }
+
+    private static void checkType(String pluginType, String path, List<ValidationIssue> issues) {
+        if (!AllowedPluginTypes.isLocalActivityEligible(pluginType)) {
+            issues.add(ValidationIssue.error("localActivity.pluginType", path, "pluginType " + pluginType + " may not run as a local activity; allowed: "
+                    + new TreeSet<>(AllowedPluginTypes.localActivityEligible())));
+        }
+    }
+
+    private static void checkTimeouts(LocalActivityConfig local, String path, List<ValidationIssue> issues) {
+        int startToClose = local.getStartToCloseSecondsEffective();
+        if (startToClose < 1) {
+            issues.add(ValidationIssue.error("localActivity.timeout", path, "startToCloseSeconds must be at least 1"));
+            return;
+        }
+        if (startToClose > LocalActivityConfig.MAX_RECOMMENDED_SECONDS) {
+            issues.add(ValidationIssue.warning("localActivity.timeout", path, "startToCloseSeconds " + startToClose + " exceeds " + LocalActivityConfig.MAX_RECOMMENDED_SECONDS
+                    + " s (workflow task timeout); use a regular activity for slow plugins"));
+        }
+        Integer scheduleToClose = local.getScheduleToCloseSeconds();
+        if (scheduleToClose != null && scheduleToClose < startToClose) {
+            issues.add(ValidationIssue.error("localActivity.timeout", path, "scheduleToCloseSeconds " + scheduleToClose + " is below startToCloseSeconds " + startToClose));
+        }
+        Integer threshold = local.getLocalRetryThresholdSeconds();
+        if (threshold != null && threshold < 1) {
+            issues.add(ValidationIssue.error("localActivity.localRetryThreshold", path, "localRetryThresholdSeconds must be at least 1"));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.CapabilityDef;
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackChain;
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackResolver;
+import com.openllmorchestrator.worker.engine.config.pipeline.ModelFallbackTarget;
+import com.openllmorchestrator.worker.engine.config.pipeline.NodeActivitySettings;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates model fallback chains on PLUGIN nodes ({@code fallbacks}) and per capability ({@code capabilityFallbacks}).
+ * The guarded plugin and every target must be {@link AllowedPluginTypes#MODEL}; when {@code plugins} is set, targets
+ * must be declared there or in {@code dynamicPlugins}.
+ */
+public final class ModelFallbackCheck implements ConfigCheck {
+
+    /** Predefined capability served by ModelPlugin. */
+    static final String MODEL_CAPABILITY = "MODEL";
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        Set<String> known = config.getKnownPluginsEffective();
+        checkCapabilityChains(config, config.getCapabilityFallbacks(), "$.capabilityFallbacks", null, known, issues);
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            String base = "$.pipelines." + e.getKey();
+            if (pipeline == null) continue;
+            checkCapabilityChains(config, pipeline.getCapabilityFallbacks(), base + ".capabilityFallbacks", pipeline, known, issues);
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                ModelFallbackChain chain = node.getFallbacks();
+                if (chain == null) return;
+                String chainPath = path + ".fallbacks";
+                if (!node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("fallbacks.target", chainPath, "fallbacks only apply to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                if (!AllowedPluginTypes.MODEL.equals(node.getPluginType())) {
+                    issues.add(ValidationIssue.error("fallbacks.pluginType", chainPath, "fallbacks require pluginType " + AllowedPluginTypes.MODEL + ", got " + node.getPluginType()));
+                    return;
+                }
+                checkChain(chain, node.getName(), chainPath, known, issues);
+                long timeoutMillis = NodeActivitySettings.timeoutSeconds(config, pipeline, node) * 1000L;
+                if (chain.getMaxLatencyMillis() != null && chain.getMaxLatencyMillis() >= timeoutMillis) {
+                    issues.add(ValidationIssue.warning("fallbacks.maxLatency", chainPath, "maxLatencyMillis " + chain.getMaxLatencyMillis()
+                            + " is not below the node timeout (" + timeoutMillis + " ms); calls time out before they count as slow"));
+                }
+            });
+        }
+    }
+
+    private static void checkCapabilityChains(EngineFileConfig config, Map<String, ModelFallbackChain> chains, String base,
+                                              PipelineSection pipeline, Set<String> known, List<ValidationIssue> issues) {
+        if (chains == null) return;
+        for (Map.Entry<String, ModelFallbackChain> e : chains.entrySet()) {
+            if (e.getValue() == null) continue;
+            String capability = e.getKey();
+            String path = base + "." + capability;
+            CapabilityDef def = config.getCapabilitiesEffective().get(capability);
+            if (def != null && !AllowedPluginTypes.MODEL.equals(def.getPluginType())) {
+                issues.add(ValidationIssue.error("fallbacks.pluginType", path, "capability " + capability + " uses pluginType " + def.getPluginType()
+                        + "; fallbacks require " + AllowedPluginTypes.MODEL));
+                continue;
+            }
+            if (def == null && !MODEL_CAPABILITY.equals(capability)) {
+                issues.add(ValidationIssue.warning("fallbacks.capability", path, "capability " + capability
+                        + " is neither MODEL nor a capabilities entry; cannot verify it is served by a " + AllowedPluginTypes.MODEL));
+            }
+            String primary = def != null ? def.getName() : ModelFallbackResolver.primaryPluginForCapability(config, pipeline, capability);
+            checkChain(e.getValue(), primary, path, known, issues);
+        }
+    }
+
+    static void checkChain(ModelFallbackChain chain, String primary, String path, Set<String> known, List<ValidationIssue> issues) {
+        if (!ModelFallbackChain.STRATEGIES.contains(chain.getStrategyEffective())) {
+            issues.add(ValidationIssue.error("fallbacks.strategy", path, "strategy must be one of " + ModelFallbackChain.STRATEGIES + ", got " + chain.getStrategy()));
+        }
+        checkThresholds(chain.getMaxLatencyMillis(), chain.getMaxErrorRate(), path, issues);
+        checkWeights(chain.getQuality(), chain.getCost(), path, issues);
+        if (chain.getQualityWeightEffective() < 0 || chain.getCostWeightEffective() < 0) {
+            issues.add(ValidationIssue.error("fallbacks.weights", path, "qualityWeight and costWeight must not be negative"));
+        } else if (ModelFallbackChain.WEIGHTED.equals(chain.getStrategyEffective())
+                && chain.getQualityWeightEffective() == 0 && chain.getCostWeightEffective() == 0) {
+            issues.add(ValidationIssue.warning("fallbacks.weights", path, "WEIGHTED with qualityWeight and costWeight both 0 always keeps the primary"));
+        }
+        if (chain.getMaxLatencyMillis() == null && chain.getMaxErrorRate() == null
+                && !ModelFallbackChain.WEIGHTED.equals(chain.getStrategyEffective())) {
+            issues.add(ValidationIssue.warning("fallbacks.thresholds", path, "no maxLatencyMillis or maxErrorRate on the primary; ORDERED never falls back"));
+        }
+        List<ModelFallbackTarget> targets = chain.getTargetsSafe();
+        if (targets.isEmpty()) {
+            issues.add(ValidationIssue.warning("fallbacks.targets", path, "no targets; the chain has no effect"));
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            ModelFallbackTarget t = targets.get(i);
+            if (t == null) continue;
+            String tPath = path + ".targets[" + i + "]";
+            String plugin = t.getPlugin();
+            if (plugin == null || plugin.isBlank()) {
+                issues.add(ValidationIssue.error("fallbacks.plugin", tPath, "plugin is required"));
+                continue;
+            }
+            if (!AllowedPluginTypes.MODEL.equals(t.getPluginTypeEffective())) {
+                issues.add(ValidationIssue.error("fallbacks.pluginType", tPath, "target pluginType must be " + AllowedPluginTypes.MODEL + ", got " + t.getPluginType()));
+            }
+            if (plugin.equals(primary)) {
+                issues.add(ValidationIssue.error("fallbacks.plugin", tPath, "target " + plugin + " is the primary plugin"));
+            } else if (!seen.add(plugin)) {
+                issues.add(ValidationIssue.error("fallbacks.plugin", tPath, "target " + plugin + " is listed more than once"));
+            }
+            if (known != null && !known.contains(plugin)) {
+                issues.add(ValidationIssue.error("fallbacks.plugin", tPath, "plugin " + plugin + " is not declared in plugins or dynamicPlugins"));
+            }
+            checkThresholds(t.getMaxLatencyMillis(), t.getMaxErrorRate(), tPath, issues);
+            checkWeights(t.getQuality(), t.getCost(), tPath, issues);
+        }
+    }
+
+    private static void checkThresholds(Long maxLatencyMillis, Double maxErrorRate, String path, List<ValidationIssue> issues) {
+        if (maxLatencyMillis != null && maxLatencyMillis <= 0) {
+            issues.add(ValidationIssue.error("fallbacks.maxLatency", path, "maxLatencyMillis must be positive"));
+        }
+        if (maxErrorRate != null && !(maxErrorRate > 0 && maxErrorRate <= 1)) {
+            issues.add(ValidationIssue.error("fallbacks.maxErrorRate", path, "maxErrorRate must be in (0, 1], got " + maxErrorRate));
+        }
+    }
+
+    private static void checkWeights(Double quality, Double cost, String path, List<ValidationIssue> issues) {
+        if (quality != null && !(quality >= 0 && quality <= 1)) {
+            issues.add(ValidationIssue.error("fallbacks.quality", path, "quality must be in [0, 1], got " + quality));
+        }
+        if (cost != null && !(cost >= 0)) {
+            issues.add(ValidationIssue.error("fallbacks.cost", path, "cost must not be negative"));
+        }
+    }
+}
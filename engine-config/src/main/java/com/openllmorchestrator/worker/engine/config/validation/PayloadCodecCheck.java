@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.codec.PayloadCodecConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Validates {@code payloadCodec} at engine level and per pipeline. Compression must be the last codec, since
+ * compressed bytes are no longer JSON and do not compress again.
+ */
+public final class PayloadCodecCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        if (config.getPayloadCodec() != null) {
+            checkCodec(config.getPayloadCodec(), "$.payloadCodec", issues);
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            if (e.getValue() != null && e.getValue().getPayloadCodec() != null) {
+                checkCodec(e.getValue().getPayloadCodec(), "$.pipelines." + e.getKey() + ".payloadCodec", issues);
+            }
+        }
+    }
+
+    private static void checkCodec(PayloadCodecConfig codec, String path, List<ValidationIssue> issues) {
+        List<String> names = codec.getCodecsEffective();
+        Set<String> seen = new HashSet<>();
+        int compressions = 0;
+        boolean compressed = false;
+        for (String name : names) {
+            if (!PayloadCodecConfig.CODECS.contains(name)) {
+                issues.add(ValidationIssue.error("payloadCodec.codec", path + ".codecs", "unknown codec " + name + "; expected one of " + new TreeSet<>(PayloadCodecConfig.CODECS)));
+                continue;
+            }
+            if (!seen.add(name)) {
+                issues.add(ValidationIssue.error("payloadCodec.codec", path + ".codecs", "codec " + name + " is listed more than once"));
+                continue;
+            }
+            if (PayloadCodecConfig.COMPRESSION_CODECS.contains(name)) {
+                compressions++;
+                compressed = true;
+            } else if (compressed) {
+                issues.add(ValidationIssue.error("payloadCodec.order", path + ".codecs", name + " must come before compression; it expects JSON input"));
+            }
+        }
+        if (compressions > 1) {
+            issues.add(ValidationIssue.warning("payloadCodec.order", path + ".codecs", "more than one compression codec; the second rarely shrinks the payload and only adds CPU"));
+        }
+        if (Boolean.TRUE.equals(codec.getEnabled()) && names.isEmpty()) {
+            issues.add(ValidationIssue.warning("payloadCodec.empty", path, "enabled but no codecs are listed; payloads are not encoded"));
+        }
+        Integer threshold = codec.getCompressionThresholdBytes();
+        if (threshold != null && threshold < 0) {
+            issues.add(ValidationIssue.error("payloadCodec.threshold", path, "compressionThresholdBytes must not be negative"));
+        }
+        Integer level = codec.getCompressionLevel();
+        if (level != null && level != -1 && (level < 1 || level > 9)) {
+            issues.add(ValidationIssue.error("payloadCodec.level", path, "compressionLevel must be -1 or between 1 and 9"));
+        }
+        if ((threshold != null || level != null) && compressions == 0 && !names.isEmpty()) {
+            issues.add(ValidationIssue.warning("payloadCodec.compression", path, "compression settings are ignored without GZIP or DEFLATE in codecs"));
+        }
+    }
+}
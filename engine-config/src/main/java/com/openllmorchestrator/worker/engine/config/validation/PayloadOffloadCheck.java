@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.activity.ActivityPayloadConfig;
+
+import java.util.List;
+
+/** Validates the claim-check settings in {@code activity.payload}: thresholds, store selector and TTL. */
+public final class PayloadOffloadCheck implements ConfigCheck {
+
+    /** Temporal rejects single payloads above about 2 MB; a threshold above that never protects history. */
+    static final long TEMPORAL_PAYLOAD_LIMIT_BYTES = 2L * 1024 * 1024;
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        if (config.getActivity() == null || config.getActivity().getPayload() == null) return;
+        ActivityPayloadConfig payload = config.getActivity().getPayload();
+        String path = "$.activity.payload";
+        if (payload.getMaxAccumulatedOutputKeys() < 0 || payload.getMaxResultOutputKeys() < 0) {
+            issues.add(ValidationIssue.error("payload.keys", path, "key limits must not be negative (0 = no limit)"));
+        }
+        if (payload.getMaxValueBytesEffective() < 0 || payload.getMaxResultBytesEffective() < 0) {
+            issues.add(ValidationIssue.error("payload.bytes", path, "byte thresholds must not be negative (0 = disabled)"));
+            return;
+        }
+        if (!payload.isOffloadEnabled()) return;
+        if (payload.getMaxValueBytesEffective() > TEMPORAL_PAYLOAD_LIMIT_BYTES || payload.getMaxResultBytesEffective() > TEMPORAL_PAYLOAD_LIMIT_BYTES) {
+            issues.add(ValidationIssue.warning("payload.bytes", path, "byte threshold above Temporal's ~2 MB payload limit; payloads between the limit and the threshold are never offloaded and Temporal rejects them"));
+        }
+        if (payload.getMaxValueBytesEffective() > 0 && payload.getMaxResultBytesEffective() > 0 && payload.getMaxValueBytesEffective() > payload.getMaxResultBytesEffective()) {
+            issues.add(ValidationIssue.warning("payload.bytes", path, "maxValueBytes " + payload.getMaxValueBytesEffective() + " is above maxResultBytes "
+                    + payload.getMaxResultBytesEffective() + "; values are checked against maxValueBytes first, but any value above it also exceeds maxResultBytes"
+                    + " and would be offloaded by the per-result pass anyway, so maxValueBytes has no effect"));
+        }
+        String store = payload.getOffloadStoreEffective();
+        if (!ActivityPayloadConfig.STORES.contains(store)) {
+            issues.add(ValidationIssue.error("payload.offloadStore", path + ".offloadStore", "offloadStore must be one of " + ActivityPayloadConfig.STORES
+                    + ", got " + payload.getOffloadStore()));
+        } else if (ActivityPayloadConfig.STORE_FILESYSTEM.equals(store)
+                && (payload.getOffloadDirectory() == null || payload.getOffloadDirectory().isBlank())) {
+            issues.add(ValidationIssue.error("payload.offloadDirectory", path + ".offloadDirectory", "offloadStore FILESYSTEM requires offloadDirectory"));
+        }
+        if (payload.getReferenceTtlSecondsEffective() < 0) {
+            issues.add(ValidationIssue.error("payload.referenceTtlSeconds", path + ".referenceTtlSeconds", "referenceTtlSeconds must not be negative (0 = never expire)"));
+        } else if (payload.getReferenceTtlSecondsEffective() == 0) {
+            issues.add(ValidationIssue.warning("payload.referenceTtlSeconds", path + ".referenceTtlSeconds", "offloaded values never expire; the store grows without bound"));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.AllowedPluginTypes;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.StreamingConfig;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates pipeline and node {@code streaming} settings: only streaming-capable plugin types may stream,
+ * buffer and flush values are sane, and the STREAMING feature flag is enabled when anything streams.
+ */
+public final class StreamingCheck implements ConfigCheck {
+
+    static final String STREAMING_FEATURE = "STREAMING";
+    static final int MAX_RECOMMENDED_TOKEN_BUFFER = 65_536;
+    /** Flushing less often than this visibly delays tokens for chat users. */
+    static final int MAX_RECOMMENDED_FLUSH_INTERVAL_MILLIS = 1_000;
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        boolean anyStreaming = false;
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            String base = "$.pipelines." + e.getKey();
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            if (pipeline.getStreaming() != null) {
+                checkValues(pipeline.getStreaming(), base + ".streaming", issues);
+            }
+            int[] streamingNodes = {0};
+            PipelineWalker.walk(base, pipeline, (path, node, depth) -> {
+                StreamingConfig streaming = node.getStreaming();
+                if (streaming == null) return;
+                String streamingPath = path + ".streaming";
+                if (!node.isPlugin()) {
+                    issues.add(ValidationIssue.warning("streaming.target", streamingPath, "streaming is only applied to PLUGIN nodes; ignored on " + node.getType()));
+                    return;
+                }
+                checkValues(streaming, streamingPath, issues);
+                if (Boolean.FALSE.equals(streaming.getEnabled())) return;
+                if (!AllowedPluginTypes.isStreamingCapable(node.getPluginType())) {
+                    issues.add(ValidationIssue.error("streaming.pluginType", streamingPath, "pluginType " + node.getPluginType()
+                            + " cannot stream; streaming-capable: " + AllowedPluginTypes.streamingCapable()));
+                }
+                if (StreamingConfig.effectiveFor(pipeline, node) != null) {
+                    streamingNodes[0]++;
+                }
+            });
+            StreamingConfig pipelineLevel = pipeline.getStreaming();
+            if (pipelineLevel != null && Boolean.TRUE.equals(pipelineLevel.getEnabled()) && streamingNodes[0] == 0) {
+                issues.add(ValidationIssue.warning("streaming.noNodes", base + ".streaming", "streaming is enabled but no PLUGIN node is marked with streaming"));
+            }
+            anyStreaming |= streamingNodes[0] > 0;
+        }
+        if (anyStreaming && !config.getEnabledFeatureNames().contains(STREAMING_FEATURE)) {
+            issues.add(ValidationIssue.warning("streaming.feature", "$.enabledFeatures", "nodes are marked streaming but feature STREAMING is not enabled; they run non-streaming"));
+        }
+    }
+
+    private static void checkValues(StreamingConfig streaming, String path, List<ValidationIssue> issues) {
+        if (streaming.getTokenBufferSize() != null) {
+            int size = streaming.getTokenBufferSize();
+            if (size < 1) {
+                issues.add(ValidationIssue.error("streaming.tokenBufferSize", path, "tokenBufferSize must be at least 1"));
+            } else if (size > MAX_RECOMMENDED_TOKEN_BUFFER) {
+                issues.add(ValidationIssue.warning("streaming.tokenBufferSize", path, "tokenBufferSize " + size + " exceeds " + MAX_RECOMMENDED_TOKEN_BUFFER + "; memory per stream grows with it"));
+            }
+        }
+        if (streaming.getFlushIntervalMillis() != null) {
+            int interval = streaming.getFlushIntervalMillis();
+            if (interval < 0) {
+                issues.add(ValidationIssue.error("streaming.flushIntervalMillis", path, "flushIntervalMillis must not be negative"));
+            } else if (interval > MAX_RECOMMENDED_FLUSH_INTERVAL_MILLIS) {
+                issues.add(ValidationIssue.warning("streaming.flushIntervalMillis", path, "flushIntervalMillis " + interval + " delays time-to-first-token"));
+            }
+        }
+        if (streaming.getOverflowPolicy() != null && !StreamingConfig.OVERFLOW_POLICIES.contains(streaming.getOverflowPolicyEffective())) {
+            issues.add(ValidationIssue.error("streaming.overflowPolicy", path, "overflowPolicy must be one of " + StreamingConfig.OVERFLOW_POLICIES
+                    + ", got " + streaming.getOverflowPolicy()));
+        }
+    }
+}
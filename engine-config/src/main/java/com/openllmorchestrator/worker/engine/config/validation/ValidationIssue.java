@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+/**
+ * One finding from config validation.
+ *
+ * @param severity ERROR (worker would reject or misbehave), WARNING (likely misconfiguration) or INFO
+ * @param code     stable identifier of the check (e.g. {@code hedge.delay})
+ * @param path     JSON path of the offending element (e.g. {@code $.pipelines.chat.rootByCapability.MODEL})
+ * @param message  human-readable description
+ */
+public record ValidationIssue(Severity severity, String code, String path, String message) {
+
+    public enum Severity { ERROR, WARNING, INFO }
+
+    public static ValidationIssue error(String code, String path, String message) {
+        return new ValidationIssue(Severity.ERROR, code, path, message);
+    }
+
+    public static ValidationIssue warning(String code, String path, String message) {
+        return new ValidationIssue(Severity.WARNING, code, path, message);
+    }
+
+    public static ValidationIssue info(String code, String path, String message) {
+        return new ValidationIssue(Severity.INFO, code, path, message);
+    }
+
+    public boolean isError() {
+        return severity == Severity.ERROR;
+    }
+
+    @Override
+    public String toString() {
+        return severity + " [" + code + "] " + path + ": " + message;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineVariantConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.VariantSelector;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates pipeline {@code variants}: names, weights (percent, at most 100 in total) and that each variant yields a
+ * pipeline. Nested variants inside a variant pipeline are ignored and flagged.
+ * <p>
+ * Each effective variant pipeline (whole {@code pipeline} or base + {@code overrides}) is also run through the pipeline
+ * checks given to the constructor, on a copy of the config whose only pipeline is the variant. Its issues are reported
+ * under {@code $.pipelines.<name>.variants[i]}; issues the base pipeline already has at the same place are not repeated.
+ */
+public final class VariantCheck implements ConfigCheck {
+
+    private final List<ConfigCheck> pipelineChecks;
+
+    /** Structure only; variant pipelines are not checked further. */
+    public VariantCheck() {
+        this(List.of());
+    }
+
+    /** @param pipelineChecks checks to run on each variant pipeline (must not include a VariantCheck) */
+    public VariantCheck(List<ConfigCheck> pipelineChecks) {
+        this.pipelineChecks = List.copyOf(pipelineChecks);
+    }
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null || pipeline.getVariants() == null || pipeline.getVariants().isEmpty()) continue;
+            String base = "$.pipelines." + e.getKey() + ".variants";
+            VariantSelector selector;
+            try {
+                selector = VariantSelector.of(e.getKey(), pipeline);
+            } catch (IllegalArgumentException ex) {
+                issues.add(ValidationIssue.error("variant.invalid", base, ex.getMessage()));
+                continue;
+            }
+            List<PipelineVariantConfig> variants = pipeline.getVariants();
+            int total = 0;
+            for (int i = 0; i < variants.size(); i++) {
+                PipelineVariantConfig variant = variants.get(i);
+                total += variant.getWeightEffective();
+                if (variant.getPipeline() != null && variant.getPipeline().getVariants() != null && !variant.getPipeline().getVariants().isEmpty()) {
+                    issues.add(ValidationIssue.warning("variant.nested", base + "[" + i + "].pipeline.variants", "variants of a variant pipeline are ignored"));
+                }
+            }
+            if (total == 0) {
+                issues.add(ValidationIssue.info("variant.noTraffic", base, "all variants have weight 0; every run uses the base pipeline"));
+            }
+            if (pipelineChecks.isEmpty()) continue;
+            String prefix = "$.pipelines." + e.getKey();
+            Set<ValidationIssue> baseline = new HashSet<>(pipelineIssues(config, e.getKey(), pipeline, prefix));
+            for (int i = 1; i < selector.size(); i++) {
+                for (ValidationIssue issue : pipelineIssues(config, e.getKey(), selector.pipeline(i), prefix)) {
+                    if (baseline.contains(issue)) continue;
+                    String path = base + "[" + (i - 1) + "]" + issue.path().substring(prefix.length());
+                    issues.add(new ValidationIssue(issue.severity(), issue.code(), path,
+                            "variant " + selector.name(i) + ": " + issue.message()));
+                }
+            }
+        }
+    }
+
+    /** Issues of the pipeline checks on a copy of the config holding only this pipeline, limited to paths under it. */
+    private List<ValidationIssue> pipelineIssues(EngineFileConfig config, String name, PipelineSection pipeline, String prefix) {
+        EngineFileConfig single = config.toBuilder().pipelines(Map.of(name, pipeline)).build();
+        List<ValidationIssue> all = new ArrayList<>();
+        for (ConfigCheck check : pipelineChecks) {
+            check.check(single, all);
+        }
+        List<ValidationIssue> result = new ArrayList<>();
+        for (ValidationIssue issue : all) {
+            String path = issue.path();
+            if (path == null || !path.startsWith(prefix)) continue;
+            if (path.length() > prefix.length() && path.charAt(prefix.length()) != '.' && path.charAt(prefix.length()) != '[') continue;
+            result.add(issue);
+        }
+        return result;
+    }
+}
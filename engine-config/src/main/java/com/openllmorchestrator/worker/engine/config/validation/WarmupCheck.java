@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.validation;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.warmup.ConnectionPoolWarmup;
+import com.openllmorchestrator.worker.engine.config.warmup.WarmupConfig;
+import com.openllmorchestrator.worker.engine.config.warmup.WarmupInvocation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates engine and pipeline {@code warmup} blocks. When {@code plugins} restricts the allowed plugins, every plugin
+ * named in warm-up must be in {@code plugins} or {@code dynamicPlugins}. Warns when the worst-case warm-up time exceeds
+ * {@code maxDurationSeconds}, since the remaining steps would be cut off.
+ */
+public final class WarmupCheck implements ConfigCheck {
+
+    @Override
+    public void check(EngineFileConfig config, List<ValidationIssue> issues) {
+        Set<String> known = config.getKnownPluginsEffective();
+        WarmupConfig engine = config.getWarmup();
+        long worstCaseSeconds = 0;
+        if (engine != null) {
+            worstCaseSeconds += checkWarmup(engine, "$.warmup", known, issues);
+            if (engine.getMaxDurationSecondsEffective() < 1) {
+                issues.add(ValidationIssue.error("warmup.maxDuration", "$.warmup", "maxDurationSeconds must be at least 1"));
+            }
+        }
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            WarmupConfig own = e.getValue() != null ? e.getValue().getWarmup() : null;
+            if (own == null) continue;
+            String path = "$.pipelines." + e.getKey() + ".warmup";
+            if (own.getMaxDurationSeconds() != null || own.getFailOnError() != null) {
+                issues.add(ValidationIssue.warning("warmup.scope", path, "maxDurationSeconds and failOnError are engine-level settings; ignored on a pipeline"));
+            }
+            if (own.isEnabledEffective()) worstCaseSeconds += checkWarmup(own, path, known, issues);
+        }
+        boolean enabled = engine == null || engine.isEnabledEffective();
+        int maxDuration = engine != null ? engine.getMaxDurationSecondsEffective() : WarmupConfig.DEFAULT_MAX_DURATION_SECONDS;
+        if (enabled && maxDuration > 0 && worstCaseSeconds > maxDuration) {
+            issues.add(ValidationIssue.warning("warmup.maxDuration", "$.warmup", "warm-up invocations may take up to " + worstCaseSeconds
+                    + " s, above maxDurationSeconds " + maxDuration + "; later steps would be skipped"));
+        }
+    }
+
+    /** Validates one block; returns its worst-case invocation time in seconds. */
+    private static long checkWarmup(WarmupConfig warmup, String path, Set<String> known, List<ValidationIssue> issues) {
+        List<String> preload = warmup.getPreloadPluginsSafe();
+        for (int i = 0; i < preload.size(); i++) {
+            checkPlugin(preload.get(i), path + ".preloadPlugins[" + i + "]", known, issues);
+        }
+        List<ConnectionPoolWarmup> pools = warmup.getConnectionPoolsSafe();
+        for (int i = 0; i < pools.size(); i++) {
+            ConnectionPoolWarmup pool = pools.get(i);
+            if (pool == null) continue;
+            String poolPath = path + ".connectionPools[" + i + "]";
+            String type = pool.getPoolEffective();
+            if (type == null || !ConnectionPoolWarmup.POOLS.contains(type)) {
+                issues.add(ValidationIssue.error("warmup.pool", poolPath, "pool must be one of " + ConnectionPoolWarmup.POOLS + ", got " + pool.getPool()));
+            } else if (ConnectionPoolWarmup.PLUGIN.equals(type)) {
+                checkPlugin(pool.getPlugin(), poolPath + ".plugin", known, issues);
+            }
+            if (pool.getConnectionsEffective() < 1) {
+                issues.add(ValidationIssue.error("warmup.connections", poolPath, "connections must be at least 1"));
+            }
+        }
+        long worstCase = 0;
+        List<WarmupInvocation> invocations = warmup.getInvocationsSafe();
+        for (int i = 0; i < invocations.size(); i++) {
+            WarmupInvocation invocation = invocations.get(i);
+            if (invocation == null) continue;
+            String invPath = path + ".invocations[" + i + "]";
+            checkPlugin(invocation.getPlugin(), invPath + ".plugin", known, issues);
+            if (invocation.getRepeatEffective() < 1) {
+                issues.add(ValidationIssue.error("warmup.repeat", invPath, "repeat must be at least 1"));
+                continue;
+            }
+            if (invocation.getTimeoutSecondsEffective() < 1) {
+                issues.add(ValidationIssue.error("warmup.timeout", invPath, "timeoutSeconds must be at least 1"));
+                continue;
+            }
+            worstCase += (long) invocation.getRepeatEffective() * invocation.getTimeoutSecondsEffective();
+        }
+        return worstCase;
+    }
+
+    private static void checkPlugin(String plugin, String path, Set<String> known, List<ValidationIssue> issues) {
+        if (plugin == null || plugin.isBlank()) {
+            issues.add(ValidationIssue.error("warmup.plugin", path, "plugin name is required"));
+        } else if (known != null && !known.contains(plugin.trim())) {
+            issues.add(ValidationIssue.error("warmup.plugin", path, "plugin " + plugin + " is not declared in plugins or dynamicPlugins"));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.warmup;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * A connection pool to prime during warm-up. REDIS, DATABASE and TEMPORAL use the worker's own connections;
+ * PLUGIN asks the named plugin to open its outbound connections (e.g. model server HTTP pool).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ConnectionPoolWarmup {
+    public static final String REDIS = "REDIS";
+    public static final String DATABASE = "DATABASE";
+    public static final String TEMPORAL = "TEMPORAL";
+    public static final String PLUGIN = "PLUGIN";
+    public static final Set<String> POOLS = Set.of(REDIS, DATABASE, TEMPORAL, PLUGIN);
+
+    /** REDIS | DATABASE | TEMPORAL | PLUGIN. */
+    private String pool;
+    /** For PLUGIN: plugin name whose connections are primed. */
+    private String plugin;
+    /** Connections to open (default 1). */
+    private Integer connections;
+
+    @JsonIgnore
+    public String getPoolEffective() {
+        return pool != null ? pool.trim().toUpperCase() : null;
+    }
+
+    @JsonIgnore
+    public int getConnectionsEffective() {
+        return connections != null ? connections : 1;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.warmup;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Warm-up run by a worker after bootstrap and before it starts polling its task queue: preload plugin classes
+ * (including dynamic plugin JARs), prime connection pools and run synthetic invocations so the first real requests
+ * do not pay for class loading, JIT and connection setup. Set at engine level ({@code warmup}) and per pipeline
+ * ({@code pipelines.<name>.warmup}); see {@link WarmupPlan} for how they combine.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WarmupConfig {
+    public static final int DEFAULT_MAX_DURATION_SECONDS = 60;
+
+    /** False disables this warm-up block (engine level: all warm-up; pipeline level: this pipeline's entries). Default true. */
+    private Boolean enabled;
+    /** Plugin names (activity id / FQCN) to load and instantiate. */
+    private List<String> preloadPlugins;
+    /** When true, preload every plugin referenced by PLUGIN nodes (engine level: all pipelines; pipeline level: that pipeline). */
+    private Boolean preloadAllPlugins;
+    /** Connection pools to open before polling. */
+    private List<ConnectionPoolWarmup> connectionPools;
+    /** Synthetic plugin invocations to run (repeatedly) before polling. */
+    private List<WarmupInvocation> invocations;
+    /** Engine level: max total warm-up time; the worker starts polling when it elapses (default 60). */
+    private Integer maxDurationSeconds;
+    /** Engine level: when true, a failed warm-up step fails worker startup; default false (logged and skipped). */
+    private Boolean failOnError;
+
+    @JsonIgnore
+    public boolean isEnabledEffective() {
+        return enabled == null || enabled;
+    }
+
+    @JsonIgnore
+    public List<String> getPreloadPluginsSafe() {
+        return preloadPlugins != null ? preloadPlugins : Collections.emptyList();
+    }
+
+    @JsonIgnore
+    public List<ConnectionPoolWarmup> getConnectionPoolsSafe() {
+        return connectionPools != null ? connectionPools : Collections.emptyList();
+    }
+
+    @JsonIgnore
+    public List<WarmupInvocation> getInvocationsSafe() {
+        return invocations != null ? invocations : Collections.emptyList();
+    }
+
+    @JsonIgnore
+    public int getMaxDurationSecondsEffective() {
+        return maxDurationSeconds != null ? maxDurationSeconds : DEFAULT_MAX_DURATION_SECONDS;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.warmup;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A synthetic plugin call run during warm-up. Output is discarded. Use inputs that exercise the hot path
+ * (e.g. a short prompt) and avoid plugins with side effects (billing, audit, writes).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WarmupInvocation {
+    public static final int DEFAULT_REPEAT = 1;
+    public static final int DEFAULT_TIMEOUT_SECONDS = 10;
+
+    /** Plugin name (activity id / FQCN). Required. */
+    private String plugin;
+    /** Plugin input (same keys the plugin reads from the pipeline input). */
+    private Map<String, Object> input;
+    /** Number of calls (default 1). A few dozen calls help the JIT compile the hot path. */
+    private Integer repeat;
+    /** Timeout per call in seconds (default 10). */
+    private Integer timeoutSeconds;
+
+    @JsonIgnore
+    public Map<String, Object> getInputSafe() {
+        return input != null ? input : Collections.emptyMap();
+    }
+
+    @JsonIgnore
+    public int getRepeatEffective() {
+        return repeat != null ? repeat : DEFAULT_REPEAT;
+    }
+
+    @JsonIgnore
+    public int getTimeoutSecondsEffective() {
+        return timeoutSeconds != null ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+    }
+}
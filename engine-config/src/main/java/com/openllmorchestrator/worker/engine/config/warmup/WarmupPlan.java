@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Open LLM Orchestrator contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.openllmorchestrator.worker.engine.config.warmup;
+
+import com.openllmorchestrator.worker.engine.config.EngineFileConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.ElseIfBranchConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupConfig;
+import com.openllmorchestrator.worker.engine.config.pipeline.GroupWalker;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineSection;
+import com.openllmorchestrator.worker.engine.config.pipeline.PipelineWalker;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Effective warm-up for a worker: the engine-level {@code warmup} plus each pipeline's {@code warmup}.
+ * Preloaded plugins and invocations are concatenated (plugins de-duplicated); connection pools are de-duplicated by
+ * pool and plugin, keeping the highest connection count. Engine {@code enabled: false} disables warm-up entirely;
+ * pipeline {@code enabled: false} drops only that pipeline's entries. Time limit and failOnError come from the engine level.
+ */
+public final class WarmupPlan {
+
+    private static final WarmupPlan EMPTY = new WarmupPlan(List.of(), List.of(), List.of(), WarmupConfig.DEFAULT_MAX_DURATION_SECONDS, false);
+
+    private final List<String> preloadPlugins;
+    private final List<ConnectionPoolWarmup> connectionPools;
+    private final List<WarmupInvocation> invocations;
+    private final int maxDurationSeconds;
+    private final boolean failOnError;
+
+    private WarmupPlan(List<String> preloadPlugins, List<ConnectionPoolWarmup> connectionPools, List<WarmupInvocation> invocations,
+                       int maxDurationSeconds, boolean failOnError) {
+        this.preloadPlugins = preloadPlugins;
+        this.connectionPools = connectionPools;
+        this.invocations = invocations;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.failOnError = failOnError;
+    }
+
+    public static WarmupPlan of(EngineFileConfig config) {
+        if (config == null) return EMPTY;
+        WarmupConfig engine = config.getWarmup();
+        if (engine != null && !engine.isEnabledEffective()) return EMPTY;
+
+        Set<String> preload = new LinkedHashSet<>();
+        Map<String, ConnectionPoolWarmup> pools = new LinkedHashMap<>();
+        List<WarmupInvocation> invocations = new ArrayList<>();
+        boolean preloadAll = engine != null && Boolean.TRUE.equals(engine.getPreloadAllPlugins());
+        if (engine != null) add(engine, preload, pools, invocations);
+
+        for (Map.Entry<String, PipelineSection> e : config.getPipelinesEffective().entrySet()) {
+            PipelineSection pipeline = e.getValue();
+            if (pipeline == null) continue;
+            WarmupConfig own = pipeline.getWarmup();
+            if (own != null && !own.isEnabledEffective()) continue;
+            if (own != null) add(own, preload, pools, invocations);
+            if (preloadAll || (own != null && Boolean.TRUE.equals(own.getPreloadAllPlugins()))) {
+                addPipelinePlugins(config, pipeline, preload);
+            }
+        }
+        if (preload.isEmpty() && pools.isEmpty() && invocations.isEmpty()) return EMPTY;
+        int maxDuration = engine != null ? engine.getMaxDurationSecondsEffective() : WarmupConfig.DEFAULT_MAX_DURATION_SECONDS;
+        boolean failOnError = engine != null && Boolean.TRUE.equals(engine.getFailOnError());
+        return new WarmupPlan(List.copyOf(preload), List.copyOf(pools.values()), List.copyOf(invocations), maxDuration, failOnError);
+    }
+
+    /**
+     * Every plugin the pipeline can run: PLUGIN nodes and condition, iterator, fork and join plugins of the node trees,
+     * activity names in {@code capabilities} groups (nested groups and branches included) and the capability plugins
+     * (pipeline-level, else engine-level).
+     */
+    private static void addPipelinePlugins(EngineFileConfig config, PipelineSection pipeline, Set<String> preload) {
+        PipelineWalker.walk("$", pipeline, (path, node, depth) -> {
+            if (node.isPlugin()) addName(node.getName(), preload);
+            addName(node.getCondition(), preload);
+            addName(node.getIterator(), preload);
+            addName(node.getForkPlugin(), preload);
+            addName(node.getJoinPlugin(), preload);
+        });
+        GroupWalker.walk("$", pipeline, new GroupWalker.GroupVisitor() {
+            @Override
+            public boolean visit(String path, GroupConfig group, int depth) {
+                addName(group.getCondition(), preload);
+                addName(group.getIterator(), preload);
+                addName(group.getForkPlugin(), preload);
+                addName(group.getJoinPlugin(), preload);
+                for (ElseIfBranchConfig branch : group.getElseifBranchesSafe()) {
+                    if (branch != null) addName(branch.getCondition(), preload);
+                }
+                return true;
+            }
+
+            @Override
+            public void activity(String path, String name, int depth) {
+                addName(name, preload);
+            }
+        });
+        Map<String, String> capabilityPlugins = pipeline.getCapabilityPlugins() != null && !pipeline.getCapabilityPlugins().isEmpty()
+                ? pipeline.getCapabilityPlugins() : config.getCapabilityPluginsEffective();
+        for (String plugin : capabilityPlugins.values()) addName(plugin, preload);
+    }
+
+    private static void addName(String plugin, Set<String> preload) {
+        if (plugin != null && !plugin.isBlank()) preload.add(plugin.trim());
+    }
+
+    private static void add(WarmupConfig warmup, Set<String> preload, Map<String, ConnectionPoolWarmup> pools, List<WarmupInvocation> invocations) {
+        for (String plugin : warmup.getPreloadPluginsSafe()) {
+            if (plugin != null && !plugin.isBlank()) preload.add(plugin.trim());
+        }
+        for (ConnectionPoolWarmup pool : warmup.getConnectionPoolsSafe()) {
+            if (pool == null || pool.getPoolEffective() == null) continue;
+            String key = pool.getPoolEffective() + ":" + (pool.getPlugin() != null ? pool.getPlugin() : "");
+            ConnectionPoolWarmup existing = pools.get(key);
+            if (existing == null || existing.getConnectionsEffective() < pool.getConnectionsEffective()) {
+                pools.put(key, pool);
+            }
+        }
+        for (WarmupInvocation invocation : warmup.getInvocationsSafe()) {
+            if (invocation != null && invocation.getPlugin() != null) invocations.add(invocation);
+        }
+    }
+
+    public List<String> getPreloadPlugins() {
+        return preloadPlugins;
+    }
+
+    public List<ConnectionPoolWarmup> getConnectionPools() {
+        return connectionPools;
+    }
+
+    public List<WarmupInvocation> getInvocations() {
+        return invocations;
+    }
+
+    public int getMaxDurationSeconds() {
+        return maxDurationSeconds;
+    }
+
+    public boolean isFailOnError() {
+        return failOnError;
+    }
+
+    public boolean isEmpty() {
+        return preloadPlugins.isEmpty() && connectionPools.isEmpty() && invocations.isEmpty();
+    }
+}